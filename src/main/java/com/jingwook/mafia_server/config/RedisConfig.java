@@ -1,7 +1,10 @@
 package com.jingwook.mafia_server.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -14,31 +17,42 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @Configuration
+@Profile("!standalone")
 public class RedisConfig {
 
+    /**
+     * 투표, 락 등 지연에 민감한 명령용 (command 커넥션)
+     */
     @Bean
+    @Primary
     public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
-            ReactiveRedisConnectionFactory connectionFactory,
+            @Qualifier("commandConnectionFactory") ReactiveRedisConnectionFactory connectionFactory,
             ObjectMapper objectMapper) {
+        return new ReactiveRedisTemplate<>(connectionFactory, jsonSerializationContext(objectMapper));
+    }
 
-        // ObjectMapper에 JavaTimeModule 추가
-        objectMapper.registerModule(new JavaTimeModule());
-
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
-
-        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
-                .<String, Object>newSerializationContext(new StringRedisSerializer())
-                .value(serializer)
-                .hashValue(serializer)
-                .hashKey(new StringRedisSerializer())
-                .build();
+    /**
+     * 게임 상태/액션 캐시 등 백그라운드 명령용 (bulk 커넥션)
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> bulkRedisTemplate(
+            @Qualifier("bulkConnectionFactory") ReactiveRedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper) {
+        return new ReactiveRedisTemplate<>(connectionFactory, jsonSerializationContext(objectMapper));
+    }
 
-        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    /**
+     * PUBLISH 파이프라인용 String 템플릿 (pubsub 커넥션)
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, String> pubSubRedisTemplate(
+            @Qualifier("pubSubConnectionFactory") ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext.string());
     }
 
     @Bean
     public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
-            ReactiveRedisConnectionFactory connectionFactory) {
+            @Qualifier("pubSubConnectionFactory") ReactiveRedisConnectionFactory connectionFactory) {
         return new ReactiveRedisMessageListenerContainer(connectionFactory);
     }
 
@@ -57,4 +71,24 @@ public class RedisConfig {
     public ChannelTopic gameEventTopic() {
         return new ChannelTopic("game:event");
     }
+
+    // 본인 전용 게임 이벤트 (역할 공개 시점에는 게임 소켓이 없을 수 있어 샤드 채널 대신 전역 토픽)
+    @Bean
+    public ChannelTopic userEventTopic() {
+        return new ChannelTopic("user:event");
+    }
+
+    private RedisSerializationContext<String, Object> jsonSerializationContext(ObjectMapper objectMapper) {
+        // ObjectMapper에 JavaTimeModule 추가
+        objectMapper.registerModule(new JavaTimeModule());
+
+        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+
+        return RedisSerializationContext
+                .<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(serializer)
+                .hashValue(serializer)
+                .hashKey(new StringRedisSerializer())
+                .build();
+    }
 }
@@ -0,0 +1,159 @@
+package com.jingwook.mafia_server.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.NettyCustomizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.Channel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * 용도별 Redis 커넥션 분리
+ * - command (@Primary): 투표, 락 등 지연에 민감한 명령, 공유 커넥션 + flush 병합
+ * - bulk: 게임 상태/액션 캐시, 게임 키 정리 스크립트 등 백그라운드 명령
+ * - pubsub: PUBLISH 파이프라인과 리스너 컨테이너
+ * 각 풀은 자체 ClientResources(이벤트 루프)를 가지므로 한 쪽의 지연이 다른 쪽 전달을 막지 않음
+ * 명령 지연은 lettuce.command.* 메트릭에 pool 태그로 구분됨
+ */
+@Configuration
+@Profile("!standalone")
+public class RedisConnectionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public ClientResources commandClientResources(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.redis.pools.command.io-threads:2}") int ioThreads,
+            @Value("${mafia.redis.pools.command.flush-consolidation:256}") int explicitFlushAfterFlushes) {
+        return buildClientResources(meterRegistry, "command", ioThreads, new NettyCustomizer() {
+            /**
+             * 여러 스레드가 공유 커넥션에 보낸 명령의 flush를 이벤트 루프 한 바퀴 단위로 병합 (자동 파이프라이닝)
+             * Lettuce의 setAutoFlushCommands(false)는 커넥션 전체에 적용되어 공유 커넥션에서는 쓸 수 없음
+             */
+            @Override
+            public void afterChannelInitialized(Channel channel) {
+                channel.pipeline().addLast(new FlushConsolidationHandler(explicitFlushAfterFlushes, true));
+            }
+        });
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources bulkClientResources(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.redis.pools.bulk.io-threads:1}") int ioThreads) {
+        return buildClientResources(meterRegistry, "bulk", ioThreads, null);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources pubSubClientResources(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.redis.pools.pubsub.io-threads:1}") int ioThreads) {
+        return buildClientResources(meterRegistry, "pubsub", ioThreads, null);
+    }
+
+    @Bean
+    @Primary
+    public LettuceConnectionFactory commandConnectionFactory(
+            RedisProperties redisProperties,
+            @Qualifier("commandClientResources") ClientResources clientResources) {
+        return buildConnectionFactory(redisProperties, clientResources);
+    }
+
+    @Bean
+    public LettuceConnectionFactory bulkConnectionFactory(
+            RedisProperties redisProperties,
+            @Qualifier("bulkClientResources") ClientResources clientResources) {
+        return buildConnectionFactory(redisProperties, clientResources);
+    }
+
+    @Bean
+    public LettuceConnectionFactory pubSubConnectionFactory(
+            RedisProperties redisProperties,
+            @Qualifier("pubSubClientResources") ClientResources clientResources) {
+        return buildConnectionFactory(redisProperties, clientResources);
+    }
+
+    private ClientResources buildClientResources(MeterRegistry meterRegistry, String pool, int ioThreads,
+            NettyCustomizer nettyCustomizer) {
+        MicrometerOptions metricOptions = MicrometerOptions.builder()
+                .histogram(true)
+                .tags(Tags.of("pool", pool))
+                .build();
+
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .ioThreadPoolSize(ioThreads)
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, metricOptions));
+        if (nettyCustomizer != null) {
+            builder.nettyCustomizer(nettyCustomizer);
+        }
+        return builder.build();
+    }
+
+    /**
+     * spring.data.redis.* 설정(호스트/클러스터 노드, 인증, SSL, 타임아웃)은 모든 풀이 공유
+     */
+    private LettuceConnectionFactory buildConnectionFactory(RedisProperties redisProperties,
+            ClientResources clientResources) {
+        RedisConfiguration server = isCluster(redisProperties)
+                ? clusterConfiguration(redisProperties)
+                : standaloneConfiguration(redisProperties);
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(clientResources);
+        if (redisProperties.getTimeout() != null) {
+            clientConfig.commandTimeout(redisProperties.getTimeout());
+        }
+        if (redisProperties.getSsl().isEnabled()) {
+            clientConfig.useSsl();
+        }
+
+        // 하나의 네이티브 커넥션을 모든 호출이 공유 (Lettuce가 명령을 멀티플렉싱)
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(server, clientConfig.build());
+        connectionFactory.setShareNativeConnection(true);
+        return connectionFactory;
+    }
+
+    private boolean isCluster(RedisProperties redisProperties) {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        return cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty();
+    }
+
+    private RedisConfiguration standaloneConfiguration(RedisProperties redisProperties) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(
+                redisProperties.getHost(), redisProperties.getPort());
+        server.setDatabase(redisProperties.getDatabase());
+        server.setUsername(redisProperties.getUsername());
+        server.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        return server;
+    }
+
+    /**
+     * spring.data.redis.cluster.nodes가 있으면 클러스터로 연결 (게임 키는 해시 태그로 한 슬롯에 모임)
+     */
+    private RedisConfiguration clusterConfiguration(RedisProperties redisProperties) {
+        RedisClusterConfiguration cluster = new RedisClusterConfiguration(redisProperties.getCluster().getNodes());
+        if (redisProperties.getCluster().getMaxRedirects() != null) {
+            cluster.setMaxRedirects(redisProperties.getCluster().getMaxRedirects());
+        }
+        cluster.setUsername(redisProperties.getUsername());
+        cluster.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        return cluster;
+    }
+}
@@ -0,0 +1,235 @@
+package com.jingwook.mafia_server.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.NettyPipeline;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket permessage-deflate (RFC 7692)
+ * 클라이언트가 Sec-WebSocket-Extensions: permessage-deflate를 요청하면 업그레이드 시 압축 확장을 협상
+ * - threshold-bytes 미만 프레임(투표 ACK, 제어 프레임 등)은 압축하지 않고 그대로 전송
+ * - 그 이상(방 목록, 게임 스냅샷, 채팅 묶음 등)만 압축
+ *
+ * 컨텍스트 유지(context takeover)는 연결마다 Deflater 창을 계속 들고 있음 (레벨 6, 창 15비트 기준 연결당 약 256KB 네이티브 메모리)
+ * - 기본(server-context-takeover=false): 클라이언트가 요청하지 않아도 server_no_context_takeover로 응답 (RFC 7692 7.1.1.1)
+ *   프레임마다 압축기를 만들고 해제하므로 연결 수만큼 네이티브 메모리가 쌓이지 않음 (대신 프레임 간 중복은 압축하지 못함)
+ * - server-context-takeover=true: 컨텍스트 유지, 클라이언트가 server_no_context_takeover를 요청한 연결만 유지하지 않음
+ *
+ * Reactor Netty의 compress(true)는 모든 프레임을 압축하므로, 같은 Netty 확장 핸들러를
+ * 크기 필터와 함께 HTTP 코덱 뒤에 직접 설치 (WebSocketConfig의 모든 경로에 적용)
+ *
+ * 메트릭:
+ * - mafia.ws.compression.ratio: 압축 후 / 압축 전 크기 (프레임별)
+ * - mafia.ws.compression.bytes{stage=raw|compressed}
+ * - mafia.ws.compression.time: 프레임 압축 CPU 시간
+ * - mafia.ws.compression.skipped: 임계치 미만이라 압축하지 않은 프레임 수
+ * - mafia.ws.compression.sessions{context=takeover|none}: 압축을 협상한 연결 수 (takeover 연결 수 x 약 256KB가 상주 메모리)
+ */
+@Component
+public class WebSocketCompressionCustomizer implements NettyServerCustomizer {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketCompressionCustomizer.class);
+
+    private static final String EXTENSION_HANDLER = "mafia.wsDeflate";
+    private static final String METRICS_BEFORE = "mafia.wsDeflateMetricsIn";
+    private static final String METRICS_AFTER = "mafia.wsDeflateMetricsOut";
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+    private final int compressionLevel;
+    private final boolean contextTakeover;
+
+    private final DistributionSummary ratio;
+    private final Counter rawBytes;
+    private final Counter compressedBytes;
+    private final Timer compressionTime;
+    private final Counter skipped;
+    private final Counter takeoverSessions;
+    private final Counter noContextSessions;
+
+    public WebSocketCompressionCustomizer(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.compression.enabled:true}") boolean enabled,
+            @Value("${mafia.ws.compression.threshold-bytes:1024}") int thresholdBytes,
+            @Value("${mafia.ws.compression.level:6}") int compressionLevel,
+            @Value("${mafia.ws.compression.server-context-takeover:false}") boolean contextTakeover) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.compressionLevel = compressionLevel;
+        this.contextTakeover = contextTakeover;
+
+        this.ratio = DistributionSummary.builder("mafia.ws.compression.ratio")
+                .description("압축 후 크기 / 압축 전 크기")
+                .register(meterRegistry);
+        this.rawBytes = Counter.builder("mafia.ws.compression.bytes")
+                .description("압축 대상 프레임 크기")
+                .baseUnit("bytes")
+                .tag("stage", "raw")
+                .register(meterRegistry);
+        this.compressedBytes = Counter.builder("mafia.ws.compression.bytes")
+                .description("압축 대상 프레임 크기")
+                .baseUnit("bytes")
+                .tag("stage", "compressed")
+                .register(meterRegistry);
+        this.compressionTime = Timer.builder("mafia.ws.compression.time")
+                .description("프레임 압축 시간")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("mafia.ws.compression.skipped")
+                .description("임계치 미만이라 압축하지 않은 프레임 수")
+                .register(meterRegistry);
+        this.takeoverSessions = sessionCounter(meterRegistry, "takeover");
+        this.noContextSessions = sessionCounter(meterRegistry, "none");
+    }
+
+    @Override
+    public HttpServer apply(HttpServer httpServer) {
+        if (!enabled) {
+            return httpServer;
+        }
+        log.info("WebSocket permessage-deflate enabled (threshold: {} bytes, level: {}, server context takeover: {})",
+                thresholdBytes, compressionLevel, contextTakeover);
+        return httpServer.doOnChannelInit((observer, channel, remoteAddress) -> install(channel.pipeline()));
+    }
+
+    /**
+     * HTTP/1.1 코덱 바로 뒤에 [메트릭(압축 후) - 확장 핸들러 - 메트릭(압축 전)] 순서로 설치
+     * 업그레이드가 성공하면 확장 핸들러가 자기 자리에 압축 인코더/디코더를 넣고 빠짐
+     */
+    private void install(ChannelPipeline pipeline) {
+        if (pipeline.get(NettyPipeline.HttpCodec) == null) {
+            return;
+        }
+        CompressionProbe probe = new CompressionProbe();
+        pipeline.addAfter(NettyPipeline.HttpCodec, METRICS_AFTER, probe.after());
+        pipeline.addAfter(METRICS_AFTER, EXTENSION_HANDLER, new WebSocketServerExtensionHandler(handshaker()));
+        pipeline.addAfter(EXTENSION_HANDLER, METRICS_BEFORE, probe.before());
+    }
+
+    /**
+     * server_no_context_takeover는 항상 수락하고, 컨텍스트 유지를 끈 경우 요청이 없어도 붙여서 협상
+     */
+    private WebSocketServerExtensionHandshaker handshaker() {
+        PerMessageDeflateServerExtensionHandshaker deflate = new PerMessageDeflateServerExtensionHandshaker(
+                compressionLevel, false, 15, true, false, thresholdFilter());
+        if (contextTakeover) {
+            return deflate;
+        }
+        return extensionData -> {
+            if (!PERMESSAGE_DEFLATE.equals(extensionData.name())) {
+                return null;
+            }
+            Map<String, String> parameters = new HashMap<>(extensionData.parameters());
+            parameters.put(SERVER_NO_CONTEXT, null);
+            return deflate.handshakeExtension(new WebSocketExtensionData(extensionData.name(), parameters));
+        };
+    }
+
+    private WebSocketExtensionFilterProvider thresholdFilter() {
+        WebSocketExtensionFilter encoderFilter = frame -> frame.content().readableBytes() < thresholdBytes;
+        return new WebSocketExtensionFilterProvider() {
+            @Override
+            public WebSocketExtensionFilter encoderFilter() {
+                return encoderFilter;
+            }
+
+            @Override
+            public WebSocketExtensionFilter decoderFilter() {
+                return WebSocketExtensionFilter.NEVER_SKIP;
+            }
+        };
+    }
+
+    private static Counter sessionCounter(MeterRegistry meterRegistry, String context) {
+        return Counter.builder("mafia.ws.compression.sessions")
+                .description("permessage-deflate를 협상한 연결 수")
+                .tag("context", context)
+                .register(meterRegistry);
+    }
+
+    private static boolean isDataFrame(Object msg) {
+        return msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame;
+    }
+
+    /**
+     * 압축 인코더 앞뒤에서 같은 프레임의 크기와 시간을 측정 (채널당 하나, 이벤트 루프 스레드에서만 접근)
+     */
+    private class CompressionProbe {
+        private boolean negotiated;
+        private int pendingRawBytes;
+        private long pendingStart;
+
+        ChannelDuplexHandler before() {
+            return new ChannelDuplexHandler() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                    if (isDataFrame(msg)) {
+                        pendingRawBytes = ((WebSocketFrame) msg).content().readableBytes();
+                        pendingStart = System.nanoTime();
+                    }
+                    ctx.write(msg, promise);
+                }
+            };
+        }
+
+        ChannelDuplexHandler after() {
+            return new ChannelDuplexHandler() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                    if (msg instanceof HttpResponse response) {
+                        // 101 응답에 확장 헤더가 붙었으면 이 연결은 압축을 협상함
+                        String extensions = response.headers().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS);
+                        negotiated = extensions != null && extensions.contains(PERMESSAGE_DEFLATE);
+                        if (negotiated) {
+                            (extensions.contains(SERVER_NO_CONTEXT) ? noContextSessions : takeoverSessions).increment();
+                        }
+                    } else if (negotiated && isDataFrame(msg) && pendingRawBytes > 0) {
+                        record((WebSocketFrame) msg);
+                        pendingRawBytes = 0;
+                    }
+                    ctx.write(msg, promise);
+                }
+            };
+        }
+
+        private void record(WebSocketFrame frame) {
+            if ((frame.rsv() & WebSocketExtension.RSV1) == 0) {
+                skipped.increment();
+                return;
+            }
+            int compressed = frame.content().readableBytes();
+            compressionTime.record(System.nanoTime() - pendingStart, TimeUnit.NANOSECONDS);
+            rawBytes.increment(pendingRawBytes);
+            compressedBytes.increment(compressed);
+            ratio.record((double) compressed / pendingRawBytes);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.jingwook.mafia_server.config;
 
 import com.jingwook.mafia_server.handlers.GameWebSocketHandler;
 import com.jingwook.mafia_server.handlers.RoomWebSocketHandler;
+import com.jingwook.mafia_server.handlers.SessionWebSocketHandler;
+import com.jingwook.mafia_server.handlers.SpectatorWebSocketHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.HandlerMapping;
@@ -18,14 +20,18 @@ public class WebSocketConfig {
     @Bean
     public HandlerMapping webSocketHandlerMapping(
             RoomWebSocketHandler roomWebSocketHandler,
-            GameWebSocketHandler gameWebSocketHandler) {
+            GameWebSocketHandler gameWebSocketHandler,
+            SessionWebSocketHandler sessionWebSocketHandler,
+            SpectatorWebSocketHandler spectatorWebSocketHandler) {
 
         Map<String, WebSocketHandler> map = new HashMap<>();
+        map.put("/ws/session", sessionWebSocketHandler);       // 단일 세션 (채널 구독 방식)
         map.put("/ws/rooms/*", roomWebSocketHandler);
         map.put("/ws/games/*/events", gameWebSocketHandler); // 게임 이벤트
         map.put("/ws/games/*/all", gameWebSocketHandler);     // 게임 채팅 (전체)
         map.put("/ws/games/*/mafia", gameWebSocketHandler);   // 게임 채팅 (마피아)
         map.put("/ws/games/*/dead", gameWebSocketHandler);    // 게임 채팅 (사망자)
+        map.put("/ws/games/*/spectate", spectatorWebSocketHandler); // 관전 (지연 + 역할 정보 제거)
 
         SimpleUrlHandlerMapping handlerMapping = new SimpleUrlHandlerMapping();
         handlerMapping.setOrder(1);
@@ -0,0 +1,42 @@
+package com.jingwook.mafia_server.controllers;
+
+import com.jingwook.mafia_server.handlers.GameEventStream;
+import com.jingwook.mafia_server.services.GameService;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/games/{gameId}/events")
+public class GameEventStreamController {
+    private final GameService gameService;
+    private final GameEventStream gameEventStream;
+
+    public GameEventStreamController(GameService gameService, GameEventStream gameEventStream) {
+        this.gameService = gameService;
+        this.gameEventStream = gameEventStream;
+    }
+
+    /**
+     * 게임 이벤트 스트림 (읽기 전용, 관전자/대시보드용)
+     * GET /games/{gameId}/events/stream
+     * Last-Event-ID: {seq} 로 재연결하면 놓친 이벤트부터 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamEvents(
+            @PathVariable String gameId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // 없는 게임이면 스트림을 열기 전에 404
+        return gameService.getGameState(gameId)
+                .thenMany(gameEventStream.stream(gameId, parseLastEventId(lastEventId)));
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        try {
+            return lastEventId != null ? Long.parseLong(lastEventId.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
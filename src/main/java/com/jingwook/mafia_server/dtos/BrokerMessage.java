@@ -0,0 +1,68 @@
+package com.jingwook.mafia_server.dtos;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+/**
+ * 노드 간 전파되는 메시지 포맷
+ */
+public class BrokerMessage {
+    private String key; // roomId, gameId, or gameId:chatType
+    private String type; // WebSocketMessageType을 String으로 저장
+    private Object data;
+    private String origin; // 발행한 노드 ID (자기 자신이 보낸 메시지는 무시)
+    private Long seq; // 게임 이벤트 시퀀스 (게임 이벤트만, 발행 노드가 매김)
+
+    public BrokerMessage() {
+    }
+
+    public BrokerMessage(String key, WebSocketMessageType type, Object data, String origin) {
+        this.key = key;
+        this.type = type.name();
+        this.data = data;
+        this.origin = origin;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public WebSocketMessageType getType() {
+        return type != null ? WebSocketMessageType.valueOf(type) : null;
+    }
+
+    public String getTypeString() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+}
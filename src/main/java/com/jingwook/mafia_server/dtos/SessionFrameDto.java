@@ -0,0 +1,25 @@
+package com.jingwook.mafia_server.dtos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * WebSocket으로 클라이언트가 보내는 프레임
+ * - 구독: {"action": "subscribe" | "unsubscribe", "channel": "game:{gameId}:events", "since": 12}
+ * - 명령: {"action": "REGISTER_ACTION" | "SEND_CHAT", "requestId": "...", "gameId": "...", "data": {...}}
+ * - 시그널: {"action": "SIGNAL", "channel": "game:{gameId}:all", "data": {"kind": "TYPING" | "REACTION", "value": "..."}}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SessionFrameDto {
+    private String action;
+    private String channel;
+    private Long since; // 게임 이벤트 채널 재구독 시 마지막으로 받은 seq
+
+    private String requestId; // 명령 응답(ACK/ERROR)에 그대로 돌려줌
+    private String gameId;    // 게임 경로 소켓에서는 경로의 gameId를 사용
+    private JsonNode data;
+}
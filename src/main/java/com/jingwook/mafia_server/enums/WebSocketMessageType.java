@@ -2,9 +2,26 @@ package com.jingwook.mafia_server.enums;
 
 public enum WebSocketMessageType {
     ROOM_UPDATE,
+    ROOM_DELTA, // 직전 버전 대비 방 상태 변경분
     CHAT,
+    SIGNAL, // 입력 중 표시, 리액션 (저장하지 않음, 재연결 버퍼에 기록하지 않음)
     GAME_STARTED,
     PHASE_CHANGED,
     PLAYER_DIED,
-    GAME_ENDED
+    GAME_ENDED,
+    VOTE_UPDATED, // 실시간 투표 집계 (게임별로 모아서 전송)
+    SNAPSHOT, // 재연결 시 놓친 구간이 버퍼 밖이면 보내는 전체 상태 (게임 상태 + 참가자)
+    TICK, // 페이즈 남은 시간 (seq 없음, 재연결 버퍼에 기록하지 않음, 혼잡하면 버림)
+
+    // 본인에게만 가는 게임 이벤트 (user:{userId} 채널)
+    ROLE_ASSIGNED,
+    POLICE_RESULT,
+
+    // 단일 세션(/ws/session) 제어 응답
+    SUBSCRIBED,
+    UNSUBSCRIBED,
+    ERROR,
+
+    // WebSocket 명령(REGISTER_ACTION, SEND_CHAT) 처리 완료 응답
+    ACK
 }
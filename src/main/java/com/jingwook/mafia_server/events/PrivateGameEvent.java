@@ -0,0 +1,22 @@
+package com.jingwook.mafia_server.events;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import lombok.Getter;
+
+/**
+ * 게임 참가자 한 명에게만 전달되는 이벤트 (역할 공개, 경찰 조사 결과 등)
+ */
+@Getter
+public class PrivateGameEvent {
+    private final String gameId;
+    private final String userId;
+    private final WebSocketMessageType type;
+    private final Object data;
+
+    public PrivateGameEvent(String gameId, String userId, WebSocketMessageType type, Object data) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.type = type;
+        this.data = data;
+    }
+}
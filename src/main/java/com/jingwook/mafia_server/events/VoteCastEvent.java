@@ -0,0 +1,20 @@
+package com.jingwook.mafia_server.events;
+
+import com.jingwook.mafia_server.enums.ActionType;
+import lombok.Getter;
+
+/**
+ * 투표(VOTE, FINAL_VOTE)가 저장됨
+ */
+@Getter
+public class VoteCastEvent {
+    private final String gameId;
+    private final int dayCount;
+    private final ActionType type;
+
+    public VoteCastEvent(String gameId, int dayCount, ActionType type) {
+        this.gameId = gameId;
+        this.dayCount = dayCount;
+        this.type = type;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jingwook.mafia_server.exceptions;
+
+/**
+ * 락 획득 실패 예외
+ */
+public class LockNotAcquiredException extends RuntimeException {
+    public LockNotAcquiredException(String message) {
+        super(message);
+    }
+}
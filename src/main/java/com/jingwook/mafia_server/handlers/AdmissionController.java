@@ -0,0 +1,316 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.MultiValueMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.concurrent.EventExecutor;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+/**
+ * 노드 단위 수용 제어 (과부하 시 새 부하만 거절)
+ * sample-interval-ms마다 이벤트 루프 지연, R2DBC 커넥션 대기 수, WebSocket 세션 수, 힙 사용률을 측정하고
+ * 하나라도 임계치를 넘으면 다음 측정까지 거절 상태(SHEDDING)
+ * 힙 사용률은 old 영역의 GC 직후 사용량 (GC 전 사용량은 수거될 객체까지 포함해서 임계치 근처에서 흔들림)
+ *
+ * 거절 대상 (503 + Retry-After):
+ * - POST /rooms (방 생성)
+ * - WebSocket 핸드셰이크: 방, 관전, 단일 세션(/ws/session)
+ * 항상 허용 (진행 중인 게임 우선):
+ * - 게임 소켓 (/ws/games/{gameId}/events, all, mafia, dead)
+ * - ?gameId=&userId= 로 이 노드에서 진행 중인 게임에 다시 붙는 그 게임의 참가자 (참가자 조회 후 허용)
+ * - 그 외 HTTP 요청 (행동 등록, 채팅, 조회 등)
+ *
+ * 메트릭: mafia.admission.shedding (0/1), mafia.admission.loop.lag, mafia.admission.rejected{target=room|websocket}
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AdmissionController implements WebFilter {
+    private static final Logger log = LoggerFactory.getLogger(AdmissionController.class);
+
+    private final SessionRegistry sessionRegistry;
+    private final GameChannelAccess channelAccess;
+    private final ObjectProvider<ConnectionFactory> connectionFactory;
+    private final boolean enabled;
+    private final long maxLoopLagMs;
+    private final int maxPendingAcquires;
+    private final int maxSessions;
+    private final double maxHeapRatio;
+    private final long retryAfterSeconds;
+
+    private final Counter rejectedRooms;
+    private final Counter rejectedSockets;
+
+    private volatile Snapshot snapshot = Snapshot.IDLE;
+
+    // 이벤트 루프 지연 측정 (루프마다 빈 작업을 넣고 실행될 때까지 걸린 시간)
+    private final List<EventExecutor> loops;
+    private final AtomicInteger outstandingProbes = new AtomicInteger();
+    private final AtomicLong probeLagNanos = new AtomicLong();
+    private volatile long probeSubmittedAt;
+
+    public AdmissionController(
+            SessionRegistry sessionRegistry,
+            GameChannelAccess channelAccess,
+            ObjectProvider<ConnectionFactory> connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.admission.enabled:true}") boolean enabled,
+            @Value("${mafia.admission.max-loop-lag-ms:200}") long maxLoopLagMs,
+            @Value("${mafia.admission.max-pending-acquires:20}") int maxPendingAcquires,
+            @Value("${mafia.admission.max-sessions:20000}") int maxSessions,
+            @Value("${mafia.admission.max-heap-ratio:0.9}") double maxHeapRatio,
+            @Value("${mafia.admission.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.sessionRegistry = sessionRegistry;
+        this.channelAccess = channelAccess;
+        this.connectionFactory = connectionFactory;
+        this.enabled = enabled;
+        this.maxLoopLagMs = maxLoopLagMs;
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.maxSessions = maxSessions;
+        this.maxHeapRatio = maxHeapRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.loops = enabled ? GameEventLoops.serverLoops() : List.of();
+
+        Gauge.builder("mafia.admission.shedding", this, controller -> controller.isShedding() ? 1 : 0)
+                .description("새 방 생성/WebSocket 연결을 거절하는 중이면 1")
+                .register(meterRegistry);
+        Gauge.builder("mafia.admission.loop.lag", this, controller -> controller.getSnapshot().getLoopLagMs())
+                .description("서버 이벤트 루프에 넣은 작업이 실행될 때까지 걸린 시간 (최근 측정, 루프 중 최대)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.rejectedRooms = rejectedCounter(meterRegistry, "room");
+        this.rejectedSockets = rejectedCounter(meterRegistry, "websocket");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!isShedding()) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        Counter rejected = rejectedCounter(request);
+        if (rejected == null) {
+            return chain.filter(exchange);
+        }
+        if (rejected == rejectedSockets) {
+            return isReturningPlayer(request)
+                    .flatMap(returning -> returning ? chain.filter(exchange) : reject(exchange, rejected));
+        }
+        return reject(exchange, rejected);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, Counter rejected) {
+        ServerHttpRequest request = exchange.getRequest();
+        rejected.increment();
+        log.debug("Shedding {} {} - reasons: {}", request.getMethod(), request.getPath().value(),
+                snapshot.getReasons());
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * 거절 대상이면 해당 카운터, 아니면 null
+     */
+    private Counter rejectedCounter(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        if (HttpMethod.POST.equals(request.getMethod()) && ("/rooms".equals(path) || "/rooms/".equals(path))) {
+            return rejectedRooms;
+        }
+        if (!"websocket".equalsIgnoreCase(request.getHeaders().getUpgrade())) {
+            return null;
+        }
+        if (path.startsWith("/ws/games/") && !path.endsWith("/spectate")) {
+            return null;
+        }
+        return rejectedSockets;
+    }
+
+    /**
+     * 이 노드에서 진행 중인 게임(게임 이벤트 구독자가 있음)으로 돌아오는 그 게임의 참가자인지
+     * 게임 이름만 대는 새 클라이언트는 거절하도록 ?userId=가 참가자일 때만 허용 (조회 실패 시 거절)
+     */
+    private Mono<Boolean> isReturningPlayer(ServerHttpRequest request) {
+        MultiValueMap<String, String> params = request.getQueryParams();
+        String gameId = params.getFirst("gameId");
+        String userId = params.getFirst("userId");
+        if (!"/ws/session".equals(request.getPath().pathWithinApplication().value())
+                || gameId == null || gameId.isBlank() || userId == null || userId.isBlank()
+                || sessionRegistry.refCount(SubscriptionChannel.gameEvents(gameId).getName()) == 0) {
+            return Mono.just(false);
+        }
+        return channelAccess.isPlayer(gameId, userId)
+                .onErrorResume(e -> {
+                    log.warn("Failed to look up player {} of game {} while shedding", userId, gameId, e);
+                    return Mono.just(false);
+                });
+    }
+
+    public boolean isShedding() {
+        return snapshot.isShedding();
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedRateString = "${mafia.admission.sample-interval-ms:1000}")
+    public void sample() {
+        if (!enabled) {
+            return;
+        }
+        update(TimeUnit.NANOSECONDS.toMillis(probeLoops()), pendingAcquires(), sessionRegistry.sessionCount(),
+                liveHeapRatio());
+    }
+
+    /**
+     * 측정값으로 수용 상태 갱신 (상태가 바뀔 때만 로그)
+     */
+    void update(long loopLagMs, int pendingAcquires, int sessions, double heapRatio) {
+        List<String> reasons = new ArrayList<>();
+        if (loopLagMs > maxLoopLagMs) {
+            reasons.add("loop-lag");
+        }
+        if (pendingAcquires > maxPendingAcquires) {
+            reasons.add("db-pending");
+        }
+        if (sessions > maxSessions) {
+            reasons.add("sessions");
+        }
+        if (heapRatio > maxHeapRatio) {
+            reasons.add("heap");
+        }
+
+        Snapshot next = new Snapshot(loopLagMs, pendingAcquires, sessions, heapRatio, List.copyOf(reasons));
+        if (next.isShedding() != snapshot.isShedding()) {
+            if (next.isShedding()) {
+                log.warn("Admission SHEDDING - reasons: {}, loopLag: {}ms, pendingAcquires: {}, sessions: {}, heap: {}",
+                        reasons, loopLagMs, pendingAcquires, sessions, String.format("%.2f", heapRatio));
+            } else {
+                log.info("Admission ACCEPTING again");
+            }
+        }
+        snapshot = next;
+    }
+
+    /**
+     * 직전 측정 결과를 돌려주고 새 측정 시작
+     * 직전 측정 작업이 아직 실행되지 않았으면 (루프가 막힘) 그동안 기다린 시간을 지연으로 봄
+     */
+    private long probeLoops() {
+        long now = System.nanoTime();
+        if (outstandingProbes.get() > 0) {
+            return now - probeSubmittedAt;
+        }
+        long lag = probeLagNanos.getAndSet(0);
+        probeSubmittedAt = now;
+        outstandingProbes.set(loops.size());
+        for (EventExecutor loop : loops) {
+            loop.execute(() -> {
+                probeLagNanos.accumulateAndGet(System.nanoTime() - now, Math::max);
+                outstandingProbes.decrementAndGet();
+            });
+        }
+        return lag;
+    }
+
+    /**
+     * 오래 사는 객체가 쌓이는 힙 풀(old/tenured, 세대 구분 없는 GC면 힙 전체)의 GC 직후 사용률
+     * 아직 GC가 한 번도 돌지 않았거나 해당 풀이 없으면 현재 힙 사용률
+     */
+    static double liveHeapRatio() {
+        double ratio = -1;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() != MemoryType.HEAP || afterGc == null || afterGc.getMax() <= 0
+                    || !isLongLivedPool(pool.getName())) {
+                continue;
+            }
+            ratio = Math.max(ratio, (double) afterGc.getUsed() / afterGc.getMax());
+        }
+        if (ratio > 0) {
+            return ratio;
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return heap.getMax() > 0 ? (double) heap.getUsed() / heap.getMax() : 0;
+    }
+
+    private static boolean isLongLivedPool(String name) {
+        return name.endsWith("Old Gen") || name.endsWith("Tenured Gen") || name.endsWith("Old Generation")
+                || "Shenandoah".equals(name) || "ZHeap".equals(name);
+    }
+
+    /**
+     * R2DBC 풀에서 커넥션을 기다리는 요청 수 (풀이 아니면 0)
+     */
+    private int pendingAcquires() {
+        ConnectionFactory factory = connectionFactory.getIfAvailable();
+        if (factory instanceof ConnectionPool pool) {
+            return pool.getMetrics().map(PoolMetrics::pendingAcquireSize).orElse(0);
+        }
+        return 0;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("mafia.admission.rejected")
+                .description("과부하로 거절한 요청 수 (503)")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 측정값과 수용 상태
+     */
+    @Getter
+    public static class Snapshot {
+        static final Snapshot IDLE = new Snapshot(0, 0, 0, 0, List.of());
+
+        private final long loopLagMs;
+        private final int pendingAcquires;
+        private final int sessions;
+        private final double heapRatio;
+        private final List<String> reasons; // 임계치를 넘은 항목, 비어 있으면 수용
+
+        Snapshot(long loopLagMs, int pendingAcquires, int sessions, double heapRatio, List<String> reasons) {
+            this.loopLagMs = loopLagMs;
+            this.pendingAcquires = pendingAcquires;
+            this.sessions = sessions;
+            this.heapRatio = heapRatio;
+            this.reasons = reasons;
+        }
+
+        public boolean isShedding() {
+            return !reasons.isEmpty();
+        }
+    }
+}
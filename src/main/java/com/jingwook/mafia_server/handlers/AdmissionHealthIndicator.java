@@ -0,0 +1,34 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health의 admission 항목 (수용 상태와 최근 측정값, 상세는 /actuator/health/admission 그룹)
+ * 거절 중에도 UP으로 보고함: 로드밸런서가 노드를 빼면 진행 중인 게임까지 끊기므로 새 부하만 Retry-After로 돌려보냄
+ */
+@Component
+public class AdmissionHealthIndicator implements HealthIndicator {
+    private final AdmissionController admissionController;
+
+    public AdmissionHealthIndicator(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public Health health() {
+        AdmissionController.Snapshot snapshot = admissionController.getSnapshot();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", snapshot.isShedding() ? "SHEDDING" : "ACCEPTING");
+        details.put("reasons", snapshot.getReasons());
+        details.put("loopLagMs", snapshot.getLoopLagMs());
+        details.put("pendingAcquires", snapshot.getPendingAcquires());
+        details.put("sessions", snapshot.getSessions());
+        details.put("heapRatio", Math.round(snapshot.getHeapRatio() * 100) / 100.0);
+        return Health.up().withDetails(details).build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 세션 하나에만 가는 제어 프레임(SUBSCRIBED, ACK, ERROR 등) 작성
+ * 공용 Sink를 거치지 않고 해당 세션 버퍼에 바로 적재
+ */
+@Component
+public class ControlFrameWriter {
+    private static final Logger log = LoggerFactory.getLogger(ControlFrameWriter.class);
+
+    private final FrameCodec frameCodec;
+
+    public ControlFrameWriter(FrameCodec frameCodec) {
+        this.frameCodec = frameCodec;
+    }
+
+    /**
+     * @param fields type 뒤에 붙일 필드 (null 값은 생략)
+     */
+    public void write(SessionOutbox outbox, WebSocketMessageType type, Map<String, Object> fields) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("type", type.name());
+        fields.forEach((key, value) -> {
+            if (value != null) {
+                body.put(key, value);
+            }
+        });
+
+        try {
+            OutboundMessage message = frameCodec.encode(type, body);
+            try {
+                outbox.offer(message);
+            } finally {
+                message.release();
+            }
+        } catch (Exception e) {
+            log.error("Failed to write {} control frame", type, e);
+        }
+    }
+}
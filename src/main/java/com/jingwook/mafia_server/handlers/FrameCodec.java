@@ -0,0 +1,142 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 프레임 인코딩/디코딩 (JSON 기본, 서브프로토콜 mafia.cbor로 협상한 세션은 CBOR)
+ * - 송신: 메시지 본문(Map 등)을 한 번만 직렬화, CBOR 세션이 연결되어 있을 때만 CBOR도 함께 직렬화
+ * - 수신: 세션 포맷에 맞게 SessionFrameDto로 역직렬화
+ * - 메트릭: mafia.ws.frame.bytes / mafia.ws.frame.encode (format 태그)
+ */
+@Component
+public class FrameCodec {
+    private static final Logger log = LoggerFactory.getLogger(FrameCodec.class);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final AtomicInteger cborSessions = new AtomicInteger();
+
+    private final DistributionSummary jsonBytes;
+    private final DistributionSummary cborBytes;
+    private final Timer jsonEncode;
+    private final Timer cborEncode;
+
+    public FrameCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        // Spring Boot ObjectMapper와 같은 직렬화 규칙 (JavaTimeModule, ISO 날짜, 모르는 필드 무시)
+        this.cborMapper = CBORMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        this.jsonBytes = frameBytes(meterRegistry, WireFormat.JSON);
+        this.cborBytes = frameBytes(meterRegistry, WireFormat.CBOR);
+        this.jsonEncode = encodeTimer(meterRegistry, WireFormat.JSON);
+        this.cborEncode = encodeTimer(meterRegistry, WireFormat.CBOR);
+        Gauge.builder("mafia.ws.sessions.cbor", cborSessions, AtomicInteger::get)
+                .description("CBOR로 협상한 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션의 협상 포맷 (연결이 끝나면 close 호출)
+     */
+    public WireFormat open(WebSocketSession session) {
+        WireFormat format = WireFormat.fromSubProtocol(session.getHandshakeInfo().getSubProtocol());
+        if (format == WireFormat.CBOR) {
+            cborSessions.incrementAndGet();
+        }
+        return format;
+    }
+
+    public void close(WireFormat format) {
+        if (format == WireFormat.CBOR) {
+            cborSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * 메시지 본문을 프레임으로 인코딩 (참조 1, 호출한 쪽이 release)
+     */
+    public OutboundMessage encode(WebSocketMessageType type, Object body) throws Exception {
+        long start = System.nanoTime();
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        jsonEncode.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        jsonBytes.record(json.length);
+
+        byte[] cbor = null;
+        if (cborSessions.get() > 0) {
+            start = System.nanoTime();
+            cbor = cborMapper.writeValueAsBytes(body);
+            cborEncode.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            cborBytes.record(cbor.length);
+        }
+        return OutboundMessage.encode(type, json, cbor, seqOf(body));
+    }
+
+    /**
+     * 게임 이벤트 본문의 seq (SSE 이벤트 id로 사용), 없으면 0
+     */
+    private static long seqOf(Object body) {
+        return body instanceof Map<?, ?> map && map.get("seq") instanceof Number seq ? seq.longValue() : 0L;
+    }
+
+    /**
+     * 수신 프레임 역직렬화 후 버퍼 해제
+     * @return 형식이 잘못되었으면 null
+     */
+    public SessionFrameDto readFrame(WebSocketMessage message, WireFormat format) {
+        try {
+            if (message.getType() == WebSocketMessage.Type.BINARY) {
+                DataBuffer payload = message.getPayload();
+                byte[] bytes = new byte[payload.readableByteCount()];
+                payload.read(bytes);
+                return cborMapper.readValue(bytes, SessionFrameDto.class);
+            }
+            String text = message.getPayloadAsText(StandardCharsets.UTF_8);
+            return objectMapper.readValue(text, SessionFrameDto.class);
+        } catch (Exception e) {
+            log.debug("Malformed {} frame: {}", format, e.getMessage());
+            return null;
+        } finally {
+            // DataBuffer 명시적 해제
+            message.release();
+        }
+    }
+
+    private DistributionSummary frameBytes(MeterRegistry meterRegistry, WireFormat format) {
+        return DistributionSummary.builder("mafia.ws.frame.bytes")
+                .description("인코딩된 프레임 크기")
+                .baseUnit("bytes")
+                .tag("format", format.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private Timer encodeTimer(MeterRegistry meterRegistry, WireFormat format) {
+        return Timer.builder("mafia.ws.frame.encode")
+                .description("프레임 직렬화 시간")
+                .tag("format", format.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.PlayerRole;
+import com.jingwook.mafia_server.repositories.GamePlayerR2dbcRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 채널별 읽기/시그널 권한 (ChatService의 전송 권한과 같은 기준)
+ * 단일 세션(/ws/session)의 구독과 경로별 게임 채팅 소켓(/ws/games/{gameId}/{all|mafia|dead})이 같은 기준을 사용
+ * - 마피아 채팅: MAFIA 역할
+ * - 사망자 채팅: 죽은 플레이어
+ * - 그 외(방, 관전, 게임 이벤트, 전체 채팅): 제한 없음 (관전은 참가자 조회/바인딩도 하지 않음)
+ */
+@Component
+public class GameChannelAccess {
+    private final GamePlayerR2dbcRepository gamePlayerRepository;
+
+    public GameChannelAccess(GamePlayerR2dbcRepository gamePlayerRepository) {
+        this.gamePlayerRepository = gamePlayerRepository;
+    }
+
+    public static boolean isRestricted(ChatType chatType) {
+        return chatType == ChatType.GAME_MAFIA || chatType == ChatType.GAME_DEAD;
+    }
+
+    /**
+     * 게임 참가자인지 (과부하 중 재연결 허용 판단용, 세션 바인딩 없음)
+     */
+    public Mono<Boolean> isPlayer(String gameId, String userId) {
+        return gamePlayerRepository.findByGameIdAndUserId(gameId, userId).hasElement();
+    }
+
+    /**
+     * 게임 채널을 처음 확인할 때 참가자 정보를 조회해서 세션에 게임/역할을 기록 (대상 지정 전송용)
+     */
+    public Mono<Boolean> isAllowed(SessionRegistry.SessionInfo info, SubscriptionChannel channel) {
+        ChatType chatType = channel.getChatType();
+        boolean restricted = isRestricted(chatType);
+        if (channel.isRoom() || channel.isSpectate() || (!restricted && info.isBoundTo(channel.getGameId()))) {
+            return Mono.just(true);
+        }
+        if (info.getUserId() == null) {
+            return Mono.just(!restricted);
+        }
+
+        return gamePlayerRepository.findByGameIdAndUserId(channel.getGameId(), info.getUserId())
+                .doOnNext(player -> info.bind(channel.getGameId(), player.getRoleAsEnum()))
+                .map(player -> {
+                    if (chatType == ChatType.GAME_MAFIA) {
+                        return PlayerRole.MAFIA.equals(player.getRoleAsEnum());
+                    }
+                    return chatType != ChatType.GAME_DEAD || !player.getIsAlive();
+                })
+                .defaultIfEmpty(!restricted);
+    }
+}
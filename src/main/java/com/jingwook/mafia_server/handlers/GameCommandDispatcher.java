@@ -0,0 +1,160 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.dtos.RegisterActionDto;
+import com.jingwook.mafia_server.dtos.SendChatDto;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.exceptions.GameAlreadyStartedException;
+import com.jingwook.mafia_server.services.ChatService;
+import com.jingwook.mafia_server.services.GameService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * WebSocket으로 들어온 게임 명령 처리
+ * HTTP(GameController.registerAction, GameChatController.sendChat)와 같은 서비스 메서드를 호출하고
+ * requestId를 붙여 ACK 또는 ERROR로 응답
+ * - 행위자(actorUserId, userId)는 클라이언트 값이 아니라 세션의 userId로 채움
+ * - 한 세션의 명령은 들어온 순서대로 처리 (투표 변경 순서 보장)
+ */
+@Component
+public class GameCommandDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(GameCommandDispatcher.class);
+
+    private static final String REGISTER_ACTION = "REGISTER_ACTION";
+    private static final String SEND_CHAT = "SEND_CHAT";
+
+    private final GameService gameService;
+    private final ChatService chatService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ControlFrameWriter controlFrameWriter;
+    private final MeterRegistry meterRegistry;
+
+    public GameCommandDispatcher(
+            GameService gameService,
+            ChatService chatService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ControlFrameWriter controlFrameWriter,
+            MeterRegistry meterRegistry) {
+        this.gameService = gameService;
+        this.chatService = chatService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.controlFrameWriter = controlFrameWriter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean supports(String action) {
+        return REGISTER_ACTION.equals(action) || SEND_CHAT.equals(action);
+    }
+
+    /**
+     * 명령 실행 후 세션 버퍼에 ACK/ERROR 적재 (에러는 응답으로만 전달하고 세션은 유지)
+     */
+    public Mono<Void> dispatch(String userId, String gameId, SessionFrameDto frame, SessionOutbox outbox) {
+        String action = frame.getAction();
+        String requestId = frame.getRequestId();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return Mono.defer(() -> execute(userId, gameId, frame))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(result -> {
+                    sample.stop(commandTimer(action, "ack"));
+                    ack(outbox, requestId, result.orElse(null));
+                })
+                .onErrorResume(e -> {
+                    sample.stop(commandTimer(action, "error"));
+                    log.warn("WebSocket command {} failed - UserId: {}, GameId: {}, RequestId: {}: {}",
+                            action, userId, gameId, requestId, e.getMessage());
+                    error(outbox, requestId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Object> execute(String userId, String gameId, SessionFrameDto frame) {
+        if (gameId == null || gameId.isBlank()) {
+            return Mono.error(new IllegalArgumentException("gameId is required"));
+        }
+        if (frame.getData() == null) {
+            return Mono.error(new IllegalArgumentException("data is required"));
+        }
+
+        if (REGISTER_ACTION.equals(frame.getAction())) {
+            RegisterActionDto dto = objectMapper.convertValue(frame.getData(), RegisterActionDto.class);
+            dto.setActorUserId(userId);
+            validate(dto);
+            return gameService.registerAction(gameId, dto).then(Mono.empty());
+        }
+
+        SendChatDto dto = objectMapper.convertValue(frame.getData(), SendChatDto.class);
+        dto.setUserId(userId);
+        validate(dto);
+        return chatService.sendGameChat(gameId, dto, dto.getChatType()).cast(Object.class);
+    }
+
+    private <T> void validate(T dto) {
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+    }
+
+    private void ack(SessionOutbox outbox, String requestId, Object data) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("requestId", requestId);
+        fields.put("data", data);
+        controlFrameWriter.write(outbox, WebSocketMessageType.ACK, fields);
+    }
+
+    /**
+     * 에러 코드는 HTTP 응답과 같은 기준 (ResponseStatusException 상태, GlobalExceptionHandler 코드)
+     */
+    private void error(SessionOutbox outbox, String requestId, Throwable e) {
+        String code;
+        String reason;
+        if (e instanceof ResponseStatusException statusException) {
+            code = statusException.getStatusCode().toString();
+            reason = statusException.getReason();
+        } else if (e instanceof GameAlreadyStartedException) {
+            code = "GAME_ALREADY_STARTED";
+            reason = e.getMessage();
+        } else if (e instanceof IllegalArgumentException) {
+            code = "BAD_REQUEST";
+            reason = e.getMessage();
+        } else {
+            code = "INTERNAL_ERROR";
+            reason = "Command failed";
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("requestId", requestId);
+        fields.put("data", Map.of("code", code, "reason", reason != null ? reason : code));
+        controlFrameWriter.write(outbox, WebSocketMessageType.ERROR, fields);
+    }
+
+    private Timer commandTimer(String action, String outcome) {
+        return Timer.builder("mafia.ws.command.latency")
+                .description("WebSocket 명령 처리 시간 (수신 ~ ACK/ERROR 적재)")
+                .tag("command", action)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,214 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 게임 이벤트 시퀀스 + 재연결용 링 버퍼 (노드 메모리)
+ * - seq는 GameSequenceService(Redis INCR)가 게임별로 하나의 카운터에서 발급, 다른 노드는 브로커로 받은 seq를 그대로 기록
+ * - 노드 카운터(nextSequence)는 standalone 또는 Redis 서킷 open일 때만 사용, 다른 노드의 seq를 보면 그 이상으로 올림
+ * - 여러 노드가 발행하므로 브로커로 받은 이벤트가 seq 순서보다 늦게 올 수 있음: 버퍼에는 seq 순으로 끼워 넣고,
+ *   이미 기록된 seq는 다시 기록/전달하지 않음 (브로커로 받은 이벤트만, 이 노드가 발행한 이벤트는 항상 전달)
+ * - 재연결 시 ?since=<seq> 이후 이벤트를 버퍼에서 재전송, 버퍼 밖이면 스냅샷 필요
+ */
+@Component
+public class GameEventLog {
+    private static final Logger log = LoggerFactory.getLogger(GameEventLog.class);
+
+    private final int bufferSize;
+    private final long retentionMs;
+
+    private final Map<String, GameEvents> games = new ConcurrentHashMap<>();
+
+    public GameEventLog(
+            @Value("${mafia.ws.replay.buffer-size:64}") int bufferSize,
+            @Value("${mafia.ws.replay.retention-ms:600000}") long retentionMs) {
+        this.bufferSize = bufferSize;
+        this.retentionMs = retentionMs;
+    }
+
+    /**
+     * 노드 카운터로 발급하는 다음 seq (GameSequenceService가 발급하지 못할 때만)
+     */
+    public long nextSequence(String gameId) {
+        return eventsOf(gameId).next();
+    }
+
+    /**
+     * 이 노드에 기록된 마지막 seq (GameSequenceService가 이보다 큰 seq를 발급하도록)
+     */
+    public long lastSequence(String gameId) {
+        return eventsOf(gameId).last();
+    }
+
+    /**
+     * 브로커로 받은 이벤트를 버퍼에 기록하고 로컬 Sink로 전달 (재연결 replay와 겹치지 않도록 게임 단위로 직렬화)
+     * 이미 기록된 seq면 기록도 전달도 하지 않음
+     */
+    public void append(String gameId, long seq, WebSocketMessageType type, Object body, Runnable emit) {
+        eventsOf(gameId).append(new Entry(seq, type, body), emit, false);
+    }
+
+    /**
+     * 이 노드가 발행한 이벤트를 기록하고 전달 (중복 검사 없이 항상 전달)
+     * 같은 seq가 이미 있으면 그 뒤에 기록, 버퍼 밖의 오래된 seq면 기록하지 않고 전달만 함
+     */
+    public void appendOwn(String gameId, long seq, WebSocketMessageType type, Object body, Runnable emit) {
+        eventsOf(gameId).append(new Entry(seq, type, body), emit, true);
+    }
+
+    /**
+     * since 이후 이벤트 조회 + 실시간 구독을 원자적으로 수행
+     * handler는 append와 같은 락 안에서 실행되므로, 재전송 이벤트를 적재하고 실시간 구독을 시작하는 사이에
+     * 새 이벤트가 끼어들어 누락/중복/역순이 되지 않음
+     */
+    public void replay(String gameId, long since, Consumer<Replay> handler) {
+        eventsOf(gameId).replay(since, handler);
+    }
+
+    /**
+     * 오래된 게임 버퍼 정리
+     */
+    @Scheduled(fixedDelayString = "${mafia.ws.replay.sweep-interval-ms:60000}")
+    public void sweep() {
+        long threshold = System.currentTimeMillis() - retentionMs;
+        games.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().lastUpdated() < threshold;
+            if (expired) {
+                log.debug("Evicted event buffer for game: {}", entry.getKey());
+            }
+            return expired;
+        });
+    }
+
+    private GameEvents eventsOf(String gameId) {
+        return games.computeIfAbsent(gameId, k -> new GameEvents(bufferSize));
+    }
+
+    @Getter
+    public static class Entry {
+        private final long seq;
+        private final WebSocketMessageType type;
+        private final Object body; // 프레임 본문 (재전송 시 세션 포맷으로 인코딩)
+
+        public Entry(long seq, WebSocketMessageType type, Object body) {
+            this.seq = seq;
+            this.type = type;
+            this.body = body;
+        }
+    }
+
+    @Getter
+    public static class Replay {
+        private final List<Entry> events;      // since 이후 이벤트 (snapshotRequired면 비어 있음)
+        private final long currentSeq;         // 조회 시점의 마지막 seq
+        private final boolean snapshotRequired; // 요청한 구간이 버퍼 밖이라 전체 스냅샷이 필요함
+
+        public Replay(List<Entry> events, long currentSeq, boolean snapshotRequired) {
+            this.events = events;
+            this.currentSeq = currentSeq;
+            this.snapshotRequired = snapshotRequired;
+        }
+    }
+
+    private static class GameEvents {
+        private final int capacity;
+        private final Deque<Entry> buffer = new ArrayDeque<>();
+        private long lastSeq;
+        private volatile long lastUpdated = System.currentTimeMillis();
+
+        GameEvents(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized long next() {
+            return ++lastSeq;
+        }
+
+        synchronized long last() {
+            return lastSeq;
+        }
+
+        synchronized void append(Entry entry, Runnable emit, boolean own) {
+            lastUpdated = System.currentTimeMillis();
+            if (!insert(entry, own)) {
+                if (!own) {
+                    return;
+                }
+                log.warn("Own event seq {} is older than the replay buffer, delivering without recording", entry.getSeq());
+            }
+            if (entry.getSeq() > lastSeq) {
+                lastSeq = entry.getSeq();
+            }
+            emit.run();
+        }
+
+        /**
+         * seq 순서를 유지하며 삽입 (대부분 맨 뒤라 뒤에서부터 찾음)
+         * @param own 이 노드가 발행한 이벤트면 같은 seq가 있어도 그 뒤에 기록
+         * @return false면 이미 있는 seq(브로커 이벤트만)이거나 버퍼 밖의 오래된 seq
+         */
+        private boolean insert(Entry entry, boolean own) {
+            long seq = entry.getSeq();
+            Entry first = buffer.peekFirst();
+            if (first != null && buffer.size() >= capacity && seq < first.getSeq()) {
+                return false;
+            }
+            List<Entry> later = new ArrayList<>();
+            while (!buffer.isEmpty() && buffer.peekLast().getSeq() > seq) {
+                later.add(0, buffer.pollLast());
+            }
+            Entry previous = buffer.peekLast();
+            boolean duplicate = !own && previous != null && previous.getSeq() == seq;
+            if (!duplicate) {
+                buffer.addLast(entry);
+            }
+            buffer.addAll(later);
+            if (buffer.size() > capacity) {
+                buffer.pollFirst();
+            }
+            return !duplicate;
+        }
+
+        synchronized void replay(long since, Consumer<Replay> handler) {
+            handler.accept(collect(since));
+        }
+
+        private Replay collect(long since) {
+            if (since >= lastSeq) {
+                // 놓친 이벤트 없음 (since가 더 크면 다른 seq 기준이므로 스냅샷)
+                return new Replay(List.of(), lastSeq, since > lastSeq);
+            }
+
+            Entry first = buffer.peekFirst();
+            if (first == null || first.getSeq() > since + 1) {
+                return new Replay(List.of(), lastSeq, true);
+            }
+
+            List<Entry> missed = new ArrayList<>();
+            for (Entry entry : buffer) {
+                if (entry.getSeq() > since) {
+                    missed.add(entry);
+                }
+            }
+            return new Replay(missed, lastSeq, false);
+        }
+
+        long lastUpdated() {
+            return lastUpdated;
+        }
+    }
+}
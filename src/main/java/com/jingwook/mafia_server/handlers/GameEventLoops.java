@@ -0,0 +1,76 @@
+package com.jingwook.mafia_server.handlers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임별 이벤트 루프 고정 (affinity)
+ * 게임 ID 해시로 서버 Netty 이벤트 루프 하나를 골라 그 게임의 seq 할당, 재연결 버퍼 기록, Sink emit을 모두 그 루프에서 실행
+ * - 같은 게임의 emit이 한 스레드에서만 일어나므로 Sink/GameEventLog 락 경합이 없고 순서가 보장됨
+ * - 같은 루프에 붙은 세션은 스레드 이동 없이 바로 쓰기 (다른 루프의 세션은 Netty가 그 루프로 넘김)
+ *
+ * 이미 연결된 채널은 다른 루프로 옮길 수 없으므로 세션은 고정하지 않음
+ * 메트릭: mafia.ws.affinity.dispatch.delay (작업 제출부터 루프에서 실행될 때까지)
+ */
+@Component
+public class GameEventLoops {
+    private static final Logger log = LoggerFactory.getLogger(GameEventLoops.class);
+
+    private final List<EventExecutor> loops;
+    private final Timer dispatchDelay;
+
+    public GameEventLoops(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.affinity.enabled:true}") boolean enabled) {
+        this.loops = enabled ? serverLoops() : List.of();
+        this.dispatchDelay = Timer.builder("mafia.ws.affinity.dispatch.delay")
+                .description("게임 이벤트 작업 제출부터 게임 전용 이벤트 루프에서 실행될 때까지")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        log.info("Game event-loop affinity: {} (loops: {})", enabled ? "enabled" : "disabled", loops.size());
+    }
+
+    /**
+     * 게임 전용 루프에서 실행 (비활성화면 호출한 스레드에서 바로 실행)
+     * 같은 게임에 제출한 작업은 제출 순서대로 실행됨
+     */
+    public void execute(String gameId, Runnable task) {
+        if (loops.isEmpty()) {
+            task.run();
+            return;
+        }
+        long submittedAt = System.nanoTime();
+        loopOf(gameId).execute(() -> {
+            dispatchDelay.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Game event task failed for game: {}", gameId, e);
+            }
+        });
+    }
+
+    EventExecutor loopOf(String gameId) {
+        return loops.get(Math.floorMod(gameId.hashCode(), loops.size()));
+    }
+
+    /**
+     * WebFlux 서버가 쓰는 Reactor Netty 전역 리소스의 서버 이벤트 루프
+     */
+    static List<EventExecutor> serverLoops() {
+        List<EventExecutor> executors = new ArrayList<>();
+        HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE).forEach(executors::add);
+        return List.copyOf(executors);
+    }
+}
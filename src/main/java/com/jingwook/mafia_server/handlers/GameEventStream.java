@@ -0,0 +1,104 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 읽기 전용 게임 이벤트 스트림 (SSE)
+ * WebSocket 게임 이벤트 연결과 같은 공용 Sink, 세션 버퍼, 재연결 버퍼를 사용
+ * - 이벤트 id = 게임 이벤트 seq, event = 메시지 타입, data = WebSocket JSON 프레임과 동일
+ * - Last-Event-ID로 재연결하면 놓친 이벤트만 재전송 (버퍼 밖이면 SNAPSHOT)
+ * - heartbeat-interval-ms마다 주석 라인(": ping")으로 프록시 idle timeout 방지
+ *
+ * 메트릭: mafia.sse.connections
+ */
+@Component
+public class GameEventStream {
+    private static final Logger log = LoggerFactory.getLogger(GameEventStream.class);
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+    private final SessionOutboxFactory outboxFactory;
+    private final Duration heartbeatInterval;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public GameEventStream(
+            GameWebSocketHandler gameWebSocketHandler,
+            SessionOutboxFactory outboxFactory,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.gameWebSocketHandler = gameWebSocketHandler;
+        this.outboxFactory = outboxFactory;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+
+        Gauge.builder("mafia.sse.connections", connections, AtomicInteger::get)
+                .description("연결 중인 게임 이벤트 SSE 스트림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId 마지막으로 받은 seq (처음 연결이면 null)
+     */
+    public Flux<ServerSentEvent<String>> stream(String gameId, Long lastEventId) {
+        return Flux.defer(() -> {
+            Sinks.Many<OutboundMessage> sink = gameWebSocketHandler.acquireEventSink(gameId);
+            connections.incrementAndGet();
+            log.info("📡 SSE CONNECTED - GameId: {}, Last-Event-ID: {}", gameId, lastEventId);
+
+            // 느린 구독자로 쫓겨나면 버퍼가 이벤트 스트림을 완료시키므로 heartbeat도 함께 끝냄
+            Sinks.Empty<Void> evicted = Sinks.empty();
+            SessionOutbox outbox = outboxFactory.create(() -> {
+                log.warn("Closing slow SSE stream for game {}", gameId);
+                evicted.tryEmitEmpty();
+            });
+
+            Disposable resumed = lastEventId != null
+                    ? gameWebSocketHandler.resume(gameId, lastEventId, outbox, sink)
+                    : null;
+            Flux<OutboundMessage> source = resumed != null ? Flux.never() : sink.asFlux();
+
+            Flux<ServerSentEvent<String>> events = outbox.attach(source).map(this::toEvent);
+            Flux<ServerSentEvent<String>> heartbeats = Flux.interval(heartbeatInterval)
+                    .map(tick -> ServerSentEvent.<String>builder().comment("ping").build())
+                    .takeUntilOther(evicted.asMono());
+
+            return Flux.merge(events, heartbeats)
+                    .doFinally(signalType -> {
+                        log.info("📡 SSE DISCONNECTED - GameId: {}, Signal: {}", gameId, signalType);
+                        connections.decrementAndGet();
+                        if (resumed != null) {
+                            resumed.dispose();
+                        }
+                        gameWebSocketHandler.releaseEventSink(gameId);
+                    });
+        });
+    }
+
+    /**
+     * 공유 버퍼의 JSON 프레임을 SSE 이벤트로 복사한 뒤 복제본 해제 (Netty가 전송하지 않으므로 직접 해제)
+     */
+    private ServerSentEvent<String> toEvent(OutboundMessage message) {
+        try {
+            ServerSentEvent.Builder<String> event = ServerSentEvent.builder(message.getPayload())
+                    .event(message.getType().name());
+            if (message.getSeq() > 0) {
+                event.id(Long.toString(message.getSeq()));
+            }
+            return event.build();
+        } finally {
+            message.release();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.dtos.NextPhaseResponse;
+import com.jingwook.mafia_server.enums.GamePhase;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.GameService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 노드 전역 타이머 하나로 게임 이벤트 채널마다 남은 시간(TICK)을 전송 (GET /games/{gameId} 폴링 대체)
+ * - 이 노드에 게임 이벤트 Sink가 있는 게임만 대상
+ * - 페이즈 시계는 PHASE_CHANGED(로컬/브로커)로 갱신하고, 처음 보는 게임만 한 번 조회
+ *   seq 없음, 재연결 버퍼에 기록하지 않음, 세션 버퍼에서는 시그널 레인 (최신 TICK 하나만 유지, 혼잡하면 먼저 버림)
+ *
+ * 메트릭: mafia.ws.tick.duration (전체 게임 TICK 제출 시간)
+ */
+@Component
+public class GameTickBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(GameTickBroadcaster.class);
+
+    private final SessionRegistry sessionRegistry;
+    private final FrameCodec frameCodec;
+    private final GameEventLoops gameEventLoops;
+    private final GameService gameService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Timer tickDuration;
+
+    // gameId -> 현재 페이즈 시계 (게임 루프에서만 갱신)
+    private final Map<String, PhaseClock> clocks = new ConcurrentHashMap<>();
+    // 시계를 조회 중인 게임 (중복 조회 방지)
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+
+    public GameTickBroadcaster(
+            SessionRegistry sessionRegistry,
+            FrameCodec frameCodec,
+            GameEventLoops gameEventLoops,
+            GameService gameService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.tick.enabled:true}") boolean enabled) {
+        this.sessionRegistry = sessionRegistry;
+        this.frameCodec = frameCodec;
+        this.gameEventLoops = gameEventLoops;
+        this.gameService = gameService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.tickDuration = Timer.builder("mafia.ws.tick.duration")
+                .description("전체 게임 TICK 제출에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게임 이벤트를 로컬 Sink로 보낼 때 호출 (게임 루프에서 실행)
+     */
+    public void onGameEvent(String gameId, WebSocketMessageType type, Object data) {
+        if (type == WebSocketMessageType.GAME_ENDED) {
+            clocks.put(gameId, PhaseClock.ENDED);
+            return;
+        }
+        if (type != WebSocketMessageType.PHASE_CHANGED) {
+            return;
+        }
+        try {
+            NextPhaseResponse phase = objectMapper.convertValue(data, NextPhaseResponse.class);
+            clocks.put(gameId, new PhaseClock(phase.getCurrentPhase(),
+                    phase.getPhaseStartTime(), phase.getPhaseDurationSeconds()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to read phase clock for game {}: {}", gameId, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${mafia.ws.tick.interval-ms:1000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        tickDuration.record(() -> {
+            long serverTime = System.currentTimeMillis();
+            Set<String> active = new HashSet<>();
+            for (String channel : sessionRegistry.channelNames()) {
+                SubscriptionChannel parsed = SubscriptionChannel.parse(channel);
+                if (parsed == null || !parsed.isGameEvents()) {
+                    continue;
+                }
+                String gameId = parsed.getGameId();
+                active.add(gameId);
+                if (!clocks.containsKey(gameId)) {
+                    loadClock(gameId);
+                    continue;
+                }
+                gameEventLoops.execute(gameId, () -> send(gameId, serverTime));
+            }
+            // 이 노드에 더 이상 구독자가 없는 게임의 시계 정리
+            clocks.keySet().retainAll(active);
+        });
+    }
+
+    private void send(String gameId, long serverTime) {
+        PhaseClock clock = clocks.get(gameId);
+        String channel = SubscriptionChannel.gameEvents(gameId).getName();
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(channel);
+        if (clock == null || clock == PhaseClock.ENDED || sink == null) {
+            return;
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("phase", clock.getPhase());
+        data.put("remainingSeconds", clock.remainingSeconds());
+        data.put("serverTime", serverTime);
+        try {
+            OutboundMessage message = frameCodec.encode(WebSocketMessageType.TICK, Map.of(
+                    "channel", channel,
+                    "type", WebSocketMessageType.TICK.name(),
+                    "data", data
+            ));
+            try {
+                sink.tryEmitNext(message);
+            } finally {
+                message.release();
+            }
+        } catch (Exception e) {
+            log.error("Failed to encode TICK for game {}", gameId, e);
+        }
+    }
+
+    /**
+     * 이 노드가 페이즈 전환을 아직 못 본 게임 (연결 직후, 노드 재시작 등)은 현재 상태를 한 번 조회
+     */
+    private void loadClock(String gameId) {
+        if (!loading.add(gameId)) {
+            return;
+        }
+        gameService.getGameState(gameId)
+                .doOnNext(state -> gameEventLoops.execute(gameId, () -> {
+                    PhaseClock clock = state.getFinishedAt() != null
+                            ? PhaseClock.ENDED
+                            : new PhaseClock(state.getCurrentPhase(),
+                                    state.getPhaseStartTime(), state.getPhaseDurationSeconds());
+                    clocks.putIfAbsent(gameId, clock);
+                }))
+                .doOnError(e -> log.warn("Failed to load phase clock for game {}: {}", gameId, e.getMessage()))
+                .doFinally(signalType -> loading.remove(gameId))
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+
+    @Getter
+    static class PhaseClock {
+        // 종료된 게임 (TICK 없음, 다시 조회하지 않음)
+        static final PhaseClock ENDED = new PhaseClock(null, null, null);
+
+        private final GamePhase phase;
+        private final LocalDateTime endsAt; // 알 수 없으면 null
+
+        PhaseClock(GamePhase phase, LocalDateTime phaseStartTime, Integer phaseDurationSeconds) {
+            this.phase = phase;
+            this.endsAt = phaseStartTime != null && phaseDurationSeconds != null
+                    ? phaseStartTime.plusSeconds(phaseDurationSeconds)
+                    : null;
+        }
+
+        /**
+         * Game.calculateRemainingSeconds()와 같은 계산
+         */
+        long remainingSeconds() {
+            if (endsAt == null) {
+                return 0L;
+            }
+            return Math.max(0, Duration.between(LocalDateTime.now(), endsAt).getSeconds());
+        }
+    }
+}
@@ -1,102 +1,160 @@
 package com.jingwook.mafia_server.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
 import com.jingwook.mafia_server.enums.ChatType;
 import com.jingwook.mafia_server.enums.WebSocketMessageType;
 import com.jingwook.mafia_server.events.ChatEvent;
 import com.jingwook.mafia_server.events.GameEndedEvent;
 import com.jingwook.mafia_server.events.PhaseChangedEvent;
 import com.jingwook.mafia_server.events.PlayerDiedEvent;
-import com.jingwook.mafia_server.services.RedisMessageService;
+import com.jingwook.mafia_server.events.PrivateGameEvent;
+import com.jingwook.mafia_server.services.GameSequenceService;
+import com.jingwook.mafia_server.services.GameService;
+import com.jingwook.mafia_server.services.MessageBrokerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 public class GameWebSocketHandler implements WebSocketHandler {
     private static final Logger log = LoggerFactory.getLogger(GameWebSocketHandler.class);
-
-    private final ObjectMapper objectMapper;
-    private final RedisMessageService redisMessageService;
-
-    // "gameId-chatType" -> Sink (채팅용)
-    private final Map<String, Sinks.Many<String>> gameChatSinks = new ConcurrentHashMap<>();
-    // "gameId-chatType" -> 연결 수 (채팅용)
-    private final Map<String, AtomicInteger> chatConnectionCounts = new ConcurrentHashMap<>();
-
-    // gameId -> Sink (게임 이벤트용)
-    private final Map<String, Sinks.Many<String>> gameEventSinks = new ConcurrentHashMap<>();
-    // gameId -> 연결 수 (게임 이벤트용)
-    private final Map<String, AtomicInteger> eventConnectionCounts = new ConcurrentHashMap<>();
-
-    public GameWebSocketHandler(ObjectMapper objectMapper, RedisMessageService redisMessageService) {
-        this.objectMapper = objectMapper;
-        this.redisMessageService = redisMessageService;
+    private static final CloseStatus MISSING_USER = CloseStatus.POLICY_VIOLATION.withReason("userId is required");
+    private static final CloseStatus FORBIDDEN = CloseStatus.POLICY_VIOLATION.withReason("Forbidden");
+
+    private final MessageBrokerService messageBrokerService;
+    private final SessionOutboxFactory outboxFactory;
+    private final GameCommandDispatcher commandDispatcher;
+    private final SessionHeartbeatMonitor heartbeatMonitor;
+    private final GameEventLog gameEventLog;
+    private final GameService gameService;
+    private final FrameCodec frameCodec;
+    private final SessionRegistry sessionRegistry;
+    private final GameEventLoops gameEventLoops;
+    private final GameTickBroadcaster tickBroadcaster;
+    private final SignalRelay signalRelay;
+    private final GameSequenceService gameSequenceService;
+    private final GameChannelAccess channelAccess;
+
+    public GameWebSocketHandler(
+            MessageBrokerService messageBrokerService,
+            SessionOutboxFactory outboxFactory,
+            GameCommandDispatcher commandDispatcher,
+            SessionHeartbeatMonitor heartbeatMonitor,
+            GameEventLog gameEventLog,
+            GameService gameService,
+            FrameCodec frameCodec,
+            SessionRegistry sessionRegistry,
+            GameEventLoops gameEventLoops,
+            GameTickBroadcaster tickBroadcaster,
+            SignalRelay signalRelay,
+            GameSequenceService gameSequenceService,
+            GameChannelAccess channelAccess) {
+        this.messageBrokerService = messageBrokerService;
+        this.outboxFactory = outboxFactory;
+        this.commandDispatcher = commandDispatcher;
+        this.heartbeatMonitor = heartbeatMonitor;
+        this.gameEventLog = gameEventLog;
+        this.gameService = gameService;
+        this.frameCodec = frameCodec;
+        this.sessionRegistry = sessionRegistry;
+        this.gameEventLoops = gameEventLoops;
+        this.tickBroadcaster = tickBroadcaster;
+        this.signalRelay = signalRelay;
+        this.gameSequenceService = gameSequenceService;
+        this.channelAccess = channelAccess;
     }
 
     /**
-     * Redis Pub/Sub 구독 시작
+     * 다른 노드에서 발행한 메시지 구독 시작
      */
     @PostConstruct
-    public void subscribeToRedis() {
-        // 게임 채팅 구독
-        redisMessageService.subscribeToGameChat()
+    public void subscribeToBroker() {
+        // 게임 채팅/시그널 구독
+        messageBrokerService.subscribeToGameChat()
                 .doOnNext(message -> {
                     if (message == null) {
                         return;
                     }
-                    String sinkKey = message.getKey();
-                    Sinks.Many<String> sink = gameChatSinks.get(sinkKey);
+                    String channel = chatChannelName(message.getKey());
+                    WebSocketMessageType type = message.getType() == WebSocketMessageType.SIGNAL
+                            ? WebSocketMessageType.SIGNAL
+                            : WebSocketMessageType.CHAT;
+                    Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(channel);
                     if (sink != null) {
-                        try {
-                            String json = objectMapper.writeValueAsString(Map.of(
-                                    "type", WebSocketMessageType.CHAT.name(),
-                                    "data", message.getData()
-                            ));
-                            sink.tryEmitNext(json);
-                        } catch (Exception e) {
-                            log.error("Failed to emit Redis chat message", e);
-                        }
+                        gameEventLoops.execute(gameIdOf(message.getKey()), () -> {
+                            try {
+                                emit(sink, type, Map.of(
+                                        "channel", channel,
+                                        "type", type.name(),
+                                        "data", message.getData()
+                                ));
+                            } catch (Exception e) {
+                                log.error("Failed to emit broker chat message", e);
+                            }
+                        });
                     }
                 })
-                .onErrorContinue((error, obj) -> log.error("Error in Redis chat subscription, continuing", error))
+                .onErrorContinue((error, obj) -> log.error("Error in broker chat subscription, continuing", error))
                 .subscribe();
 
         // 게임 이벤트 구독
-        redisMessageService.subscribeToGameEvents()
+        messageBrokerService.subscribeToGameEvents()
                 .doOnNext(message -> {
                     if (message == null) {
                         return;
                     }
                     String gameId = message.getKey();
-                    Sinks.Many<String> sink = gameEventSinks.get(gameId);
-                    if (sink != null) {
-                        try {
-                            String json = objectMapper.writeValueAsString(Map.of(
-                                    "type", message.getType().name(),
-                                    "data", message.getData()
-                            ));
-                            sink.tryEmitNext(json);
-                        } catch (Exception e) {
-                            log.error("Failed to emit Redis event message", e);
+                    // 로컬 세션이 없어도 재연결 버퍼에는 기록 (seq는 발행 노드 기준), seq가 없으면 로컬 세션에만 전달
+                    gameEventLoops.execute(gameId, () -> {
+                        if (message.getSeq() == null) {
+                            broadcastTransientLocal(gameId, message.getType(), message.getData());
+                        } else {
+                            broadcastToGameEventLocal(gameId, message.getSeq(), message.getType(), message.getData(), false);
                         }
+                    });
+                })
+                .onErrorContinue((error, obj) -> log.error("Error in broker event subscription, continuing", error))
+                .subscribe();
+
+        // 본인 전용 게임 이벤트 구독 (key: gameId:userId)
+        messageBrokerService.subscribeToPrivateEvents()
+                .doOnNext(message -> {
+                    if (message == null) {
+                        return;
                     }
+                    String gameId = gameIdOf(message.getKey());
+                    String userId = message.getKey().substring(gameId.length() + 1);
+                    gameEventLoops.execute(gameId,
+                            () -> deliverToUserLocal(gameId, userId, message.getType(), message.getData()));
                 })
-                .onErrorContinue((error, obj) -> log.error("Error in Redis event subscription, continuing", error))
+                .onErrorContinue((error, obj) -> log.error("Error in broker private event subscription, continuing", error))
                 .subscribe();
     }
 
+    /**
+     * 서브프로토콜 mafia.json / mafia.cbor (요청하지 않으면 JSON)
+     */
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
+
     @Override
     public Mono<Void> handle(WebSocketSession session) {
         String path = session.getHandshakeInfo().getUri().getPath();
@@ -129,38 +187,175 @@ public class GameWebSocketHandler implements WebSocketHandler {
 
         log.info("🔌 WebSocket CONNECTED - GameId: {}, SessionId: {}", gameId, session.getId());
 
-        Sinks.Many<String> sink = getOrCreateEventSink(gameId);
-        incrementEventConnectionCount(gameId);
+        Sinks.Many<OutboundMessage> sink = acquireEventSink(gameId);
+
+        log.info("📊 Current connections for game {}: {}", gameId,
+                sessionRegistry.refCount(SubscriptionChannel.gameEvents(gameId).getName()));
 
-        log.info("📊 Current connections for game {}: {}", gameId, eventConnectionCounts.get(gameId).get());
+        SessionOutbox outbox = outboxFactory.create(session);
+        SessionRegistry.SessionInfo info = register(session, gameId, outbox);
+        SessionHeartbeat heartbeat = heartbeatMonitor.start(session, "game");
+        WireFormat format = frameCodec.open(session);
 
-        Mono<Void> output = createOutputMono(session, sink);
-        Mono<Void> input = createInputMono(session);
+        // ?since=<seq>: 재연결이면 놓친 이벤트를 먼저 적재하고 실시간 구독을 이어 붙임
+        Long since = extractSince(session);
+        Disposable resumed = since != null ? resume(gameId, since, outbox, sink) : null;
+        Flux<OutboundMessage> source = resumed != null ? Flux.never() : sink.asFlux();
+
+        Mono<Void> output = createOutputMono(session, outbox, heartbeat, format, source);
+        // 이벤트 소켓의 시그널은 전체 채팅으로 (첫 시그널에서 단일 세션 구독과 같은 권한 확인, 결과는 연결 동안 유지)
+        SubscriptionChannel allChat = SubscriptionChannel.gameChat(gameId, ChatType.GAME_ALL);
+        Mono<SubscriptionChannel> signalChannel = channelAccess.isAllowed(info, allChat)
+                .onErrorResume(e -> {
+                    log.error("Failed to check signal access to {} for session {}", allChat.getName(), session.getId(), e);
+                    return Mono.just(false);
+                })
+                .filter(Boolean::booleanValue)
+                .map(allowed -> allChat)
+                .cache();
+        Mono<Void> input = createInputMono(session, gameId, signalChannel, outbox, heartbeat, format);
 
         return Mono.zip(input, output).then()
                 .doFinally(signalType -> {
                     log.info("🔌 WebSocket DISCONNECTED - GameId: {}, SessionId: {}, Signal: {}",
                             gameId, session.getId(), signalType);
-                    decrementEventConnectionCount(gameId);
-                    cleanupEventSinkIfNoConnections(gameId);
+                    heartbeatMonitor.stop(heartbeat);
+                    frameCodec.close(format);
+                    sessionRegistry.unregister(info);
+                    if (resumed != null) {
+                        resumed.dispose();
+                    }
+                    releaseEventSink(gameId);
                 });
     }
 
+    /**
+     * 게임 채팅 소켓은 ?userId= 필수, 단일 세션 구독과 같은 권한 확인을 통과해야 연결 유지
+     * (마피아 채팅은 MAFIA 역할, 사망자 채팅은 죽은 플레이어만, 아니면 POLICY_VIOLATION으로 종료)
+     */
     private Mono<Void> handleGameChatConnection(WebSocketSession session, GameChatInfo chatInfo) {
-        String sinkKey = chatInfo.getSinkKey();
-        Sinks.Many<String> sink = getOrCreateChatSink(sinkKey);
-        incrementChatConnectionCount(sinkKey);
+        String userId = SessionWebSocketHandler.extractUserId(session);
+        if (userId == null) {
+            log.warn("Game chat WebSocket without userId: {}", session.getId());
+            return session.close(MISSING_USER);
+        }
 
-        Mono<Void> output = createOutputMono(session, sink);
-        Mono<Void> input = createInputMono(session);
+        SubscriptionChannel channel = SubscriptionChannel.gameChat(chatInfo.getGameId(), chatInfo.getChatType());
+        SessionOutbox outbox = outboxFactory.create(session);
+        SessionRegistry.SessionInfo info = register(session, chatInfo.getGameId(), outbox);
+
+        return channelAccess.isAllowed(info, channel)
+                .onErrorResume(e -> {
+                    log.error("Failed to check access to {} for user {}", channel.getName(), userId, e);
+                    return Mono.just(false);
+                })
+                .flatMap(allowed -> {
+                    if (!allowed) {
+                        log.warn("Forbidden game chat - UserId: {}, Channel: {}", userId, channel.getName());
+                        sessionRegistry.unregister(info);
+                        return session.close(FORBIDDEN);
+                    }
+                    return openGameChat(session, chatInfo, channel, outbox, info);
+                });
+    }
+
+    private Mono<Void> openGameChat(WebSocketSession session, GameChatInfo chatInfo, SubscriptionChannel channel,
+            SessionOutbox outbox, SessionRegistry.SessionInfo info) {
+        Sinks.Many<OutboundMessage> sink = acquireChatSink(chatInfo.getGameId(), chatInfo.getChatType());
+        SessionHeartbeat heartbeat = heartbeatMonitor.start(session, "game");
+        WireFormat format = frameCodec.open(session);
+        Mono<Void> output = createOutputMono(session, outbox, heartbeat, format, sink.asFlux());
+        // 연결 시 권한 확인을 통과했으므로 시그널은 경로의 채팅으로
+        Mono<Void> input = createInputMono(session, chatInfo.getGameId(), Mono.just(channel), outbox, heartbeat, format);
 
         return Mono.zip(input, output).then()
                 .doFinally(signalType -> {
-                    decrementChatConnectionCount(sinkKey);
-                    cleanupChatSinkIfNoConnections(sinkKey);
+                    heartbeatMonitor.stop(heartbeat);
+                    frameCodec.close(format);
+                    sessionRegistry.unregister(info);
+                    releaseChatSink(chatInfo.getGameId(), chatInfo.getChatType());
                 });
     }
 
+    /**
+     * 경로별 게임 소켓은 경로의 gameId로 바인딩 (역할은 권한 확인에서 참가자를 조회할 때 채워짐)
+     */
+    private SessionRegistry.SessionInfo register(WebSocketSession session, String gameId, SessionOutbox outbox) {
+        SessionRegistry.SessionInfo info = sessionRegistry.register(
+                session, "game", SessionWebSocketHandler.extractUserId(session), outbox);
+        info.bind(gameId, null);
+        return info;
+    }
+
+    /**
+     * 재연결: since 이후 놓친 이벤트를 세션 버퍼에 적재한 뒤 실시간 구독 시작
+     * 놓친 구간이 버퍼 밖이면 SNAPSHOT(게임 상태 + 참가자)을 대신 전송
+     * @return 실시간 구독 (연결이 끝나면 해제)
+     */
+    Disposable resume(String gameId, long since, SessionOutbox outbox, Sinks.Many<OutboundMessage> sink) {
+        AtomicReference<Disposable> live = new AtomicReference<>();
+        gameEventLog.replay(gameId, since, replay -> {
+            replay.getEvents().forEach(entry -> offer(outbox, entry.getType(), entry.getBody()));
+            live.set(outbox.subscribe(sink.asFlux()));
+            if (replay.isSnapshotRequired()) {
+                sendSnapshot(gameId, replay.getCurrentSeq(), outbox).subscribe();
+            }
+            log.info("Resumed game {} from seq {}: replayed={}, snapshot={}",
+                    gameId, since, replay.getEvents().size(), replay.isSnapshotRequired());
+        });
+        return live.get();
+    }
+
+    /**
+     * 스냅샷의 seq 이하 이벤트는 스냅샷에 이미 반영되어 있음 (클라이언트는 seq가 더 큰 이벤트만 적용)
+     */
+    private Mono<Void> sendSnapshot(String gameId, long seq, SessionOutbox outbox) {
+        return Mono.zip(gameService.getGameState(gameId), gameService.getPlayers(gameId))
+                .doOnNext(tuple -> {
+                    offer(outbox, WebSocketMessageType.SNAPSHOT, Map.of(
+                            "channel", SubscriptionChannel.gameEvents(gameId).getName(),
+                            "seq", seq,
+                            "type", WebSocketMessageType.SNAPSHOT.name(),
+                            "data", Map.of("game", tuple.getT1(), "players", tuple.getT2().getPlayers())
+                    ));
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to load snapshot for game: {}", gameId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void offer(SessionOutbox outbox, WebSocketMessageType type, Object body) {
+        OutboundMessage message;
+        try {
+            message = frameCodec.encode(type, body);
+        } catch (Exception e) {
+            log.error("Failed to encode {} for session outbox", type, e);
+            return;
+        }
+        try {
+            outbox.offer(message);
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * ?since=<seq> (없거나 숫자가 아니면 null)
+     */
+    private Long extractSince(WebSocketSession session) {
+        String since = UriComponentsBuilder.fromUri(session.getHandshakeInfo().getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("since");
+        try {
+            return since != null ? Long.parseLong(since) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String extractGameIdFromEventPath(String path) {
         // /ws/games/{gameId}/events
         String[] parts = path.split("/");
@@ -196,85 +391,100 @@ public class GameWebSocketHandler implements WebSocketHandler {
         }
     }
 
-    // 게임 이벤트 Sink 관리
-    private Sinks.Many<String> getOrCreateEventSink(String gameId) {
-        return gameEventSinks.computeIfAbsent(
-                gameId,
-                k -> {
-                    log.info("✨ Creating NEW Sink for gameId: {}", gameId);
-                    return Sinks.many().multicast().onBackpressureBuffer();
-                });
-    }
-
-    private void incrementEventConnectionCount(String gameId) {
-        eventConnectionCounts.computeIfAbsent(gameId, k -> new AtomicInteger(0)).incrementAndGet();
-    }
-
-    private void decrementEventConnectionCount(String gameId) {
-        AtomicInteger count = eventConnectionCounts.get(gameId);
-        if (count != null) {
-            count.decrementAndGet();
-        }
-    }
-
-    private void cleanupEventSinkIfNoConnections(String gameId) {
-        AtomicInteger count = eventConnectionCounts.get(gameId);
-        if (count != null && count.get() == 0) {
-            gameEventSinks.remove(gameId);
-            eventConnectionCounts.remove(gameId);
-            log.debug("Cleaned up event sink for game: {}", gameId);
-        }
+    /**
+     * 게임 이벤트 Sink 사용 등록 (참조 +1, 이 노드의 게임 구독 시작)
+     * 경로별 연결과 단일 세션(/ws/session)의 채널 구독이 같은 Sink를 공유
+     */
+    Sinks.Many<OutboundMessage> acquireEventSink(String gameId) {
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.acquire(SubscriptionChannel.gameEvents(gameId).getName());
+        messageBrokerService.joinGame(gameId);
+        return sink;
     }
 
-    // 게임 채팅 Sink 관리
-    private Sinks.Many<String> getOrCreateChatSink(String sinkKey) {
-        return gameChatSinks.computeIfAbsent(
-                sinkKey,
-                k -> Sinks.many().multicast().onBackpressureBuffer());
+    void releaseEventSink(String gameId) {
+        sessionRegistry.release(SubscriptionChannel.gameEvents(gameId).getName());
+        messageBrokerService.leaveGame(gameId);
     }
 
-    private void incrementChatConnectionCount(String sinkKey) {
-        chatConnectionCounts.computeIfAbsent(sinkKey, k -> new AtomicInteger(0)).incrementAndGet();
+    Sinks.Many<OutboundMessage> acquireChatSink(String gameId, ChatType chatType) {
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.acquire(SubscriptionChannel.gameChat(gameId, chatType).getName());
+        messageBrokerService.joinGame(gameId);
+        return sink;
     }
 
-    private void decrementChatConnectionCount(String sinkKey) {
-        AtomicInteger count = chatConnectionCounts.get(sinkKey);
-        if (count != null) {
-            count.decrementAndGet();
-        }
+    void releaseChatSink(String gameId, ChatType chatType) {
+        sessionRegistry.release(SubscriptionChannel.gameChat(gameId, chatType).getName());
+        messageBrokerService.leaveGame(gameId);
     }
 
-    private void cleanupChatSinkIfNoConnections(String sinkKey) {
-        AtomicInteger count = chatConnectionCounts.get(sinkKey);
-        if (count != null && count.get() == 0) {
-            gameChatSinks.remove(sinkKey);
-            chatConnectionCounts.remove(sinkKey);
-            log.debug("Cleaned up chat sink for: {}", sinkKey);
-        }
-    }
-
-    private Mono<Void> createOutputMono(WebSocketSession session, Sinks.Many<String> sink) {
+    /**
+     * 공용 Sink는 세션별 버퍼로만 fan-out하고, 각 세션은 자기 버퍼를 자기 속도로 소비
+     */
+    private Mono<Void> createOutputMono(WebSocketSession session, SessionOutbox outbox,
+            SessionHeartbeat heartbeat, WireFormat format, Flux<OutboundMessage> source) {
         return session.send(
-            sink.asFlux()
-                .map(session::textMessage)
+            heartbeat.withPings(outbox.attach(source).map(message -> message.toWebSocketMessage(format)))
                 .doOnError(e -> log.error("Error sending WebSocket message", e))
         );
     }
 
-    private Mono<Void> createInputMono(WebSocketSession session) {
+    /**
+     * 한 번 인코딩한 프레임을 공용 Sink로 emit
+     * 구독 중인 세션 버퍼가 emit 도중 각자 복제본을 가져가므로, 끝나면 원본은 바로 해제
+     */
+    private Sinks.EmitResult emit(Sinks.Many<OutboundMessage> sink, WebSocketMessageType type, Object body)
+            throws Exception {
+        OutboundMessage message = frameCodec.encode(type, body);
+        try {
+            Sinks.EmitResult result = sink.tryEmitNext(message);
+            if (result.isFailure()) {
+                outboxFactory.recordEmitFailure("game", result);
+            }
+            return result;
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * ?userId= 로 연결한 세션은 REGISTER_ACTION, SEND_CHAT 명령을 보낼 수 있음 (gameId는 경로 기준)
+     * 명령은 들어온 순서대로 하나씩 처리
+     * 프레임은 받은 즉시(map) 파싱하고 버퍼를 해제, concatMap 대기열에는 파싱된 프레임만 쌓임
+     * @param signalChannel SIGNAL을 보낼 채팅 채널 (권한 확인을 통과하지 못하면 비어 있음, 시그널은 버림)
+     */
+    private Mono<Void> createInputMono(WebSocketSession session, String gameId, Mono<SubscriptionChannel> signalChannel,
+            SessionOutbox outbox, SessionHeartbeat heartbeat, WireFormat format) {
+        String userId = SessionWebSocketHandler.extractUserId(session);
         return session.receive()
-                .doOnNext(msg -> {
-                    try {
-                        String text = msg.getPayloadAsText();
-                        log.debug("Received message: {}", text);
-                    } finally {
+                .filter(heartbeat::onInbound)
+                .map(msg -> {
+                    if (userId == null) {
                         // DataBuffer 명시적 해제
                         msg.release();
+                        return Optional.<SessionFrameDto>empty();
                     }
+                    return Optional.ofNullable(frameCodec.readFrame(msg, format));
                 })
+                .concatMap(frame -> frame
+                        .map(f -> handleInbound(userId, gameId, signalChannel, f, outbox))
+                        .orElseGet(Mono::empty))
                 .then();
     }
 
+    private Mono<Void> handleInbound(String userId, String gameId, Mono<SubscriptionChannel> signalChannel,
+            SessionFrameDto frame, SessionOutbox outbox) {
+        if (signalRelay.supports(frame.getAction())) {
+            return signalChannel
+                    .doOnNext(channel -> signalRelay.relay(userId, channel, frame.getData()))
+                    .then();
+        }
+        if (!commandDispatcher.supports(frame.getAction())) {
+            log.debug("Ignoring unknown action: {}", frame.getAction());
+            return Mono.empty();
+        }
+        return commandDispatcher.dispatch(userId, gameId, frame, outbox);
+    }
+
     @EventListener
     @Async
     public void handleChatEvent(ChatEvent event) {
@@ -293,9 +503,12 @@ public class GameWebSocketHandler implements WebSocketHandler {
 
         log.info("GameWebSocketHandler: Received chat event for gameId: {}", gameId);
 
-        // Redis로 발행
-        redisMessageService.publishGameChat(gameId, chatType.toString(), event.getChatMessage())
-                .doOnSuccess(count -> log.info("Published game chat to Redis"))
+        // 1. 로컬 Sink에 직접 전달 (게임 전용 이벤트 루프에서)
+        gameEventLoops.execute(gameId, () -> broadcastToGameChatLocal(gameId, chatType, event.getChatMessage()));
+
+        // 2. 다른 노드로 전파
+        messageBrokerService.publishGameChat(gameId, chatType.toString(), event.getChatMessage())
+                .doOnSuccess(count -> log.info("Published game chat to broker"))
                 .subscribe();
     }
 
@@ -305,13 +518,8 @@ public class GameWebSocketHandler implements WebSocketHandler {
         String gameId = event.getGameId();
         log.info("GameWebSocketHandler: Received phase changed event for gameId: {}", gameId);
 
-        // 1. 로컬 Sink에 직접 전달 (즉시 처리)
-        broadcastToGameEventLocal(gameId, WebSocketMessageType.PHASE_CHANGED, event.getPhaseData());
-
-        // 2. Redis로 발행 (다른 서버로 전파)
-        redisMessageService.publishGameEvent(gameId, WebSocketMessageType.PHASE_CHANGED, event.getPhaseData())
-                .doOnSuccess(count -> log.info("Published phase changed to Redis"))
-                .subscribe();
+        // 로컬 Sink 전달 + 다른 노드로 전파 (게임 전용 이벤트 루프에서)
+        dispatchGameEvent(gameId, WebSocketMessageType.PHASE_CHANGED, event.getPhaseData());
     }
 
     @EventListener
@@ -326,13 +534,8 @@ public class GameWebSocketHandler implements WebSocketHandler {
                 "reason", event.getReason()
         );
 
-        // 1. 로컬 Sink에 직접 전달
-        broadcastToGameEventLocal(gameId, WebSocketMessageType.PLAYER_DIED, data);
-
-        // 2. Redis로 발행
-        redisMessageService.publishGameEvent(gameId, WebSocketMessageType.PLAYER_DIED, data)
-                .doOnSuccess(count -> log.info("Published player died to Redis"))
-                .subscribe();
+        // 로컬 Sink 전달 + 다른 노드로 전파 (게임 전용 이벤트 루프에서)
+        dispatchGameEvent(gameId, WebSocketMessageType.PLAYER_DIED, data);
     }
 
     @EventListener
@@ -346,58 +549,205 @@ public class GameWebSocketHandler implements WebSocketHandler {
                 "winnerTeam", event.getWinnerTeam()
         );
 
-        // 1. 로컬 Sink에 직접 전달
-        broadcastToGameEventLocal(gameId, WebSocketMessageType.GAME_ENDED, data);
+        // 로컬 Sink 전달 + 다른 노드로 전파 (게임 전용 이벤트 루프에서)
+        dispatchGameEvent(gameId, WebSocketMessageType.GAME_ENDED, data);
+    }
+
+    @EventListener
+    @Async
+    public void handlePrivateGameEvent(PrivateGameEvent event) {
+        String gameId = event.getGameId();
+        log.info("GameWebSocketHandler: Received private {} for gameId: {}", event.getType(), gameId);
+
+        // 1. 이 노드에 있는 본인 세션에 직접 전달 (게임 전용 이벤트 루프에서)
+        gameEventLoops.execute(gameId,
+                () -> deliverToUserLocal(gameId, event.getUserId(), event.getType(), event.getData()));
 
-        // 2. Redis로 발행
-        redisMessageService.publishGameEvent(gameId, WebSocketMessageType.GAME_ENDED, data)
-                .doOnSuccess(count -> log.info("Published game ended to Redis"))
+        // 2. 다른 노드로 전파
+        messageBrokerService.publishPrivateEvent(gameId, event.getUserId(), event.getType(), event.getData())
+                .doOnSuccess(count -> log.info("Published private {} to broker", event.getType()))
                 .subscribe();
     }
 
-    private boolean isGameChat(ChatType chatType) {
-        return chatType != ChatType.WAITING_ROOM;
+    /**
+     * seq 발급(GameSequenceService) -> 게임 전용 이벤트 루프에서 로컬 Sink 전달 -> 브로커 발행
+     * Redis가 정상이면 여러 노드가 같은 게임의 이벤트를 발행해도 seq는 하나의 카운터에서 나오므로 겹치지 않음
+     * Redis 서킷 open 동안에는 노드 카운터로 발급하므로 노드 간 seq가 겹칠 수 있음 (브로커도 끊긴 구간이라 서로 전달되지 않음)
+     * 서킷이 닫히면 Redis 카운터를 이 노드가 쓴 마지막 seq 이상으로 올린 뒤 발급
+     * 한 노드 안에서는 발급 요청 순서대로 응답이 오므로 seq 순서와 전달 순서가 같음
+     */
+    void dispatchGameEvent(String gameId, WebSocketMessageType type, Object data) {
+        gameSequenceService.next(gameId, gameEventLog.lastSequence(gameId))
+                .onErrorResume(e -> Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .subscribe(allocated -> gameEventLoops.execute(gameId, () -> {
+                    long seq = allocated.orElseGet(() -> gameEventLog.nextSequence(gameId));
+                    broadcastToGameEventLocal(gameId, seq, type, data, true);
+
+                    messageBrokerService.publishGameEvent(gameId, seq, type, data)
+                            .doOnSuccess(count -> log.info("Published {} to broker", type))
+                            .subscribe();
+                }));
     }
 
-    private String buildSinkKey(String gameId, ChatType chatType) {
-        return gameId + "-" + chatType;
+    /**
+     * seq 없이 로컬 Sink 전달 + 브로커 발행 (VOTE_UPDATED)
+     * seq 발급(INCR)과 재연결 버퍼 자리를 쓰지 않으므로 잦은 집계가 PHASE_CHANGED/PLAYER_DIED를 버퍼 밖으로 밀어내지 않음
+     * 매번 최신 전체 값이라 놓쳐도 다음 전송이나 REST 조회로 따라잡음
+     */
+    void dispatchTransientGameEvent(String gameId, WebSocketMessageType type, Object data) {
+        gameEventLoops.execute(gameId, () -> broadcastTransientLocal(gameId, type, data));
+
+        messageBrokerService.publishTransientGameEvent(gameId, type, data)
+                .doOnSuccess(count -> log.debug("Published {} to broker", type))
+                .subscribe();
+    }
+
+    private boolean isGameChat(ChatType chatType) {
+        return chatType != ChatType.WAITING_ROOM;
     }
 
     /**
-     * 로컬 Sink로 직접 게임 이벤트 브로드캐스트
-     * Redis 구독 실패 시에도 현재 서버의 클라이언트에게 메시지 전달
+     * 브로커 키(gameId:chatType) -> 채널 이름(game:{gameId}:{all|mafia|dead})
      */
-    private void broadcastToGameEventLocal(String gameId, WebSocketMessageType type, Object data) {
-        Sinks.Many<String> sink = gameEventSinks.get(gameId);
+    private String gameIdOf(String sinkKey) {
+        return sinkKey.substring(0, sinkKey.lastIndexOf(':'));
+    }
 
-        log.info("📤 Broadcasting {} to gameId: {}, Sink exists: {}", type, gameId, (sink != null));
+    private String chatChannelName(String sinkKey) {
+        int separator = sinkKey.lastIndexOf(':');
+        ChatType chatType = ChatType.valueOf(sinkKey.substring(separator + 1));
+        return SubscriptionChannel.gameChat(sinkKey.substring(0, separator), chatType).getName();
+    }
 
+    /**
+     * 로컬 Sink로 직접 게임 채팅 브로드캐스트
+     */
+    private void broadcastToGameChatLocal(String gameId, ChatType chatType, Object chatMessage) {
+        String channel = SubscriptionChannel.gameChat(gameId, chatType).getName();
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(channel);
         if (sink == null) {
-            log.warn("⚠️ No local sink found for gameId: {} (no clients connected to this server)", gameId);
-            log.info("Available sinks: {}", gameEventSinks.keySet());
+            log.debug("No local chat sink found for: {}", channel);
             return;
         }
 
         try {
-            String json = objectMapper.writeValueAsString(Map.of(
+            Sinks.EmitResult result = emit(sink, WebSocketMessageType.CHAT, Map.of(
+                    "channel", channel,
+                    "type", WebSocketMessageType.CHAT.name(),
+                    "data", chatMessage
+            ));
+
+            if (result.isFailure()) {
+                log.warn("Failed to emit chat to local sink {}: {}", channel, result);
+            }
+        } catch (Exception e) {
+            log.error("Failed to broadcast chat to local sink", e);
+        }
+    }
+
+    /**
+     * 본인 전용 이벤트를 이 노드에 연결된 사용자의 모든 세션(방/게임/단일 세션) 버퍼에 적재
+     * 공용 Sink와 재연결 버퍼(seq)를 거치지 않음, 다시 받으려면 REST 조회(my-role, police-check-results)
+     */
+    private void deliverToUserLocal(String gameId, String userId, WebSocketMessageType type, Object data) {
+        OutboundMessage message;
+        try {
+            message = frameCodec.encode(type, Map.of(
+                    "channel", SubscriptionChannel.user(userId).getName(),
+                    "gameId", gameId,
                     "type", type.name(),
                     "data", data
             ));
+        } catch (Exception e) {
+            log.error("Failed to encode private {} for game {}", type, gameId, e);
+            return;
+        }
+        try {
+            int delivered = sessionRegistry.deliverToUser(userId, message);
+            log.debug("Delivered private {} for game {} to {} session(s)", type, gameId, delivered);
+        } finally {
+            message.release();
+        }
+    }
 
-            log.info("📨 Sending message: {}", json.substring(0, Math.min(100, json.length())) + "...");
+    /**
+     * 로컬 Sink로 직접 게임 이벤트 브로드캐스트
+     * 브로커 구독 실패 시에도 현재 서버의 클라이언트에게 메시지 전달
+     * 연결된 세션이 없어도 재연결 버퍼(GameEventLog)에는 seq와 함께 기록
+     * @param own 이 노드가 발행한 이벤트면 중복 seq 검사 없이 항상 전달 (중복 검사는 브로커 이벤트만)
+     */
+    private void broadcastToGameEventLocal(String gameId, long seq, WebSocketMessageType type, Object data,
+            boolean own) {
+        try {
+            Map<String, Object> body = Map.of(
+                    "channel", SubscriptionChannel.gameEvents(gameId).getName(),
+                    "seq", seq,
+                    "type", type.name(),
+                    "data", data
+            );
 
-            Sinks.EmitResult result = sink.tryEmitNext(json);
+            log.info("📨 Sending message: {} (seq {})", type, seq);
+            tickBroadcaster.onGameEvent(gameId, type, data);
 
-            if (result.isFailure()) {
-                log.error("❌ Failed to emit {} to local sink for game {}: {}", type, gameId, result);
+            Runnable emitLocal = () -> {
+                Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(SubscriptionChannel.gameEvents(gameId).getName());
+
+                log.info("📤 Broadcasting {} (seq {}) to gameId: {}, Sink exists: {}", type, seq, gameId, (sink != null));
+
+                if (sink == null) {
+                    log.warn("⚠️ No local sink found for gameId: {} (no clients connected to this server)", gameId);
+                    return;
+                }
+
+                try {
+                    Sinks.EmitResult result = emit(sink, type, body);
+
+                    if (result.isFailure()) {
+                        log.error("❌ Failed to emit {} to local sink for game {}: {}", type, gameId, result);
+                    } else {
+                        log.info("✅ Successfully emitted {} to local sink for gameId: {}", type, gameId);
+                    }
+                } catch (Exception e) {
+                    log.error("💥 Failed to encode {} for game {}", type, gameId, e);
+                }
+            };
+            if (own) {
+                gameEventLog.appendOwn(gameId, seq, type, body, emitLocal);
             } else {
-                log.info("✅ Successfully emitted {} to local sink for gameId: {}", type, gameId);
+                gameEventLog.append(gameId, seq, type, body, emitLocal);
             }
         } catch (Exception e) {
             log.error("💥 Exception while broadcasting {} to local sink", type, e);
         }
     }
 
+    /**
+     * seq 없는 게임 이벤트를 로컬 Sink로만 전달 (재연결 버퍼에 기록하지 않음)
+     */
+    private void broadcastTransientLocal(String gameId, WebSocketMessageType type, Object data) {
+        String channel = SubscriptionChannel.gameEvents(gameId).getName();
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(channel);
+        if (sink == null) {
+            return;
+        }
+
+        try {
+            Sinks.EmitResult result = emit(sink, type, Map.of(
+                    "channel", channel,
+                    "type", type.name(),
+                    "data", data
+            ));
+
+            if (result.isFailure()) {
+                log.warn("Failed to emit {} to local sink for game {}: {}", type, gameId, result);
+            }
+        } catch (Exception e) {
+            log.error("Failed to encode {} for game {}", type, gameId, e);
+        }
+    }
+
     private static class GameChatInfo {
         private final String gameId;
         private final ChatType chatType;
@@ -407,10 +757,6 @@ public class GameWebSocketHandler implements WebSocketHandler {
             this.chatType = chatType;
         }
 
-        public String getSinkKey() {
-            return gameId + "-" + chatType;
-        }
-
         public String getGameId() {
             return gameId;
         }
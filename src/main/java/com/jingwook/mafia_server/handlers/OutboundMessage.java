@@ -0,0 +1,190 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import lombok.Getter;
+
+/**
+ * 세션으로 나가는 메시지 (타입 + 한 번만 인코딩된 프레임)
+ * 브로드캐스트 시 인코딩은 한 번만 하고, 수신 세션마다 같은 메모리를 공유하는 복제본(retain)을 넘김
+ * - encode(): 풀 버퍼에 인코딩 (참조 1)
+ * - retain(): 수신자용 복제본 (참조 +1, 바이트 복사 없음)
+ * - release(): 참조 -1 (전송되면 Netty가 해제, 버려지면 직접 해제)
+ * 브로드캐스트한 쪽은 emit이 끝나면 원본을 release 해야 함
+ *
+ * JSON 프레임은 항상 있고, CBOR 세션이 있을 때만 CBOR 프레임도 함께 인코딩 (FrameCodec)
+ */
+public class OutboundMessage {
+    private static final NettyDataBufferFactory BUFFER_FACTORY =
+            new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    @Getter
+    private final WebSocketMessageType type;
+    private final NettyDataBuffer text;
+    private final NettyDataBuffer binary; // CBOR, 없으면 null
+    @Getter
+    private final long encodedAt; // System.nanoTime(), 복제본도 원본 시각을 유지 (emit -> 전송 지연 측정)
+    @Getter
+    private final long seq; // 게임 이벤트 seq (SSE 이벤트 id), 게임 이벤트가 아니면 0
+
+    private OutboundMessage(WebSocketMessageType type, NettyDataBuffer text, NettyDataBuffer binary,
+            long encodedAt, long seq) {
+        this.type = type;
+        this.text = text;
+        this.binary = binary;
+        this.encodedAt = encodedAt;
+        this.seq = seq;
+    }
+
+    public static OutboundMessage encode(WebSocketMessageType type, String payload) {
+        return encode(type, payload.getBytes(StandardCharsets.UTF_8), null, 0L);
+    }
+
+    static OutboundMessage encode(WebSocketMessageType type, byte[] json, byte[] cbor, long seq) {
+        return new OutboundMessage(type, allocate(json), cbor != null ? allocate(cbor) : null, System.nanoTime(), seq);
+    }
+
+    /**
+     * 여러 채팅 프레임을 배열 프레임 하나로 합침 (JSON: [a,b,...], CBOR: 배열 헤더 + 항목)
+     * 모든 항목에 CBOR 프레임이 있을 때만 CBOR 배열도 만듦, 합친 뒤 원래 프레임은 해제
+     */
+    static OutboundMessage batch(List<OutboundMessage> parts) {
+        int textSize = parts.size() + 1;
+        int binarySize = 9;
+        boolean withBinary = true;
+        for (OutboundMessage part : parts) {
+            textSize += part.text.readableByteCount();
+            if (part.binary == null) {
+                withBinary = false;
+            } else {
+                binarySize += part.binary.readableByteCount();
+            }
+        }
+
+        NettyDataBuffer text = BUFFER_FACTORY.allocateBuffer(textSize);
+        text.write((byte) '[');
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                text.write((byte) ',');
+            }
+            text.write(parts.get(i).text);
+        }
+        text.write((byte) ']');
+
+        NettyDataBuffer binary = null;
+        if (withBinary) {
+            binary = BUFFER_FACTORY.allocateBuffer(binarySize);
+            writeCborArrayHeader(binary, parts.size());
+            for (OutboundMessage part : parts) {
+                binary.write(part.binary);
+            }
+        }
+
+        long encodedAt = parts.get(0).encodedAt;
+        parts.forEach(OutboundMessage::release);
+        return new OutboundMessage(WebSocketMessageType.CHAT, text, binary, encodedAt, 0L);
+    }
+
+    /**
+     * CBOR major type 4 (array) 헤더
+     */
+    private static void writeCborArrayHeader(NettyDataBuffer buffer, int size) {
+        if (size < 24) {
+            buffer.write((byte) (0x80 | size));
+        } else if (size < 256) {
+            buffer.write(new byte[] {(byte) 0x98, (byte) size});
+        } else {
+            buffer.write(new byte[] {(byte) 0x99, (byte) (size >> 8), (byte) size});
+        }
+    }
+
+    private static NettyDataBuffer allocate(byte[] bytes) {
+        NettyDataBuffer buffer = BUFFER_FACTORY.allocateBuffer(bytes.length);
+        buffer.write(bytes);
+        return buffer;
+    }
+
+    /**
+     * 같은 바이트를 공유하는 수신자용 복제본
+     */
+    public OutboundMessage retain() {
+        return new OutboundMessage(type, duplicate(text), binary != null ? duplicate(binary) : null, encodedAt, seq);
+    }
+
+    private static NettyDataBuffer duplicate(NettyDataBuffer buffer) {
+        ByteBuf duplicate = buffer.getNativeBuffer().retainedDuplicate();
+        return BUFFER_FACTORY.wrap(duplicate);
+    }
+
+    public void release() {
+        DataBufferUtils.release(text);
+        if (binary != null) {
+            DataBufferUtils.release(binary);
+        }
+    }
+
+    /**
+     * 세션 포맷에 맞는 프레임, 전송 후 Netty가 버퍼를 해제하므로 한 번만 호출
+     * 쓰지 않는 포맷의 버퍼는 여기서 해제
+     * CBOR 프레임이 없으면(CBOR 세션 연결 직전에 인코딩된 메시지) JSON 텍스트 프레임으로 전송
+     */
+    public WebSocketMessage toWebSocketMessage(WireFormat format) {
+        if (format == WireFormat.CBOR && binary != null) {
+            DataBufferUtils.release(text);
+            return new WebSocketMessage(WebSocketMessage.Type.BINARY, binary);
+        }
+        if (binary != null) {
+            DataBufferUtils.release(binary);
+        }
+        return new WebSocketMessage(WebSocketMessage.Type.TEXT, text);
+    }
+
+    /**
+     * 세션 버퍼가 잡고 있는 프레임 크기 (JSON + CBOR)
+     */
+    public int size() {
+        return text.readableByteCount() + (binary != null ? binary.readableByteCount() : 0);
+    }
+
+    /**
+     * 디코딩된 JSON 페이로드 (로그/테스트용, 버퍼 위치는 바뀌지 않음)
+     */
+    public String getPayload() {
+        return text.toString(text.readPosition(), text.readableByteCount(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 채팅은 최신 메시지가 더 중요하므로 버퍼 초과 시 오래된 것부터 버림 (시그널/TICK은 채팅보다 먼저 버림)
+     * 게임 이벤트(페이즈 전환, 사망, 종료 등)는 버리지 않음
+     */
+    public boolean isDroppable() {
+        return type == WebSocketMessageType.CHAT || getLane() == Lane.SIGNAL;
+    }
+
+    /**
+     * 송신 우선순위 (제어 프레임/게임 이벤트 -> 시그널/TICK -> 채팅)
+     */
+    public Lane getLane() {
+        return switch (type) {
+            case SIGNAL, TICK -> Lane.SIGNAL;
+            case CHAT -> Lane.CHAT;
+            default -> Lane.PRIORITY;
+        };
+    }
+
+    public enum Lane {
+        PRIORITY, // 제어 프레임(ACK, ERROR 등), 게임/방 이벤트
+        SIGNAL, // 입력 중 표시, 리액션, TICK (저장하지 않음, 혼잡하면 가장 먼저 버림)
+        CHAT
+    }
+}
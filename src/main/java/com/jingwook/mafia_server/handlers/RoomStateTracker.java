@@ -0,0 +1,165 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.dtos.RoomDetailResponse;
+import com.jingwook.mafia_server.dtos.RoomMemberResponse;
+import com.jingwook.mafia_server.enums.ParticipatingRole;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 방별 마지막 전송 상태 + 버전 (노드 메모리)
+ * ROOM_UPDATE마다 RoomDetailResponse 전체를 보내는 대신 이전 상태와의 차이(ROOM_DELTA)만 전송
+ * - 전체 스냅샷(ROOM_UPDATE)은 처음 구독할 때, 또는 클라이언트가 버전 차이를 발견하고 resync를 요청할 때만 전송
+ * - 버전은 노드별로 매김 (다른 노드로 재연결하면 어차피 첫 구독 스냅샷부터 시작)
+ */
+@Component
+public class RoomStateTracker {
+    private final Map<String, RoomState> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 새 방 상태 반영 후 변경분 전달 (같은 방의 push는 순서대로 직렬화)
+     * 처음 보는 방이면 ops 없이 전체 상태로 전달, 바뀐 게 없으면 전달하지 않음
+     */
+    public void push(String roomId, RoomDetailResponse detail, Consumer<Change> emit) {
+        rooms.computeIfAbsent(roomId, k -> new RoomState()).push(detail, emit);
+    }
+
+    /**
+     * 현재 상태 (이 노드에서 아직 추적하지 않는 방이면 null)
+     */
+    public Change current(String roomId) {
+        RoomState state = rooms.get(roomId);
+        return state != null ? state.current() : null;
+    }
+
+    /**
+     * 스냅샷용 현재 상태, 아직 없으면 loaded 결과로 초기화
+     */
+    public Change snapshot(String roomId, RoomDetailResponse loaded) {
+        return rooms.computeIfAbsent(roomId, k -> new RoomState()).snapshot(loaded);
+    }
+
+    /**
+     * 이 노드에 방 구독자가 없으면 상태를 버림 (다음 구독은 DB 조회 스냅샷부터 시작)
+     */
+    public void forget(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * 이전 상태 대비 변경 목록
+     * MEMBER_ADDED / MEMBER_REMOVED / HOST_CHANGED / ROOM_CHANGED
+     */
+    static List<Map<String, Object>> diff(RoomDetailResponse before, RoomDetailResponse after) {
+        Map<String, RoomMemberResponse> previous = byUserId(before.getMembers());
+        Map<String, RoomMemberResponse> current = byUserId(after.getMembers());
+        List<Map<String, Object>> ops = new ArrayList<>();
+
+        previous.keySet().stream()
+                .filter(userId -> !current.containsKey(userId))
+                .forEach(userId -> ops.add(op("MEMBER_REMOVED", "userId", userId)));
+        current.values().stream()
+                .filter(member -> !previous.containsKey(member.getUserId()))
+                .forEach(member -> ops.add(op("MEMBER_ADDED", "member", member)));
+
+        String previousHost = hostOf(before.getMembers());
+        String currentHost = hostOf(after.getMembers());
+        if (currentHost != null && !currentHost.equals(previousHost)) {
+            ops.add(op("HOST_CHANGED", "userId", currentHost));
+        }
+
+        if (!Objects.equals(before.getName(), after.getName())
+                || !Objects.equals(before.getMaxPlayers(), after.getMaxPlayers())) {
+            Map<String, Object> changed = op("ROOM_CHANGED", "name", after.getName());
+            changed.put("maxPlayers", after.getMaxPlayers());
+            ops.add(changed);
+        }
+        return ops;
+    }
+
+    private static Map<String, RoomMemberResponse> byUserId(List<RoomMemberResponse> members) {
+        if (members == null) {
+            return Map.of();
+        }
+        return members.stream().collect(Collectors.toMap(
+                RoomMemberResponse::getUserId, Function.identity(), (a, b) -> b, LinkedHashMap::new));
+    }
+
+    private static String hostOf(List<RoomMemberResponse> members) {
+        if (members == null) {
+            return null;
+        }
+        return members.stream()
+                .filter(member -> member.getRole() == ParticipatingRole.HOST)
+                .map(RoomMemberResponse::getUserId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Map<String, Object> op(String type, String key, Object value) {
+        Map<String, Object> op = new LinkedHashMap<>();
+        op.put("op", type);
+        op.put(key, value);
+        return op;
+    }
+
+    /**
+     * @param ops null이면 전체 상태(detail)를 보내야 함
+     */
+    @Getter
+    public static class Change {
+        private final long version;
+        private final RoomDetailResponse detail;
+        private final List<Map<String, Object>> ops;
+
+        Change(long version, RoomDetailResponse detail, List<Map<String, Object>> ops) {
+            this.version = version;
+            this.detail = detail;
+            this.ops = ops;
+        }
+
+        public boolean isFull() {
+            return ops == null;
+        }
+    }
+
+    private static class RoomState {
+        private long version;
+        private RoomDetailResponse detail;
+
+        synchronized void push(RoomDetailResponse next, Consumer<Change> emit) {
+            if (detail == null) {
+                detail = next;
+                emit.accept(new Change(++version, next, null));
+                return;
+            }
+            List<Map<String, Object>> ops = diff(detail, next);
+            detail = next;
+            if (!ops.isEmpty()) {
+                emit.accept(new Change(++version, next, ops));
+            }
+        }
+
+        synchronized Change current() {
+            return detail != null ? new Change(version, detail, null) : null;
+        }
+
+        synchronized Change snapshot(RoomDetailResponse loaded) {
+            if (detail == null) {
+                detail = loaded;
+                version++;
+            }
+            return new Change(version, detail, null);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.jingwook.mafia_server.handlers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.dtos.RoomDetailResponse;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
 import com.jingwook.mafia_server.enums.WebSocketMessageType;
 import com.jingwook.mafia_server.events.ChatEvent;
 import com.jingwook.mafia_server.events.GameStartedEvent;
 import com.jingwook.mafia_server.events.RoomUpdateEvent;
-import com.jingwook.mafia_server.services.RedisMessageService;
+import com.jingwook.mafia_server.services.MessageBrokerService;
 import com.jingwook.mafia_server.services.RoomService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -18,9 +21,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 
 import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
 
 @Component
 public class RoomWebSocketHandler implements WebSocketHandler {
@@ -28,53 +32,83 @@ public class RoomWebSocketHandler implements WebSocketHandler {
 
     private final RoomService roomService;
     private final ObjectMapper objectMapper;
-    private final RedisMessageService redisMessageService;
-
-    // roomId -> Sink
-    private final Map<String, Sinks.Many<String>> roomSinks = new ConcurrentHashMap<>();
-    // roomId -> 연결 수 (Sink의 currentSubscriberCount()는 정확하지 않을 수 있으므로)
-    private final Map<String, AtomicInteger> connectionCounts = new ConcurrentHashMap<>();
+    private final MessageBrokerService messageBrokerService;
+    private final SessionOutboxFactory outboxFactory;
+    private final SessionHeartbeatMonitor heartbeatMonitor;
+    private final RoomStateTracker roomStateTracker;
+    private final FrameCodec frameCodec;
+    private final SessionRegistry sessionRegistry;
+    private final SignalRelay signalRelay;
+    private final boolean deltaEnabled;
 
     public RoomWebSocketHandler(
             RoomService roomService,
             ObjectMapper objectMapper,
-            RedisMessageService redisMessageService) {
+            MessageBrokerService messageBrokerService,
+            SessionOutboxFactory outboxFactory,
+            SessionHeartbeatMonitor heartbeatMonitor,
+            RoomStateTracker roomStateTracker,
+            FrameCodec frameCodec,
+            SessionRegistry sessionRegistry,
+            SignalRelay signalRelay,
+            @Value("${mafia.ws.room.delta.enabled:true}") boolean deltaEnabled) {
         this.roomService = roomService;
         this.objectMapper = objectMapper;
-        this.redisMessageService = redisMessageService;
+        this.messageBrokerService = messageBrokerService;
+        this.outboxFactory = outboxFactory;
+        this.heartbeatMonitor = heartbeatMonitor;
+        this.roomStateTracker = roomStateTracker;
+        this.frameCodec = frameCodec;
+        this.sessionRegistry = sessionRegistry;
+        this.signalRelay = signalRelay;
+        this.deltaEnabled = deltaEnabled;
     }
 
     /**
-     * Redis Pub/Sub 구독 시작
+     * 브로커 구독 시작
      * 다른 서버 인스턴스에서 발행한 메시지를 받아서 로컬 Sink로 전달
      */
     @PostConstruct
-    public void subscribeToRedis() {
-        redisMessageService.subscribeToRoomUpdates()
+    public void subscribeToBroker() {
+        messageBrokerService.subscribeToRoomUpdates()
                 .doOnNext(message -> {
                     if (message == null) {
                         return;
                     }
                     String roomId = message.getKey();
-                    log.info("Received Redis message for roomId: {}", roomId);
+                    log.info("Received broker message for roomId: {}", roomId);
+
+                    if (message.getType() == WebSocketMessageType.ROOM_UPDATE) {
+                        pushRoomState(roomId,
+                                objectMapper.convertValue(message.getData(), RoomDetailResponse.class));
+                        return;
+                    }
 
-                    Sinks.Many<String> sink = roomSinks.get(roomId);
+                    Sinks.Many<OutboundMessage> sink = roomSink(roomId);
                     if (sink != null) {
                         try {
-                            String json = objectMapper.writeValueAsString(Map.of(
+                            emit(sink, message.getType(), Map.of(
+                                    "channel", SubscriptionChannel.room(roomId).getName(),
                                     "type", message.getType().name(),
                                     "data", message.getData()
                             ));
-                            sink.tryEmitNext(json);
                         } catch (Exception e) {
-                            log.error("Failed to emit Redis message to sink", e);
+                            log.error("Failed to emit broker message to sink", e);
                         }
                     }
                 })
-                .onErrorContinue((error, obj) -> log.error("Error in Redis subscription, continuing", error))
+                .onErrorContinue((error, obj) -> log.error("Error in broker subscription, continuing", error))
                 .subscribe();
     }
 
+    /**
+     * 서브프로토콜 mafia.json / mafia.cbor (요청하지 않으면 JSON)
+     */
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
+
     @Override
     public Mono<Void> handle(WebSocketSession session) {
         String roomId = extractRoomId(session.getHandshakeInfo().getUri().getPath());
@@ -84,64 +118,94 @@ public class RoomWebSocketHandler implements WebSocketHandler {
             return session.close();
         }
 
-        Sinks.Many<String> sink = getOrCreateRoomSink(roomId);
-        incrementConnectionCount(roomId);
+        Sinks.Many<OutboundMessage> sink = acquireRoomSink(roomId);
 
-        Mono<Void> output = createOutputMono(session, sink);
-        Mono<Void> sendInitialData = sendInitialRoomData(roomId, sink);
-        Mono<Void> input = createInputMono(session);
+        SessionOutbox outbox = outboxFactory.create(session);
+        SessionRegistry.SessionInfo info = sessionRegistry.register(
+                session, "room", SessionWebSocketHandler.extractUserId(session), outbox);
+        SessionHeartbeat heartbeat = heartbeatMonitor.start(session, "room");
+        WireFormat format = frameCodec.open(session);
+        Mono<Void> output = createOutputMono(session, outbox, heartbeat, format, sink);
+        Mono<Void> sendInitialData = sendInitialRoomData(roomId, outbox);
+        Mono<Void> input = createInputMono(session, roomId, SessionWebSocketHandler.extractUserId(session),
+                outbox, heartbeat, format);
 
         return sendInitialData
                 .then(Mono.zip(input, output).then())
                 .doFinally(signalType -> {
-                    decrementConnectionCount(roomId);
-                    cleanupSinkIfNoConnections(roomId);
+                    heartbeatMonitor.stop(heartbeat);
+                    frameCodec.close(format);
+                    sessionRegistry.unregister(info);
+                    releaseRoomSink(roomId);
                 });
     }
 
-    private Sinks.Many<String> getOrCreateRoomSink(String roomId) {
-        return roomSinks.computeIfAbsent(
-                roomId,
-                k -> Sinks.many().multicast().onBackpressureBuffer());
-    }
-
-    private void incrementConnectionCount(String roomId) {
-        connectionCounts.computeIfAbsent(roomId, k -> new AtomicInteger(0)).incrementAndGet();
+    /**
+     * 방 Sink 사용 등록 (참조 +1)
+     * 경로별 연결과 단일 세션(/ws/session)의 채널 구독이 같은 Sink를 공유
+     */
+    Sinks.Many<OutboundMessage> acquireRoomSink(String roomId) {
+        return sessionRegistry.acquire(SubscriptionChannel.room(roomId).getName());
     }
 
-    private void decrementConnectionCount(String roomId) {
-        AtomicInteger count = connectionCounts.get(roomId);
-        if (count != null) {
-            count.decrementAndGet();
-        }
+    /**
+     * 마지막 구독이 끝나면 방 상태 추적도 정리 (같은 채널의 acquire와 겹치지 않음)
+     */
+    void releaseRoomSink(String roomId) {
+        sessionRegistry.release(SubscriptionChannel.room(roomId).getName(), () -> roomStateTracker.forget(roomId));
     }
 
-    private void cleanupSinkIfNoConnections(String roomId) {
-        AtomicInteger count = connectionCounts.get(roomId);
-        if (count != null && count.get() == 0) {
-            roomSinks.remove(roomId);
-            connectionCounts.remove(roomId);
-            log.debug("Cleaned up sink for room: {}", roomId);
-        }
+    private Sinks.Many<OutboundMessage> roomSink(String roomId) {
+        return sessionRegistry.sink(SubscriptionChannel.room(roomId).getName());
     }
 
-    private Mono<Void> createOutputMono(WebSocketSession session, Sinks.Many<String> sink) {
+    /**
+     * 공용 Sink는 세션별 버퍼로만 fan-out하고, 각 세션은 자기 버퍼를 자기 속도로 소비
+     */
+    private Mono<Void> createOutputMono(WebSocketSession session, SessionOutbox outbox,
+            SessionHeartbeat heartbeat, WireFormat format, Sinks.Many<OutboundMessage> sink) {
         return session.send(
-            sink.asFlux()
-                .map(session::textMessage)
+            heartbeat.withPings(outbox.attach(sink.asFlux()).map(message -> message.toWebSocketMessage(format)))
                 .doOnError(e -> log.error("Error sending WebSocket message", e))
         );
     }
 
-    private Mono<Void> sendInitialRoomData(String roomId, Sinks.Many<String> sink) {
-        return roomService.getDetail(roomId)
-                .flatMap(roomDetail -> {
+    /**
+     * 한 번 인코딩한 프레임을 공용 Sink로 emit
+     * 구독 중인 세션 버퍼가 emit 도중 각자 복제본을 가져가므로, 끝나면 원본은 바로 해제
+     */
+    private Sinks.EmitResult emit(Sinks.Many<OutboundMessage> sink, WebSocketMessageType type, Object body)
+            throws Exception {
+        OutboundMessage message = frameCodec.encode(type, body);
+        try {
+            Sinks.EmitResult result = sink.tryEmitNext(message);
+            if (result.isFailure()) {
+                outboxFactory.recordEmitFailure("room", result);
+            }
+            return result;
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * 초기 방 정보(전체 스냅샷)는 방 전체가 아니라 새로 연결한 세션의 버퍼에만 적재
+     * 이 노드가 추적 중인 상태가 있으면 그 버전을 그대로 보내고, 없으면 DB에서 조회해 추적 시작
+     * 클라이언트가 버전 차이를 발견하고 resync를 요청할 때도 사용
+     */
+    Mono<Void> sendInitialRoomData(String roomId, SessionOutbox outbox) {
+        return Mono.justOrEmpty(roomStateTracker.current(roomId))
+                .switchIfEmpty(Mono.defer(() -> roomService.getDetail(roomId)
+                        .map(roomDetail -> roomStateTracker.snapshot(roomId, roomDetail))))
+                .flatMap(state -> {
                     try {
-                        String json = objectMapper.writeValueAsString(Map.of(
-                                "type", WebSocketMessageType.ROOM_UPDATE.name(),
-                                "data", roomDetail
-                        ));
-                        sink.tryEmitNext(json);
+                        OutboundMessage message = frameCodec.encode(WebSocketMessageType.ROOM_UPDATE,
+                                serializeRoomState(roomId, state, true));
+                        try {
+                            outbox.offer(message);
+                        } finally {
+                            message.release();
+                        }
                         return Mono.empty();
                     } catch (Exception e) {
                         log.error("Failed to serialize initial room data for room: {}", roomId, e);
@@ -155,21 +219,30 @@ public class RoomWebSocketHandler implements WebSocketHandler {
                 .then();
     }
 
-    private Mono<Void> createInputMono(WebSocketSession session) {
+    /**
+     * {"action": "resync"}: 버전 차이를 발견한 클라이언트에게 전체 스냅샷 재전송
+     * {"action": "SIGNAL"}: ?userId= 로 연결한 세션의 대기실 입력 중 표시/리액션 (SignalRelay)
+     */
+    private Mono<Void> createInputMono(WebSocketSession session, String roomId, String userId, SessionOutbox outbox,
+            SessionHeartbeat heartbeat, WireFormat format) {
         return session.receive()
-                .doOnNext(msg -> {
-                    try {
-                        String text = msg.getPayloadAsText();
-                        // 필요시 클라이언트 메시지 처리 (ping/pong 등)
-                        log.debug("Received message: {}", text);
-                    } finally {
-                        // DataBuffer 명시적 해제
-                        msg.release();
+                .filter(heartbeat::onInbound)
+                .map(msg -> Optional.ofNullable(frameCodec.readFrame(msg, format)))
+                .concatMap(frame -> {
+                    if (isResync(frame)) {
+                        return sendInitialRoomData(roomId, outbox);
                     }
+                    frame.filter(f -> signalRelay.supports(f.getAction()))
+                            .ifPresent(f -> signalRelay.relay(userId, SubscriptionChannel.room(roomId), f.getData()));
+                    return Mono.<Void>empty();
                 })
                 .then();
     }
 
+    private boolean isResync(Optional<SessionFrameDto> frame) {
+        return frame.map(SessionFrameDto::getAction).filter("resync"::equals).isPresent();
+    }
+
     private String extractRoomId(String path) {
         // /ws/rooms/{roomId} 형태에서 roomId 추출
         String[] parts = path.split("/");
@@ -185,12 +258,12 @@ public class RoomWebSocketHandler implements WebSocketHandler {
         String roomId = event.getRoomId();
         log.info("WebSocketHandler: Received room update event for roomId: {}", roomId);
 
-        // 1. 로컬 Sink에 직접 전달
-        broadcastToRoomLocal(roomId, WebSocketMessageType.ROOM_UPDATE, event.getRoomDetail());
+        // 1. 로컬 Sink에 직접 전달 (변경분만)
+        pushRoomState(roomId, event.getRoomDetail());
 
-        // 2. Redis로 발행 (다른 서버로 전파)
-        redisMessageService.publishRoomUpdate(roomId, event.getRoomDetail())
-                .doOnSuccess(count -> log.info("Published room update to Redis for roomId: {}", roomId))
+        // 2. 다른 노드로 전파
+        messageBrokerService.publishRoomUpdate(roomId, WebSocketMessageType.ROOM_UPDATE, event.getRoomDetail())
+                .doOnSuccess(count -> log.info("Published room update to broker for roomId: {}", roomId))
                 .subscribe();
     }
 
@@ -204,9 +277,9 @@ public class RoomWebSocketHandler implements WebSocketHandler {
         // 1. 로컬 Sink에 직접 전달
         broadcastToRoomLocal(roomId, WebSocketMessageType.CHAT, event.getChatMessage());
 
-        // 2. Redis로 발행
-        redisMessageService.publishRoomUpdate(roomId, event.getChatMessage())
-                .doOnSuccess(count -> log.info("Published chat to Redis for roomId: {}", roomId))
+        // 2. 다른 노드로 전파
+        messageBrokerService.publishRoomUpdate(roomId, WebSocketMessageType.CHAT, event.getChatMessage())
+                .doOnSuccess(count -> log.info("Published chat to broker for roomId: {}", roomId))
                 .subscribe();
     }
 
@@ -221,9 +294,9 @@ public class RoomWebSocketHandler implements WebSocketHandler {
         // 1. 로컬 Sink에 직접 전달
         broadcastToRoomLocal(roomId, WebSocketMessageType.GAME_STARTED, data);
 
-        // 2. Redis로 발행
-        redisMessageService.publishRoomUpdate(roomId, data)
-                .doOnSuccess(count -> log.info("Published game started to Redis for roomId: {}", roomId))
+        // 2. 다른 노드로 전파
+        messageBrokerService.publishRoomUpdate(roomId, WebSocketMessageType.GAME_STARTED, data)
+                .doOnSuccess(count -> log.info("Published game started to broker for roomId: {}", roomId))
                 .subscribe();
     }
 
@@ -231,7 +304,7 @@ public class RoomWebSocketHandler implements WebSocketHandler {
      * 로컬 Sink로 직접 방 메시지 브로드캐스트
      */
     private void broadcastToRoomLocal(String roomId, WebSocketMessageType type, Object data) {
-        Sinks.Many<String> sink = roomSinks.get(roomId);
+        Sinks.Many<OutboundMessage> sink = roomSink(roomId);
 
         if (sink == null) {
             log.debug("No local sink found for roomId: {} (no clients connected)", roomId);
@@ -239,11 +312,11 @@ public class RoomWebSocketHandler implements WebSocketHandler {
         }
 
         try {
-            String json = objectMapper.writeValueAsString(Map.of(
+            Sinks.EmitResult result = emit(sink, type, Map.of(
+                    "channel", SubscriptionChannel.room(roomId).getName(),
                     "type", type.name(),
                     "data", data
             ));
-            Sinks.EmitResult result = sink.tryEmitNext(json);
 
             if (result.isFailure()) {
                 log.warn("Failed to emit {} to local sink for room {}: {}", type, roomId, result);
@@ -255,24 +328,78 @@ public class RoomWebSocketHandler implements WebSocketHandler {
         }
     }
 
-    private void serializeAndEmit(String roomId, WebSocketMessageType type, Object data, Sinks.Many<String> sink) {
+    /**
+     * 방 상태 변경을 로컬 Sink로 전달
+     * 직전 버전과의 차이만 ROOM_DELTA로 보내고, 이 노드가 처음 보는 방이면 ROOM_UPDATE(전체)로 보냄
+     * 브로커로는 전체 상태가 전파되므로 각 노드가 자기 구독자 기준으로 차이를 계산
+     */
+    private void pushRoomState(String roomId, RoomDetailResponse detail) {
+        Sinks.Many<OutboundMessage> sink = roomSink(roomId);
+        if (sink == null) {
+            log.debug("No local sink found for roomId: {} (no clients connected)", roomId);
+            roomStateTracker.forget(roomId);
+            return;
+        }
+
+        roomStateTracker.push(roomId, detail, change -> {
+            try {
+                boolean full = change.isFull() || !deltaEnabled;
+                WebSocketMessageType type = full ? WebSocketMessageType.ROOM_UPDATE : WebSocketMessageType.ROOM_DELTA;
+                Sinks.EmitResult result = emit(sink, type, serializeRoomState(roomId, change, full));
+
+                if (result.isFailure()) {
+                    log.warn("Failed to emit {} to local sink for room {}: {}", type, roomId, result);
+                } else {
+                    log.info("Successfully emitted {} v{} to local sink for roomId: {}", type, change.getVersion(), roomId);
+                }
+            } catch (Exception e) {
+                log.error("Failed to broadcast room state for room: {}", roomId, e);
+            }
+        });
+    }
+
+    /**
+     * ROOM_UPDATE: {"channel", "type", "version", "data": RoomDetailResponse}
+     * ROOM_DELTA: {"channel", "type", "version", "baseVersion", "data": {"ops": [...], "currentPlayers"}}
+     */
+    private Map<String, Object> serializeRoomState(String roomId, RoomStateTracker.Change change, boolean full) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("channel", SubscriptionChannel.room(roomId).getName());
+        if (full) {
+            body.put("type", WebSocketMessageType.ROOM_UPDATE.name());
+            body.put("version", change.getVersion());
+            body.put("data", change.getDetail());
+        } else {
+            body.put("type", WebSocketMessageType.ROOM_DELTA.name());
+            body.put("version", change.getVersion());
+            body.put("baseVersion", change.getVersion() - 1);
+            body.put("data", Map.of(
+                    "ops", change.getOps(),
+                    "currentPlayers", change.getDetail().getCurrentPlayers()
+            ));
+        }
+        return body;
+    }
+
+    private void serializeAndEmit(String roomId, WebSocketMessageType type, Object data, Sinks.Many<OutboundMessage> sink) {
         try {
-            String json = serializeMessage(type, data);
-            emitMessage(roomId, type, json, sink);
+            emitMessage(roomId, type, serializeMessage(roomId, type, data), sink);
         } catch (Exception e) {
             log.error("Failed to serialize {} for room: {}", type, roomId, e);
         }
     }
 
-    private String serializeMessage(WebSocketMessageType type, Object data) throws Exception {
-        return objectMapper.writeValueAsString(Map.of(
+    private Map<String, Object> serializeMessage(String roomId, WebSocketMessageType type, Object data) {
+        return Map.of(
+                "channel", SubscriptionChannel.room(roomId).getName(),
                 "type", type.name(),
                 "data", data
-        ));
+        );
     }
 
-    private void emitMessage(String roomId, WebSocketMessageType type, String json, Sinks.Many<String> sink) {
-        Sinks.EmitResult result = sink.tryEmitNext(json);
+    private void emitMessage(String roomId, WebSocketMessageType type, Object body, Sinks.Many<OutboundMessage> sink)
+            throws Exception {
+        Sinks.EmitResult result = emit(sink, type, body);
 
         if (result.isFailure()) {
             log.warn("Failed to emit {} for room {}: {}", type, roomId, result);
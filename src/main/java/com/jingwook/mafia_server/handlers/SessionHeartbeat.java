@@ -0,0 +1,106 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 세션별 heartbeat (서버가 주기적으로 ping을 보내고 pong을 확인)
+ * - pong 없이 ping이 maxMissedPongs번 연속되면 half-open 연결로 보고 세션을 끊음
+ * - pong이 아닌 클라이언트 프레임이 idleAfter 동안 없으면 idle로 집계
+ */
+public class SessionHeartbeat {
+    private static final byte[] PING_PAYLOAD = "mafia".getBytes(StandardCharsets.UTF_8);
+
+    private final WebSocketSession session;
+    private final String handler;
+    private final Duration interval;
+    private final int maxMissedPongs;
+    private final long idleAfterNanos;
+    private final Runnable onReap;
+    private final LongSupplier clock;
+
+    private volatile long lastActivity;
+    private volatile int missedPongs;
+    private volatile boolean awaitingPong;
+
+    SessionHeartbeat(WebSocketSession session, String handler, Duration interval, int maxMissedPongs,
+            Duration idleAfter, Runnable onReap, LongSupplier clock) {
+        this.session = session;
+        this.handler = handler;
+        this.interval = interval;
+        this.maxMissedPongs = maxMissedPongs;
+        this.idleAfterNanos = idleAfter.toNanos();
+        this.onReap = onReap;
+        this.clock = clock;
+        this.lastActivity = clock.getAsLong();
+    }
+
+    /**
+     * 세션 송신 스트림에 ping 프레임을 끼워 넣음
+     * 세션을 끊어야 하면 에러로 종료해서 송신/수신 스트림과 Sink 정리가 바로 진행되게 함
+     */
+    public Flux<WebSocketMessage> withPings(Flux<WebSocketMessage> frames) {
+        Flux<WebSocketMessage> pings = Flux.interval(interval, interval)
+                .<WebSocketMessage>handle((tick, sink) -> {
+                    if (!recordPing()) {
+                        onReap.run();
+                        sink.error(new TimeoutException(
+                                "No pong for " + maxMissedPongs + " heartbeats, session " + session.getId()));
+                        return;
+                    }
+                    sink.next(session.pingMessage(factory -> factory.wrap(PING_PAYLOAD)));
+                });
+        // prefetch 1: 세션 버퍼(SessionOutbox)의 요청량 기반 전송을 유지
+        return Flux.merge(1, frames, pings);
+    }
+
+    /**
+     * 수신 프레임 기록
+     * @return 애플리케이션 메시지면 true, ping/pong 제어 프레임이면 해제 후 false
+     */
+    public boolean onInbound(WebSocketMessage message) {
+        if (message.getType() == WebSocketMessage.Type.PONG) {
+            recordPong();
+            message.release();
+            return false;
+        }
+        if (message.getType() == WebSocketMessage.Type.PING) {
+            message.release();
+            return false;
+        }
+        recordPong(); // 애플리케이션 메시지도 연결이 살아 있다는 신호
+        lastActivity = clock.getAsLong();
+        return true;
+    }
+
+    /**
+     * @return false면 허용한 pong 누락 횟수를 넘김
+     */
+    boolean recordPing() {
+        if (awaitingPong) {
+            missedPongs++;
+        }
+        awaitingPong = true;
+        return missedPongs < maxMissedPongs;
+    }
+
+    void recordPong() {
+        awaitingPong = false;
+        missedPongs = 0;
+    }
+
+    boolean isIdle() {
+        return clock.getAsLong() - lastActivity >= idleAfterNanos;
+    }
+
+    String getHandler() {
+        return handler;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * WebSocket heartbeat 생성 및 세션 상태 메트릭 (handler 태그: room, game, session)
+ * - mafia.ws.sessions{state=live}: 연결 중인 세션 수
+ * - mafia.ws.sessions{state=idle}: 그중 idle-after 동안 애플리케이션 메시지가 없는 세션 수
+ * - mafia.ws.sessions.reaped: pong 누락으로 끊은 세션 수
+ */
+@Component
+public class SessionHeartbeatMonitor {
+    private static final Logger log = LoggerFactory.getLogger(SessionHeartbeatMonitor.class);
+    private static final CloseStatus HEARTBEAT_TIMEOUT = CloseStatus.GOING_AWAY.withReason("Heartbeat timeout");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration interval;
+    private final int maxMissedPongs;
+    private final Duration idleAfter;
+
+    // handler -> 연결 중인 세션 heartbeat
+    private final Map<String, Set<SessionHeartbeat>> sessions = new ConcurrentHashMap<>();
+
+    public SessionHeartbeatMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.heartbeat.interval-ms:15000}") long intervalMs,
+            @Value("${mafia.ws.heartbeat.max-missed-pongs:2}") int maxMissedPongs,
+            @Value("${mafia.ws.heartbeat.idle-after-ms:120000}") long idleAfterMs) {
+        this.meterRegistry = meterRegistry;
+        this.interval = Duration.ofMillis(intervalMs);
+        this.maxMissedPongs = maxMissedPongs;
+        this.idleAfter = Duration.ofMillis(idleAfterMs);
+    }
+
+    /**
+     * 세션 heartbeat 시작, 연결이 끝나면 stop() 호출
+     */
+    public SessionHeartbeat start(WebSocketSession session, String handler) {
+        Counter reaped = meterRegistry.counter("mafia.ws.sessions.reaped", "handler", handler);
+        SessionHeartbeat heartbeat = new SessionHeartbeat(session, handler, interval, maxMissedPongs, idleAfter,
+                () -> reap(session, handler, reaped), System::nanoTime);
+        sessionsOf(handler).add(heartbeat);
+        return heartbeat;
+    }
+
+    public void stop(SessionHeartbeat heartbeat) {
+        sessionsOf(heartbeat.getHandler()).remove(heartbeat);
+    }
+
+    private Set<SessionHeartbeat> sessionsOf(String handler) {
+        return sessions.computeIfAbsent(handler, this::registerGauges);
+    }
+
+    private Set<SessionHeartbeat> registerGauges(String handler) {
+        Set<SessionHeartbeat> heartbeats = ConcurrentHashMap.newKeySet();
+        Gauge.builder("mafia.ws.sessions", heartbeats, Set::size)
+                .description("연결 중인 WebSocket 세션 수")
+                .tag("handler", handler)
+                .tag("state", "live")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.sessions", heartbeats,
+                        set -> set.stream().filter(SessionHeartbeat::isIdle).count())
+                .description("애플리케이션 메시지 없이 연결만 유지 중인 WebSocket 세션 수")
+                .tag("handler", handler)
+                .tag("state", "idle")
+                .register(meterRegistry);
+        return heartbeats;
+    }
+
+    private void reap(WebSocketSession session, String handler, Counter reaped) {
+        reaped.increment();
+        log.warn("Reaping {} WebSocket session {} after {} missed pongs", handler, session.getId(), maxMissedPongs);
+        session.close(HEARTBEAT_TIMEOUT).subscribe();
+    }
+}
@@ -0,0 +1,335 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 세션별 bounded 송신 버퍼
+ * 게임/방 공용 Sink를 구독해서 이 세션의 버퍼에 쌓고, 세션이 요청한 만큼만 내보냄
+ * 느린 클라이언트는 자기 버퍼만 채우므로 같은 게임의 다른 세션에 영향을 주지 않음
+ *
+ * 버퍼가 가득 찼을 때 (overflow):
+ * - 시그널/TICK: 가장 오래된 시그널부터 버림, 버릴 시그널이 없으면 들어온 시그널을 버림 (overflow로 세지 않음)
+ * - 채팅: 가장 오래된 채팅을 버림
+ * - 게임 이벤트: 버리지 않음 (버릴 채팅이 없으면 용량을 넘어서 적재)
+ * - overflow가 maxOverflows번 발생하면 세션을 끊음
+ *
+ * 버퍼에는 공유 프레임의 복제본(retain)을 적재하고, 전송되지 않고 버려지는 메시지는 여기서 release
+ *
+ * 우선순위 레인 (용량은 세 레인 합계):
+ * - PRIORITY: 제어 프레임, 게임/방 이벤트 (먼저 쌓인 채팅이 있어도 항상 먼저 전송)
+ * - SIGNAL: 입력 중 표시, 리액션, TICK (1초만 지나도 의미 없으므로 혼잡하면 가장 먼저 버림)
+ *   TICK은 세션당 최신 하나만 유지 (새 TICK이 오면 아직 보내지 못한 이전 TICK을 버림)
+ * - CHAT: 채팅 (버릴 시그널이 없으면 여기서부터 버림)
+ * 레인별로 인코딩(emit) 시점부터 세션 송신 파이프라인(session.send)으로 넘길 때까지 버퍼에서 기다린 시간을 기록
+ * (소켓 쓰기 완료 시점이 아님: 넘긴 뒤 Netty가 실제로 쓰기까지의 시간은 포함하지 않음)
+ *
+ * 배치 모드(enableBatching)에서는 채팅 레인을 짧은 시간 모아서 배열 프레임 하나로 전송
+ */
+public class SessionOutbox {
+    private final int capacity;
+    private final int maxOverflows;
+    private final Runnable onEvict;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final Counter evictedCounter;
+    private final Map<OutboundMessage.Lane, Timer> queueTimers;
+
+    private final Deque<OutboundMessage> priority = new ArrayDeque<>();
+    private final Deque<OutboundMessage> signal = new ArrayDeque<>();
+    private final Deque<OutboundMessage> chat = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile FluxSink<OutboundMessage> downstream;
+    private int overflows;
+    private boolean evicted;
+    private long bufferedBytes;
+
+    // 채팅 배치 (maxBatch <= 1이면 사용 안 함)
+    private final Scheduler flushTimer = Schedulers.parallel();
+    private int maxBatch = 1;
+    private long batchWindowNanos;
+    private DistributionSummary batchSizes;
+    private boolean flushScheduled;
+
+    SessionOutbox(int capacity, int maxOverflows, Runnable onEvict,
+            Counter overflowCounter, Counter droppedCounter, Counter evictedCounter,
+            Map<OutboundMessage.Lane, Timer> queueTimers) {
+        this.capacity = capacity;
+        this.maxOverflows = maxOverflows;
+        this.onEvict = onEvict;
+        this.overflowCounter = overflowCounter;
+        this.droppedCounter = droppedCounter;
+        this.evictedCounter = evictedCounter;
+        this.queueTimers = queueTimers;
+    }
+
+    /**
+     * 공용 Sink를 구독해서 세션 송신 스트림으로 변환
+     * 세션이 끝나면(취소/종료) 공용 Sink 구독도 해제됨
+     */
+    public Flux<OutboundMessage> attach(Flux<OutboundMessage> source) {
+        return Flux.create(sink -> {
+            downstream = sink;
+            Disposable upstream = subscribe(source);
+            sink.onRequest(n -> drain());
+            sink.onDispose(() -> {
+                upstream.dispose();
+                releaseAll();
+            });
+        });
+    }
+
+    /**
+     * 공용 Sink를 이 세션 버퍼에 추가로 연결 (단일 세션의 채널 구독)
+     * 반환된 Disposable을 해제하면 해당 채널만 구독 해제
+     */
+    public Disposable subscribe(Flux<OutboundMessage> source) {
+        return source.subscribe(this::offer);
+    }
+
+    /**
+     * 메시지 적재 (공용 Sink 구독 또는 초기 데이터 전송 시 호출)
+     * 호출한 쪽의 메시지는 건드리지 않고, 적재할 때만 복제본을 만듦
+     */
+    public void offer(OutboundMessage message) {
+        boolean evict = false;
+        synchronized (this) {
+            if (evicted) {
+                return;
+            }
+            boolean accept = true;
+            if (message.getType() == WebSocketMessageType.TICK) {
+                replaceQueuedTick();
+            }
+            if (size() >= capacity && message.getLane() == OutboundMessage.Lane.SIGNAL) {
+                // 시그널끼리만 자리를 바꾸고 overflow로 세지 않음 (시그널 때문에 세션을 끊지 않음)
+                droppedCounter.increment();
+                OutboundMessage oldest = signal.pollFirst();
+                if (oldest == null) {
+                    return;
+                }
+                bufferedBytes -= oldest.size();
+                oldest.release();
+            } else if (size() >= capacity) {
+                overflows++;
+                overflowCounter.increment();
+                if (!makeRoomFor(message)) {
+                    droppedCounter.increment();
+                    accept = false;
+                }
+                if (overflows >= maxOverflows) {
+                    evicted = true;
+                    evict = true;
+                    accept = false;
+                    clearQueue();
+                }
+            }
+            if (accept) {
+                laneOf(message).addLast(message.retain());
+                bufferedBytes += message.size();
+            }
+        }
+
+        if (evict) {
+            evictedCounter.increment();
+            FluxSink<OutboundMessage> sink = downstream;
+            if (sink != null) {
+                sink.complete();
+            }
+            onEvict.run();
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * 아직 보내지 못한 이전 TICK 제거 (남은 시간은 최신 값만 의미 있음)
+     */
+    private void replaceQueuedTick() {
+        Iterator<OutboundMessage> queued = signal.iterator();
+        while (queued.hasNext()) {
+            OutboundMessage message = queued.next();
+            if (message.getType() == WebSocketMessageType.TICK) {
+                queued.remove();
+                bufferedBytes -= message.size();
+                message.release();
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 시그널, 없으면 가장 오래된 채팅을 버려서 자리를 만듦
+     * @return false면 들어온 메시지(채팅)를 버려야 함
+     */
+    private boolean makeRoomFor(OutboundMessage message) {
+        OutboundMessage oldest = signal.pollFirst();
+        if (oldest == null) {
+            oldest = chat.pollFirst();
+        }
+        if (oldest != null) {
+            bufferedBytes -= oldest.size();
+            oldest.release();
+            droppedCounter.increment();
+            return true;
+        }
+        // 버릴 채팅이 없음: 게임 이벤트는 용량을 넘어서라도 적재
+        return !message.isDroppable();
+    }
+
+    private Deque<OutboundMessage> laneOf(OutboundMessage message) {
+        return switch (message.getLane()) {
+            case SIGNAL -> signal;
+            case CHAT -> chat;
+            default -> priority;
+        };
+    }
+
+    /**
+     * 세션 요청량만큼 버퍼에서 꺼내 전송 (여러 스레드에서 호출되어도 한 번에 하나만 drain)
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            FluxSink<OutboundMessage> sink = downstream;
+            if (sink != null) {
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                    List<OutboundMessage> next = poll();
+                    if (next.isEmpty()) {
+                        break;
+                    }
+                    next.forEach(this::recordQueueTime);
+                    if (next.size() > 1) {
+                        batchSizes.record(next.size());
+                    }
+                    sink.next(next.size() == 1 ? next.get(0) : OutboundMessage.batch(next));
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * 다음에 보낼 프레임 (우선 레인 -> 시그널 -> 채팅, 배치 모드면 채팅을 여러 개 묶음)
+     * @return 보낼 것이 없거나 채팅을 모으는 중이면 빈 목록
+     */
+    private synchronized List<OutboundMessage> poll() {
+        OutboundMessage next = priority.pollFirst();
+        if (next == null) {
+            next = signal.pollFirst();
+        }
+        if (next == null && maxBatch <= 1) {
+            next = chat.pollFirst();
+        }
+        if (next != null) {
+            bufferedBytes -= next.size();
+            return List.of(next);
+        }
+        return maxBatch > 1 ? pollChatBatch() : List.of();
+    }
+
+    /**
+     * 첫 채팅이 들어온 뒤 batchWindow가 지났거나 maxBatch개가 모이면 한 번에 꺼냄
+     * 아직이면 남은 시간 뒤에 다시 drain 하도록 예약
+     */
+    private List<OutboundMessage> pollChatBatch() {
+        OutboundMessage oldest = chat.peekFirst();
+        if (oldest == null) {
+            return List.of();
+        }
+        long waited = System.nanoTime() - oldest.getEncodedAt();
+        if (chat.size() < maxBatch && waited < batchWindowNanos) {
+            if (!flushScheduled) {
+                flushScheduled = true;
+                flushTimer.schedule(this::flush, batchWindowNanos - waited, TimeUnit.NANOSECONDS);
+            }
+            return List.of();
+        }
+        List<OutboundMessage> batch = new ArrayList<>(Math.min(chat.size(), maxBatch));
+        while (batch.size() < maxBatch && !chat.isEmpty()) {
+            OutboundMessage message = chat.pollFirst();
+            bufferedBytes -= message.size();
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    private void flush() {
+        synchronized (this) {
+            flushScheduled = false;
+        }
+        drain();
+    }
+
+    private void recordQueueTime(OutboundMessage message) {
+        Timer timer = queueTimers.get(message.getLane());
+        if (timer != null) {
+            timer.record(System.nanoTime() - message.getEncodedAt(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void releaseAll() {
+        synchronized (this) {
+            clearQueue();
+        }
+    }
+
+    private void clearQueue() {
+        OutboundMessage queued;
+        while ((queued = priority.pollFirst()) != null) {
+            queued.release();
+        }
+        while ((queued = signal.pollFirst()) != null) {
+            queued.release();
+        }
+        while ((queued = chat.pollFirst()) != null) {
+            queued.release();
+        }
+        bufferedBytes = 0;
+    }
+
+    /**
+     * 배치 모드 (클라이언트가 ?batch=true로 요청한 세션만)
+     * 채팅을 window 동안 또는 maxMessages개까지 모아서 JSON 배열(CBOR 배열) 프레임 하나로 전송
+     * 우선 레인 메시지는 기다리지 않고 바로 전송
+     */
+    void enableBatching(int maxMessages, Duration window, DistributionSummary batchSizes) {
+        synchronized (this) {
+            this.maxBatch = maxMessages;
+            this.batchWindowNanos = window.toNanos();
+            this.batchSizes = batchSizes;
+        }
+    }
+
+    synchronized int size() {
+        return priority.size() + signal.size() + chat.size();
+    }
+
+    /**
+     * 아직 전송하지 않고 잡고 있는 프레임 크기 (세션당 메모리 메트릭용)
+     */
+    public synchronized long bufferedBytes() {
+        return bufferedBytes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 세션별 송신 버퍼 생성 및 fan-out 메트릭
+ */
+@Component
+public class SessionOutboxFactory {
+    private static final Logger log = LoggerFactory.getLogger(SessionOutboxFactory.class);
+    private static final CloseStatus SLOW_CONSUMER = CloseStatus.POLICY_VIOLATION.withReason("Slow consumer");
+
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final int maxOverflows;
+    private final boolean batchEnabled;
+    private final int batchMaxMessages;
+    private final Duration batchWindow;
+
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final Counter evictedCounter;
+    private final Map<OutboundMessage.Lane, Timer> queueTimers = new EnumMap<>(OutboundMessage.Lane.class);
+    private final DistributionSummary batchSizes;
+
+    public SessionOutboxFactory(
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.outbox.capacity:256}") int capacity,
+            @Value("${mafia.ws.outbox.max-overflows:50}") int maxOverflows,
+            @Value("${mafia.ws.batch.enabled:true}") boolean batchEnabled,
+            @Value("${mafia.ws.batch.max-messages:32}") int batchMaxMessages,
+            @Value("${mafia.ws.batch.window-ms:20}") long batchWindowMs) {
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.maxOverflows = maxOverflows;
+        this.batchEnabled = batchEnabled;
+        this.batchMaxMessages = batchMaxMessages;
+        this.batchWindow = Duration.ofMillis(batchWindowMs);
+
+        this.overflowCounter = Counter.builder("mafia.ws.outbox.overflow")
+                .description("세션 송신 버퍼가 가득 찬 상태에서 메시지가 들어온 횟수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("mafia.ws.outbox.dropped")
+                .description("버퍼 초과로 버려진 채팅/시그널 메시지 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("mafia.ws.outbox.evicted")
+                .description("overflow가 반복되어 연결을 끊은 세션 수")
+                .register(meterRegistry);
+        for (OutboundMessage.Lane lane : OutboundMessage.Lane.values()) {
+            queueTimers.put(lane, Timer.builder("mafia.ws.outbox.queue.time")
+                    .description("메시지 인코딩(emit)부터 세션 송신 파이프라인으로 넘길 때까지 버퍼에서 기다린 시간")
+                    .tag("lane", lane.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.batchSizes = DistributionSummary.builder("mafia.ws.batch.size")
+                .description("배열 프레임 하나로 묶어 보낸 채팅 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 핸드셰이크 URI에 ?batch=true가 있으면 채팅 배치 모드 (클라이언트가 배열 프레임을 처리할 수 있을 때만)
+     */
+    public SessionOutbox create(WebSocketSession session) {
+        SessionOutbox outbox = new SessionOutbox(capacity, maxOverflows, () -> evict(session),
+                overflowCounter, droppedCounter, evictedCounter, queueTimers);
+        if (batchEnabled && batchMaxMessages > 1 && isBatchRequested(session)) {
+            outbox.enableBatching(batchMaxMessages, batchWindow, batchSizes);
+        }
+        return outbox;
+    }
+
+    /**
+     * WebSocket이 아닌 스트림(SSE)용 버퍼, 배치 모드 없음
+     * overflow로 쫓겨나면 버퍼가 스트림을 완료시키고 onEvict 실행
+     */
+    public SessionOutbox create(Runnable onEvict) {
+        return new SessionOutbox(capacity, maxOverflows, onEvict,
+                overflowCounter, droppedCounter, evictedCounter, queueTimers);
+    }
+
+    private boolean isBatchRequested(WebSocketSession session) {
+        String batch = UriComponentsBuilder.fromUri(session.getHandshakeInfo().getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("batch");
+        return Boolean.parseBoolean(batch);
+    }
+
+    /**
+     * 공용 Sink emit 실패 기록 (handler 태그로 구분)
+     */
+    public void recordEmitFailure(String handler, Sinks.EmitResult result) {
+        meterRegistry.counter("mafia.ws.emit.failed", "handler", handler, "result", result.name()).increment();
+    }
+
+    private void evict(WebSocketSession session) {
+        log.warn("Closing slow WebSocket session {} after {} buffer overflows", session.getId(), maxOverflows);
+        session.close(SLOW_CONSUMER).subscribe();
+    }
+}
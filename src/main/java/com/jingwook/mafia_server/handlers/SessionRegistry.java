@@ -0,0 +1,220 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.PlayerRole;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 노드의 WebSocket 세션/채널 레지스트리
+ * - 채널(SubscriptionChannel 이름)별 공용 Sink를 참조 수로 관리
+ *   acquire/release가 같은 키의 compute 안에서 처리되므로, 연결과 해제가 겹쳐도
+ *   이미 제거된 Sink에 붙는 일이 없음
+ * - 세션별 메타데이터(사용자, 게임, 역할, 송신 버퍼)를 기록해서 특정 사용자/세션에만 전달 가능
+ *
+ * 메트릭:
+ * - mafia.ws.registry.sessions / channels / subscriptions
+ * - mafia.ws.registry.buffered.bytes{stat=total|max}: 세션 송신 버퍼가 잡고 있는 프레임 크기
+ */
+@Component
+public class SessionRegistry {
+    private static final Logger log = LoggerFactory.getLogger(SessionRegistry.class);
+
+    // channel name -> 공용 Sink + 참조 수
+    private final Map<String, ChannelEntry> channels = new ConcurrentHashMap<>();
+    // session id -> 세션 정보
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+    // userId -> 세션 정보 (한 사용자가 여러 소켓을 열 수 있음)
+    private final Map<String, Set<SessionInfo>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public SessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("mafia.ws.registry.sessions", sessions, Map::size)
+                .description("레지스트리에 등록된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.registry.channels", channels, Map::size)
+                .description("공용 Sink가 있는 채널 수")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.registry.subscriptions", channels,
+                        map -> map.values().stream().mapToInt(ChannelEntry::getRefs).sum())
+                .description("채널 구독 수 (채널별 참조 수 합계)")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.registry.buffered.bytes", sessions,
+                        map -> map.values().stream().mapToLong(SessionInfo::bufferedBytes).sum())
+                .description("세션 송신 버퍼가 잡고 있는 프레임 크기")
+                .baseUnit("bytes")
+                .tag("stat", "total")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.registry.buffered.bytes", sessions,
+                        map -> map.values().stream().mapToLong(SessionInfo::bufferedBytes).max().orElse(0))
+                .description("세션 송신 버퍼가 잡고 있는 프레임 크기")
+                .baseUnit("bytes")
+                .tag("stat", "max")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널 공용 Sink 사용 등록 (참조 +1, 없으면 생성)
+     * 반환된 Sink는 release 전까지 제거되지 않음
+     */
+    public Sinks.Many<OutboundMessage> acquire(String channel) {
+        return channels.compute(channel, (key, entry) -> {
+            ChannelEntry acquired = entry != null ? entry : new ChannelEntry();
+            if (entry == null) {
+                log.debug("✨ Creating NEW Sink for channel: {}", key);
+            }
+            acquired.refs++;
+            return acquired;
+        }).getSink();
+    }
+
+    public void release(String channel) {
+        release(channel, null);
+    }
+
+    /**
+     * 채널 공용 Sink 사용 해제 (참조 -1, 0이면 제거)
+     * @param onRemoved 제거될 때 실행 (같은 compute 안에서 실행되므로 동시 acquire보다 먼저 끝남)
+     */
+    public void release(String channel, Runnable onRemoved) {
+        channels.computeIfPresent(channel, (key, entry) -> {
+            if (--entry.refs > 0) {
+                return entry;
+            }
+            if (onRemoved != null) {
+                onRemoved.run();
+            }
+            log.debug("Cleaned up sink for channel: {}", key);
+            return null;
+        });
+    }
+
+    /**
+     * 브로드캐스트용 조회 (구독자가 없으면 null)
+     */
+    public Sinks.Many<OutboundMessage> sink(String channel) {
+        ChannelEntry entry = channels.get(channel);
+        return entry != null ? entry.getSink() : null;
+    }
+
+    /**
+     * 공용 Sink가 있는 채널 이름 (읽기 전용 뷰, 순회 중 변경 가능)
+     */
+    public Set<String> channelNames() {
+        return Collections.unmodifiableSet(channels.keySet());
+    }
+
+    /**
+     * 이 노드에 연결된 WebSocket 세션 수 (수용 제어용)
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    public int refCount(String channel) {
+        ChannelEntry entry = channels.get(channel);
+        return entry != null ? entry.getRefs() : 0;
+    }
+
+    /**
+     * 세션 등록, 연결이 끝나면 unregister() 호출
+     * @param userId 익명 연결이면 null
+     */
+    public SessionInfo register(WebSocketSession session, String handler, String userId, SessionOutbox outbox) {
+        SessionInfo info = new SessionInfo(session.getId(), handler, userId, outbox);
+        sessions.put(info.getSessionId(), info);
+        if (userId != null) {
+            sessionsByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(info);
+        }
+        return info;
+    }
+
+    public void unregister(SessionInfo info) {
+        sessions.remove(info.getSessionId());
+        if (info.getUserId() != null) {
+            sessionsByUser.computeIfPresent(info.getUserId(), (key, set) -> {
+                set.remove(info);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    /**
+     * 특정 사용자의 모든 세션 버퍼에 적재 (호출한 쪽의 메시지는 건드리지 않음)
+     * @return 전달한 세션 수
+     */
+    public int deliverToUser(String userId, OutboundMessage message) {
+        Set<SessionInfo> targets = sessionsByUser.get(userId);
+        if (targets == null) {
+            return 0;
+        }
+        targets.forEach(info -> info.getOutbox().offer(message));
+        return targets.size();
+    }
+
+    /**
+     * 게임에 바인딩된 세션 중 조건에 맞는 세션 버퍼에만 적재 (예: 특정 역할)
+     * @return 전달한 세션 수
+     */
+    public int deliverToGame(String gameId, Predicate<SessionInfo> filter, OutboundMessage message) {
+        int delivered = 0;
+        for (SessionInfo info : sessions.values()) {
+            if (gameId.equals(info.getGameId()) && filter.test(info)) {
+                info.getOutbox().offer(message);
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    @Getter
+    private static class ChannelEntry {
+        private final Sinks.Many<OutboundMessage> sink = Sinks.many().multicast().directBestEffort();
+        private volatile int refs; // compute 안에서만 변경
+    }
+
+    /**
+     * 세션 메타데이터 (gameId, role은 게임 채널을 구독하면서 채워짐)
+     */
+    @Getter
+    public static class SessionInfo {
+        private final String sessionId;
+        private final String handler;
+        private final String userId;
+        private final SessionOutbox outbox;
+        private final Instant connectedAt = Instant.now();
+        private volatile String gameId;
+        private volatile PlayerRole role; // 게임 참가자가 아니거나 아직 모르면 null
+
+        SessionInfo(String sessionId, String handler, String userId, SessionOutbox outbox) {
+            this.sessionId = sessionId;
+            this.handler = handler;
+            this.userId = userId;
+            this.outbox = outbox;
+        }
+
+        public void bind(String gameId, PlayerRole role) {
+            this.gameId = gameId;
+            this.role = role;
+        }
+
+        public boolean isBoundTo(String gameId) {
+            return gameId.equals(this.gameId) && role != null;
+        }
+
+        long bufferedBytes() {
+            return outbox.bufferedBytes();
+        }
+    }
+}
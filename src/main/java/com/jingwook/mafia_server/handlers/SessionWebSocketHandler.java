@@ -0,0 +1,278 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트당 하나의 WebSocket (/ws/session?userId={userId})
+ * 방/게임 이벤트/게임 채팅을 경로별 소켓 대신 in-band subscribe/unsubscribe 프레임으로 구독
+ * - 구독 채널은 기존 경로별 연결과 같은 공용 Sink를 공유하고, 세션 버퍼(SessionOutbox) 하나로 합쳐서 전송
+ * - 모든 프레임에 "channel" 필드가 있으므로 클라이언트는 채널별로 분기
+ * - 마피아 채팅은 MAFIA 역할만, 사망자 채팅은 죽은 플레이어만 구독 가능
+ * - REGISTER_ACTION, SEND_CHAT 명령은 GameCommandDispatcher로 전달
+ * - SIGNAL은 구독 중인 방/게임 채팅 채널에만 보낼 수 있음 (SignalRelay)
+ */
+@Component
+public class SessionWebSocketHandler implements WebSocketHandler {
+    private static final Logger log = LoggerFactory.getLogger(SessionWebSocketHandler.class);
+    private static final CloseStatus MISSING_USER = CloseStatus.POLICY_VIOLATION.withReason("userId is required");
+
+    private static final String SUBSCRIBE = "subscribe";
+    private static final String UNSUBSCRIBE = "unsubscribe";
+    private static final String RESYNC = "resync";
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+    private final RoomWebSocketHandler roomWebSocketHandler;
+    private final GameChannelAccess channelAccess;
+    private final FrameCodec frameCodec;
+    private final SessionOutboxFactory outboxFactory;
+    private final ControlFrameWriter controlFrameWriter;
+    private final GameCommandDispatcher commandDispatcher;
+    private final SessionHeartbeatMonitor heartbeatMonitor;
+    private final SessionRegistry sessionRegistry;
+    private final SpectatorRelay spectatorRelay;
+    private final SignalRelay signalRelay;
+    private final int maxSubscriptions;
+
+    public SessionWebSocketHandler(
+            GameWebSocketHandler gameWebSocketHandler,
+            RoomWebSocketHandler roomWebSocketHandler,
+            GameChannelAccess channelAccess,
+            FrameCodec frameCodec,
+            SessionOutboxFactory outboxFactory,
+            ControlFrameWriter controlFrameWriter,
+            GameCommandDispatcher commandDispatcher,
+            SessionHeartbeatMonitor heartbeatMonitor,
+            SessionRegistry sessionRegistry,
+            SpectatorRelay spectatorRelay,
+            SignalRelay signalRelay,
+            @Value("${mafia.ws.session.max-subscriptions:8}") int maxSubscriptions) {
+        this.gameWebSocketHandler = gameWebSocketHandler;
+        this.roomWebSocketHandler = roomWebSocketHandler;
+        this.channelAccess = channelAccess;
+        this.frameCodec = frameCodec;
+        this.outboxFactory = outboxFactory;
+        this.controlFrameWriter = controlFrameWriter;
+        this.commandDispatcher = commandDispatcher;
+        this.heartbeatMonitor = heartbeatMonitor;
+        this.sessionRegistry = sessionRegistry;
+        this.spectatorRelay = spectatorRelay;
+        this.signalRelay = signalRelay;
+        this.maxSubscriptions = maxSubscriptions;
+    }
+
+    /**
+     * 서브프로토콜 mafia.json / mafia.cbor (요청하지 않으면 JSON)
+     */
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        String userId = extractUserId(session);
+        if (userId == null) {
+            log.warn("Session WebSocket without userId: {}", session.getId());
+            return session.close(MISSING_USER);
+        }
+
+        log.info("🔌 Session WebSocket CONNECTED - UserId: {}, SessionId: {}", userId, session.getId());
+
+        SessionOutbox outbox = outboxFactory.create(session);
+        SessionRegistry.SessionInfo info = sessionRegistry.register(session, "session", userId, outbox);
+        SessionHeartbeat heartbeat = heartbeatMonitor.start(session, "session");
+        WireFormat format = frameCodec.open(session);
+        // channel name -> 구독 (세션의 입력 프레임은 순서대로 처리되므로 동시 수정 없음)
+        Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+        Mono<Void> output = session.send(
+                heartbeat.withPings(outbox.attach(Flux.never()).map(message -> message.toWebSocketMessage(format)))
+                        .doOnError(e -> log.error("Error sending WebSocket message", e)));
+
+        Mono<Void> input = session.receive()
+                .filter(heartbeat::onInbound)
+                .map(msg -> Optional.ofNullable(frameCodec.readFrame(msg, format)))
+                .concatMap(frame -> handleFrame(info, frame, outbox, subscriptions))
+                .then();
+
+        return Mono.zip(input, output).then()
+                .doFinally(signalType -> {
+                    log.info("🔌 Session WebSocket DISCONNECTED - UserId: {}, SessionId: {}, Signal: {}",
+                            userId, session.getId(), signalType);
+                    heartbeatMonitor.stop(heartbeat);
+                    frameCodec.close(format);
+                    sessionRegistry.unregister(info);
+                    subscriptions.values().forEach(Subscription::close);
+                    subscriptions.clear();
+                });
+    }
+
+    private Mono<Void> handleFrame(SessionRegistry.SessionInfo info, Optional<SessionFrameDto> parsed,
+            SessionOutbox outbox, Map<String, Subscription> subscriptions) {
+        String userId = info.getUserId();
+        if (parsed.isEmpty()) {
+            reply(outbox, WebSocketMessageType.ERROR, null, "Malformed frame");
+            return Mono.empty();
+        }
+        SessionFrameDto frame = parsed.get();
+
+        if (commandDispatcher.supports(frame.getAction())) {
+            return commandDispatcher.dispatch(userId, frame.getGameId(), frame, outbox);
+        }
+
+        SubscriptionChannel channel = SubscriptionChannel.parse(frame.getChannel());
+        if (channel == null) {
+            reply(outbox, WebSocketMessageType.ERROR, frame.getChannel(), "Unknown channel");
+            return Mono.empty();
+        }
+
+        if (signalRelay.supports(frame.getAction())) {
+            // 구독 권한 확인을 통과한 채널만 (마피아/사망자 채팅 포함), 응답 없음
+            if (subscriptions.containsKey(channel.getName())) {
+                signalRelay.relay(userId, channel, frame.getData());
+            }
+            return Mono.empty();
+        }
+
+        if (SUBSCRIBE.equals(frame.getAction())) {
+            return subscribe(info, channel, frame.getSince(), outbox, subscriptions);
+        }
+        if (UNSUBSCRIBE.equals(frame.getAction())) {
+            Subscription subscription = subscriptions.remove(channel.getName());
+            if (subscription != null) {
+                subscription.close();
+            }
+            reply(outbox, WebSocketMessageType.UNSUBSCRIBED, channel.getName(), null);
+            return Mono.empty();
+        }
+
+        if (RESYNC.equals(frame.getAction()) && channel.isRoom() && subscriptions.containsKey(channel.getName())) {
+            // ROOM_DELTA의 baseVersion이 맞지 않으면 클라이언트가 전체 스냅샷을 다시 요청
+            return roomWebSocketHandler.sendInitialRoomData(channel.getRoomId(), outbox);
+        }
+
+        reply(outbox, WebSocketMessageType.ERROR, channel.getName(), "Unknown action");
+        return Mono.empty();
+    }
+
+    private Mono<Void> subscribe(SessionRegistry.SessionInfo info, SubscriptionChannel channel, Long since,
+            SessionOutbox outbox, Map<String, Subscription> subscriptions) {
+        String userId = info.getUserId();
+        if (subscriptions.containsKey(channel.getName())) {
+            reply(outbox, WebSocketMessageType.SUBSCRIBED, channel.getName(), null);
+            return Mono.empty();
+        }
+        if (subscriptions.size() >= maxSubscriptions) {
+            reply(outbox, WebSocketMessageType.ERROR, channel.getName(), "Too many subscriptions");
+            return Mono.empty();
+        }
+
+        return channelAccess.isAllowed(info, channel)
+                .flatMap(allowed -> {
+                    if (!allowed) {
+                        log.warn("Forbidden subscription - UserId: {}, Channel: {}", userId, channel.getName());
+                        reply(outbox, WebSocketMessageType.ERROR, channel.getName(), "Forbidden");
+                        return Mono.empty();
+                    }
+
+                    reply(outbox, WebSocketMessageType.SUBSCRIBED, channel.getName(), null);
+                    subscriptions.put(channel.getName(), open(channel, since, outbox));
+
+                    // 방 채널은 기존 /ws/rooms/{roomId}처럼 구독 직후 현재 방 정보를 전송
+                    return channel.isRoom()
+                            ? roomWebSocketHandler.sendInitialRoomData(channel.getRoomId(), outbox)
+                            : Mono.<Void>empty();
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to subscribe {} for user {}", channel.getName(), userId, e);
+                    reply(outbox, WebSocketMessageType.ERROR, channel.getName(), "Subscription failed");
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * @param since 게임 이벤트 채널이면 since 이후 놓친 이벤트(또는 SNAPSHOT)를 먼저 받음
+     */
+    private Subscription open(SubscriptionChannel channel, Long since, SessionOutbox outbox) {
+        if (channel.isRoom()) {
+            Sinks.Many<OutboundMessage> sink = roomWebSocketHandler.acquireRoomSink(channel.getRoomId());
+            return new Subscription(outbox.subscribe(sink.asFlux()),
+                    () -> roomWebSocketHandler.releaseRoomSink(channel.getRoomId()));
+        }
+        if (channel.isSpectate()) {
+            Sinks.Many<OutboundMessage> sink = spectatorRelay.acquire(channel.getGameId());
+            return new Subscription(outbox.subscribe(sink.asFlux()),
+                    () -> spectatorRelay.release(channel.getGameId()));
+        }
+        if (channel.isGameEvents()) {
+            Sinks.Many<OutboundMessage> sink = gameWebSocketHandler.acquireEventSink(channel.getGameId());
+            Disposable live = since != null
+                    ? gameWebSocketHandler.resume(channel.getGameId(), since, outbox, sink)
+                    : outbox.subscribe(sink.asFlux());
+            return new Subscription(live,
+                    () -> gameWebSocketHandler.releaseEventSink(channel.getGameId()));
+        }
+        Sinks.Many<OutboundMessage> sink =
+                gameWebSocketHandler.acquireChatSink(channel.getGameId(), channel.getChatType());
+        return new Subscription(outbox.subscribe(sink.asFlux()),
+                () -> gameWebSocketHandler.releaseChatSink(channel.getGameId(), channel.getChatType()));
+    }
+
+    /**
+     * 제어 응답은 공용 Sink가 아니라 이 세션 버퍼에만 적재
+     */
+    private void reply(SessionOutbox outbox, WebSocketMessageType type, String channel, String reason) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("channel", channel);
+        fields.put("data", reason != null ? Map.of("reason", reason) : null);
+        controlFrameWriter.write(outbox, type, fields);
+    }
+
+    /**
+     * 핸드셰이크 URI의 ?userId= (없거나 비어 있으면 null)
+     */
+    static String extractUserId(WebSocketSession session) {
+        String userId = UriComponentsBuilder.fromUri(session.getHandshakeInfo().getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("userId");
+        return userId == null || userId.isBlank() ? null : userId;
+    }
+
+    /**
+     * 채널 구독 하나 (세션 버퍼 연결 + 공용 Sink 연결 수)
+     */
+    private static class Subscription {
+        private final Disposable upstream;
+        private final Runnable release;
+
+        Subscription(Disposable upstream, Runnable release) {
+            this.upstream = upstream;
+            this.release = release;
+        }
+
+        void close() {
+            upstream.dispose();
+            release.run();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.MessageBrokerService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 채팅 시그널(SIGNAL) 전달: 입력 중 표시(TYPING), 리액션(REACTION)
+ * 1초만 지나도 의미가 없으므로 chat_messages/ChatService를 거치지 않고 채팅 채널 공용 Sink로 바로 전달
+ * - 사용자별 초당 max-per-second개까지 (넘으면 버림)
+ * - 같은 사용자/채널/종류/값은 dedup-window-ms 안에 한 번만
+ * - 세션 버퍼에서는 SIGNAL 레인 (혼잡하면 채팅보다 먼저 버림)
+ * - 이 노드의 Sink에 먼저 전달하고 다른 노드로는 채팅과 같은 토픽으로 best-effort 전파
+ * - ACK/ERROR 응답 없음, 재연결 버퍼에 기록하지 않음
+ * 권한은 보낼 채널을 고르는 쪽에서 GameChannelAccess로 확인한 뒤에만 relay 호출
+ * (경로별 채팅 소켓은 연결 시, 이벤트 소켓은 첫 시그널에서, 단일 세션은 구독할 때)
+ *
+ * 프레임: {"channel", "type": "SIGNAL", "data": {"userId", "kind", "value"}}
+ * 메트릭: mafia.ws.signal (outcome: relayed, rate_limited, duplicate, invalid)
+ */
+@Component
+public class SignalRelay {
+    private static final Logger log = LoggerFactory.getLogger(SignalRelay.class);
+
+    private static final String SIGNAL = "SIGNAL";
+    private static final Set<String> KINDS = Set.of("TYPING", "REACTION");
+    private static final int MAX_VALUE_LENGTH = 32;
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final SessionRegistry sessionRegistry;
+    private final FrameCodec frameCodec;
+    private final GameEventLoops gameEventLoops;
+    private final MessageBrokerService messageBrokerService;
+    private final SessionOutboxFactory outboxFactory;
+    private final int maxPerSecond;
+    private final long dedupWindowNanos;
+
+    private final Counter relayed;
+    private final Counter rateLimited;
+    private final Counter duplicate;
+    private final Counter invalid;
+
+    // userId -> 현재 1초 구간의 전송 수
+    private final Map<String, RateWindow> rates = new ConcurrentHashMap<>();
+    // userId|channel|kind|value -> 마지막으로 전달한 시각 (System.nanoTime())
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+
+    public SignalRelay(
+            SessionRegistry sessionRegistry,
+            FrameCodec frameCodec,
+            GameEventLoops gameEventLoops,
+            MessageBrokerService messageBrokerService,
+            SessionOutboxFactory outboxFactory,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.signal.max-per-second:5}") int maxPerSecond,
+            @Value("${mafia.ws.signal.dedup-window-ms:1000}") long dedupWindowMs) {
+        this.sessionRegistry = sessionRegistry;
+        this.frameCodec = frameCodec;
+        this.gameEventLoops = gameEventLoops;
+        this.messageBrokerService = messageBrokerService;
+        this.outboxFactory = outboxFactory;
+        this.maxPerSecond = maxPerSecond;
+        this.dedupWindowNanos = TimeUnit.MILLISECONDS.toNanos(dedupWindowMs);
+        this.relayed = outcomeCounter(meterRegistry, "relayed");
+        this.rateLimited = outcomeCounter(meterRegistry, "rate_limited");
+        this.duplicate = outcomeCounter(meterRegistry, "duplicate");
+        this.invalid = outcomeCounter(meterRegistry, "invalid");
+    }
+
+    public boolean supports(String action) {
+        return SIGNAL.equals(action);
+    }
+
+    /**
+     * {"action": "SIGNAL", "data": {"kind": "TYPING" | "REACTION", "value": "..."}}
+     * @param channel 방 채널 또는 게임 채팅 채널 (게임 이벤트/관전 채널이면 버림)
+     */
+    public void relay(String userId, SubscriptionChannel channel, JsonNode data) {
+        String kind = text(data, "kind");
+        String value = text(data, "value");
+        if (userId == null || channel == null || (!channel.isRoom() && channel.getChatType() == null)
+                || kind == null || !KINDS.contains(kind)
+                || (value != null && value.length() > MAX_VALUE_LENGTH)) {
+            invalid.increment();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (!firstInWindow(userId + "|" + channel.getName() + "|" + kind + "|" + value, now)) {
+            duplicate.increment();
+            return;
+        }
+        if (!tryAcquire(userId, now)) {
+            rateLimited.increment();
+            return;
+        }
+
+        Map<String, Object> signal = new LinkedHashMap<>();
+        signal.put("userId", userId);
+        signal.put("kind", kind);
+        signal.put("value", value);
+        relayed.increment();
+
+        if (channel.isRoom()) {
+            emitLocal(channel, signal);
+            publish(messageBrokerService.publishRoomUpdate(channel.getRoomId(), WebSocketMessageType.SIGNAL, signal));
+            return;
+        }
+        // 같은 게임 채팅과 같은 루프에서 emit
+        gameEventLoops.execute(channel.getGameId(), () -> emitLocal(channel, signal));
+        publish(messageBrokerService.publishGameSignal(
+                channel.getGameId(), channel.getChatType().toString(), signal));
+    }
+
+    /**
+     * 같은 시그널이 처음 들어온 뒤 dedup 구간 동안은 다시 보내지 않음
+     * (구간이 지나면 다시 전달하므로 입력 중 표시를 주기적으로 갱신할 수 있음)
+     */
+    private boolean firstInWindow(String key, long now) {
+        AtomicBoolean first = new AtomicBoolean(false);
+        recent.compute(key, (k, last) -> {
+            if (last != null && now - last < dedupWindowNanos) {
+                return last;
+            }
+            first.set(true);
+            return now;
+        });
+        return first.get();
+    }
+
+    private boolean tryAcquire(String userId, long now) {
+        RateWindow window = rates.compute(userId, (k, current) -> {
+            RateWindow next = current == null || now - current.getStartedAt() >= RATE_WINDOW_NANOS
+                    ? new RateWindow(now)
+                    : current;
+            next.count++;
+            return next;
+        });
+        return window.getCount() <= maxPerSecond;
+    }
+
+    private void emitLocal(SubscriptionChannel channel, Map<String, Object> signal) {
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(channel.getName());
+        if (sink == null) {
+            return;
+        }
+        try {
+            OutboundMessage message = frameCodec.encode(WebSocketMessageType.SIGNAL, Map.of(
+                    "channel", channel.getName(),
+                    "type", WebSocketMessageType.SIGNAL.name(),
+                    "data", signal
+            ));
+            try {
+                Sinks.EmitResult result = sink.tryEmitNext(message);
+                if (result.isFailure()) {
+                    outboxFactory.recordEmitFailure("signal", result);
+                }
+            } finally {
+                message.release();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to encode signal for {}: {}", channel.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 전파 실패는 무시 (다음 시그널이 곧 다시 옴)
+     */
+    private void publish(Mono<Long> publish) {
+        publish.onErrorResume(e -> Mono.empty()).subscribe();
+    }
+
+    /**
+     * 지난 구간의 rate/dedup 기록 정리
+     */
+    @Scheduled(fixedRateString = "${mafia.ws.signal.sweep-interval-ms:10000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        rates.values().removeIf(window -> now - window.getStartedAt() >= RATE_WINDOW_NANOS);
+        recent.values().removeIf(last -> now - last >= dedupWindowNanos);
+    }
+
+    private static String text(JsonNode data, String field) {
+        if (data == null || !data.hasNonNull(field)) {
+            return null;
+        }
+        return data.get(field).asText();
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mafia.ws.signal")
+                .description("들어온 채팅 시그널 수 (처리 결과별)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    private static class RateWindow {
+        private final long startedAt;
+        private int count; // compute 안에서만 변경
+
+        RateWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 관전 채널(game:{gameId}:spectate) 중계
+ * 노드당 게임 하나에 탭 하나만 두고, 관전자가 몇 명이든 같은 탭에서 fan-out
+ * - 탭은 게임 이벤트/전체 채팅 Sink의 구독자 하나 (브로커 구독도 노드당 하나라 관전자 수만큼 Redis 트래픽이 늘지 않음)
+ * - 역할 정보 필드를 지우고 delay-seconds만큼 늦춰서 한 번만 인코딩한 뒤 관전 Sink로 emit (고스팅 방지)
+ * - 관전자는 명령을 보낼 수 없고, 마피아/사망자 채팅과 본인 전용 이벤트는 받지 않음
+ *
+ * 메트릭:
+ * - mafia.ws.spectate.taps: 관전 탭이 열린 게임 수
+ * - mafia.ws.spectate.viewers: 이 노드의 관전자 수
+ * - mafia.ws.spectate.relayed: 관전 채널로 중계한 프레임 수 (관전자 수와 무관)
+ */
+@Component
+public class SpectatorRelay {
+    private static final Logger log = LoggerFactory.getLogger(SpectatorRelay.class);
+
+    private static final Set<WebSocketMessageType> RELAYED_TYPES = EnumSet.of(
+            WebSocketMessageType.PHASE_CHANGED,
+            WebSocketMessageType.PLAYER_DIED,
+            WebSocketMessageType.GAME_ENDED,
+            WebSocketMessageType.VOTE_UPDATED,
+            WebSocketMessageType.CHAT);
+    private static final Set<String> ROLE_FIELDS = Set.of("role", "roles", "targetRole");
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+    private final SessionRegistry sessionRegistry;
+    private final FrameCodec frameCodec;
+    private final GameEventLoops gameEventLoops;
+    private final ObjectMapper objectMapper;
+    private final Duration delay;
+
+    // gameId -> 이 노드의 관전 탭
+    private final Map<String, Disposable> taps = new ConcurrentHashMap<>();
+    private final Counter relayed;
+
+    public SpectatorRelay(
+            GameWebSocketHandler gameWebSocketHandler,
+            SessionRegistry sessionRegistry,
+            FrameCodec frameCodec,
+            GameEventLoops gameEventLoops,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.spectate.delay-seconds:30}") long delaySeconds) {
+        this.gameWebSocketHandler = gameWebSocketHandler;
+        this.sessionRegistry = sessionRegistry;
+        this.frameCodec = frameCodec;
+        this.gameEventLoops = gameEventLoops;
+        this.objectMapper = objectMapper;
+        this.delay = Duration.ofSeconds(delaySeconds);
+
+        Gauge.builder("mafia.ws.spectate.taps", taps, Map::size)
+                .description("관전 탭이 열린 게임 수")
+                .register(meterRegistry);
+        Gauge.builder("mafia.ws.spectate.viewers", taps, map -> map.keySet().stream()
+                        .mapToInt(gameId -> sessionRegistry.refCount(SubscriptionChannel.spectate(gameId).getName()))
+                        .sum())
+                .description("이 노드의 관전자 수")
+                .register(meterRegistry);
+        this.relayed = Counter.builder("mafia.ws.spectate.relayed")
+                .description("관전 채널로 중계한 프레임 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 관전 Sink 사용 등록 (첫 관전자면 탭을 엶)
+     */
+    public Sinks.Many<OutboundMessage> acquire(String gameId) {
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.acquire(SubscriptionChannel.spectate(gameId).getName());
+        taps.computeIfAbsent(gameId, this::openTap);
+        return sink;
+    }
+
+    /**
+     * 관전 Sink 사용 해제 (마지막 관전자면 탭을 닫음)
+     * 탭 해제는 다른 채널의 참조 수를 바꾸므로 레지스트리 compute 밖에서 실행
+     */
+    public void release(String gameId) {
+        AtomicReference<Disposable> removed = new AtomicReference<>();
+        sessionRegistry.release(SubscriptionChannel.spectate(gameId).getName(),
+                () -> removed.set(taps.remove(gameId)));
+        if (removed.get() != null) {
+            removed.get().dispose();
+        }
+    }
+
+    private Disposable openTap(String gameId) {
+        log.info("👀 Opening spectator tap for game: {} (delay: {}s)", gameId, delay.toSeconds());
+        Sinks.Many<OutboundMessage> events = gameWebSocketHandler.acquireEventSink(gameId);
+        Sinks.Many<OutboundMessage> chat = gameWebSocketHandler.acquireChatSink(gameId, ChatType.GAME_ALL);
+
+        // 원본 버퍼는 emit이 끝나면 해제되므로 변환은 emit 스레드에서 바로 수행
+        Flux<SpectatorFrame> frames = Flux.merge(
+                events.asFlux().mapNotNull(message -> strip(gameId, message)),
+                chat.asFlux().mapNotNull(message -> strip(gameId, message)));
+        if (!delay.isZero()) {
+            frames = frames.delaySequence(delay);
+        }
+
+        Disposable upstream = frames.subscribe(frame -> gameEventLoops.execute(gameId, () -> publish(gameId, frame)));
+        return () -> {
+            log.info("Closing spectator tap for game: {}", gameId);
+            upstream.dispose();
+            gameWebSocketHandler.releaseEventSink(gameId);
+            gameWebSocketHandler.releaseChatSink(gameId, ChatType.GAME_ALL);
+        };
+    }
+
+    /**
+     * 관전자에게 보낼 프레임 (중계 대상이 아니면 null)
+     */
+    SpectatorFrame strip(String gameId, OutboundMessage message) {
+        if (!RELAYED_TYPES.contains(message.getType())) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(message.getPayload());
+            if (!(node instanceof ObjectNode frame)) {
+                return null;
+            }
+            removeRoleFields(frame);
+            frame.put("channel", SubscriptionChannel.spectate(gameId).getName());
+            return new SpectatorFrame(message.getType(), frame);
+        } catch (Exception e) {
+            log.error("Failed to read {} frame for spectators of game {}", message.getType(), gameId, e);
+            return null;
+        }
+    }
+
+    private static void removeRoleFields(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.remove(ROLE_FIELDS);
+        }
+        node.forEach(SpectatorRelay::removeRoleFields);
+    }
+
+    private void publish(String gameId, SpectatorFrame frame) {
+        Sinks.Many<OutboundMessage> sink = sessionRegistry.sink(SubscriptionChannel.spectate(gameId).getName());
+        if (sink == null) {
+            return;
+        }
+        try {
+            OutboundMessage message = frameCodec.encode(frame.getType(), frame.getBody());
+            try {
+                Sinks.EmitResult result = sink.tryEmitNext(message);
+                if (result.isFailure()) {
+                    log.warn("Failed to emit {} to spectators of game {}: {}", frame.getType(), gameId, result);
+                } else {
+                    relayed.increment();
+                }
+            } finally {
+                message.release();
+            }
+        } catch (Exception e) {
+            log.error("Failed to encode {} for spectators of game {}", frame.getType(), gameId, e);
+        }
+    }
+
+    @Getter
+    static class SpectatorFrame {
+        private final WebSocketMessageType type;
+        private final ObjectNode body;
+
+        SpectatorFrame(WebSocketMessageType type, ObjectNode body) {
+            this.type = type;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 관전 전용 소켓 (/ws/games/{gameId}/spectate)
+ * 읽기 전용: 수신 프레임은 heartbeat(pong)만 처리하고 버림
+ */
+@Component
+public class SpectatorWebSocketHandler implements WebSocketHandler {
+    private static final Logger log = LoggerFactory.getLogger(SpectatorWebSocketHandler.class);
+
+    private final SpectatorRelay spectatorRelay;
+    private final SessionOutboxFactory outboxFactory;
+    private final SessionHeartbeatMonitor heartbeatMonitor;
+    private final FrameCodec frameCodec;
+    private final SessionRegistry sessionRegistry;
+
+    public SpectatorWebSocketHandler(
+            SpectatorRelay spectatorRelay,
+            SessionOutboxFactory outboxFactory,
+            SessionHeartbeatMonitor heartbeatMonitor,
+            FrameCodec frameCodec,
+            SessionRegistry sessionRegistry) {
+        this.spectatorRelay = spectatorRelay;
+        this.outboxFactory = outboxFactory;
+        this.heartbeatMonitor = heartbeatMonitor;
+        this.frameCodec = frameCodec;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        String gameId = extractGameId(session.getHandshakeInfo().getUri().getPath());
+        if (gameId == null) {
+            return session.close();
+        }
+
+        Sinks.Many<OutboundMessage> sink = spectatorRelay.acquire(gameId);
+        SessionOutbox outbox = outboxFactory.create(session);
+        // 관전자는 게임에 바인딩하지 않음 (참가자 대상 전송에서 제외)
+        SessionRegistry.SessionInfo info = sessionRegistry.register(
+                session, "spectate", SessionWebSocketHandler.extractUserId(session), outbox);
+        SessionHeartbeat heartbeat = heartbeatMonitor.start(session, "spectate");
+        WireFormat format = frameCodec.open(session);
+
+        Mono<Void> output = session.send(heartbeat.withPings(
+                outbox.attach(sink.asFlux()).map(message -> message.toWebSocketMessage(format))));
+        Mono<Void> input = session.receive()
+                .filter(heartbeat::onInbound)
+                .doOnNext(WebSocketMessage::release)
+                .then();
+
+        return Mono.zip(input, output).then()
+                .doFinally(signalType -> {
+                    log.debug("Spectator disconnected - GameId: {}, SessionId: {}, Signal: {}",
+                            gameId, session.getId(), signalType);
+                    heartbeatMonitor.stop(heartbeat);
+                    frameCodec.close(format);
+                    sessionRegistry.unregister(info);
+                    spectatorRelay.release(gameId);
+                });
+    }
+
+    private String extractGameId(String path) {
+        // /ws/games/{gameId}/spectate
+        String[] parts = path.split("/");
+        return parts.length >= 5 && !parts[3].isEmpty() ? parts[3] : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.ChatType;
+
+import lombok.Getter;
+
+/**
+ * 단일 세션(/ws/session)에서 구독하는 채널
+ * - room:{roomId}
+ * - game:{gameId}:events
+ * - game:{gameId}:all | mafia | dead
+ * - game:{gameId}:spectate: 관전 (지연 + 역할 정보 제거, 읽기 전용)
+ * - user:{userId}: 본인 전용 이벤트 (역할 공개, 경찰 조사 결과), 구독 없이 본인 세션에 자동 전달
+ * 공용 Sink로 나가는 모든 프레임에는 채널 이름이 "channel" 필드로 들어감
+ */
+@Getter
+public class SubscriptionChannel {
+    private static final String ROOM_PREFIX = "room:";
+    private static final String GAME_PREFIX = "game:";
+    private static final String USER_PREFIX = "user:";
+    private static final String EVENTS = "events";
+    private static final String SPECTATE = "spectate";
+
+    private final String name;
+    private final String roomId;
+    private final String gameId;
+    private final ChatType chatType; // 게임 이벤트 채널이면 null
+    private final String userId; // 본인 전용 채널만
+    private final boolean spectate;
+
+    private SubscriptionChannel(String name, String roomId, String gameId, ChatType chatType, String userId,
+            boolean spectate) {
+        this.name = name;
+        this.roomId = roomId;
+        this.gameId = gameId;
+        this.chatType = chatType;
+        this.userId = userId;
+        this.spectate = spectate;
+    }
+
+    public static SubscriptionChannel room(String roomId) {
+        return new SubscriptionChannel(ROOM_PREFIX + roomId, roomId, null, null, null, false);
+    }
+
+    public static SubscriptionChannel gameEvents(String gameId) {
+        return new SubscriptionChannel(GAME_PREFIX + gameId + ":" + EVENTS, null, gameId, null, null, false);
+    }
+
+    public static SubscriptionChannel gameChat(String gameId, ChatType chatType) {
+        String suffix = chatType.name().substring("GAME_".length()).toLowerCase();
+        return new SubscriptionChannel(GAME_PREFIX + gameId + ":" + suffix, null, gameId, chatType, null, false);
+    }
+
+    public static SubscriptionChannel spectate(String gameId) {
+        return new SubscriptionChannel(GAME_PREFIX + gameId + ":" + SPECTATE, null, gameId, null, null, true);
+    }
+
+    /**
+     * 본인 전용 채널 (공용 Sink 없이 SessionRegistry가 사용자 세션에 직접 적재하므로 parse 대상이 아님)
+     */
+    public static SubscriptionChannel user(String userId) {
+        return new SubscriptionChannel(USER_PREFIX + userId, null, null, null, userId, false);
+    }
+
+    /**
+     * 클라이언트가 보낸 채널 이름 파싱
+     * @return 알 수 없는 형식이면 null
+     */
+    public static SubscriptionChannel parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        if (name.startsWith(ROOM_PREFIX)) {
+            String roomId = name.substring(ROOM_PREFIX.length());
+            return roomId.isEmpty() || roomId.contains(":") ? null : room(roomId);
+        }
+        if (!name.startsWith(GAME_PREFIX)) {
+            return null;
+        }
+
+        String[] parts = name.substring(GAME_PREFIX.length()).split(":");
+        if (parts.length != 2 || parts[0].isEmpty()) {
+            return null;
+        }
+        if (EVENTS.equals(parts[1])) {
+            return gameEvents(parts[0]);
+        }
+        if (SPECTATE.equals(parts[1])) {
+            return spectate(parts[0]);
+        }
+        try {
+            ChatType chatType = ChatType.valueOf("GAME_" + parts[1].toUpperCase());
+            return gameChat(parts[0], chatType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public boolean isRoom() {
+        return roomId != null;
+    }
+
+    public boolean isGameEvents() {
+        return gameId != null && chatType == null && !spectate;
+    }
+
+    public boolean isUser() {
+        return userId != null;
+    }
+}
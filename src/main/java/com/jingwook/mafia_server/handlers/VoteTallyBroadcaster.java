@@ -0,0 +1,103 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.jingwook.mafia_server.enums.ActionType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.events.VoteCastEvent;
+import com.jingwook.mafia_server.services.GameService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 실시간 투표 집계(VOTE_UPDATED) 전송 (GET /games/{gameId}/votes 폴링 대체)
+ * - 투표가 저장될 때마다 바로 보내지 않고 게임별로 coalesce-ms 동안 모았다가 현재 집계를 한 번 조회해서 전송
+ * - seq 없이 전송 (다른 노드에는 전달, 재연결 버퍼에는 기록하지 않음), 재연결 후에는 GET /games/{gameId}/votes로 조회
+ * - 다른 노드에 저장된 투표는 그 노드가 따로 모아서 보냄 (집계는 항상 DB 기준 전체 값이라 순서가 섞여도 최신 값으로 수렴)
+ *
+ * 메트릭: mafia.ws.vote.coalesced (다른 투표와 합쳐져 따로 전송하지 않은 투표 수)
+ */
+@Component
+public class VoteTallyBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(VoteTallyBroadcaster.class);
+
+    private final GameService gameService;
+    private final GameWebSocketHandler gameWebSocketHandler;
+    private final long coalesceMs;
+    private final Counter coalesced;
+
+    // gameId -> 전송 대기 중인 투표 라운드 (있으면 이미 전송이 예약됨)
+    private final Map<String, VoteRound> pending = new ConcurrentHashMap<>();
+
+    public VoteTallyBroadcaster(
+            GameService gameService,
+            GameWebSocketHandler gameWebSocketHandler,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.ws.vote.coalesce-ms:100}") long coalesceMs) {
+        this.gameService = gameService;
+        this.gameWebSocketHandler = gameWebSocketHandler;
+        this.coalesceMs = coalesceMs;
+        this.coalesced = Counter.builder("mafia.ws.vote.coalesced")
+                .description("다른 투표와 합쳐져 따로 전송하지 않은 투표 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void handleVoteCastEvent(VoteCastEvent event) {
+        String gameId = event.getGameId();
+        VoteRound round = new VoteRound(event.getDayCount(), event.getType());
+        if (pending.put(gameId, round) != null) {
+            coalesced.increment();
+            return;
+        }
+        Schedulers.parallel().schedule(() -> flush(gameId), coalesceMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 라운드를 꺼내고 나서 조회하므로, 조회 중에 들어온 투표는 다음 전송으로 넘어감
+     */
+    private void flush(String gameId) {
+        VoteRound round = pending.remove(gameId);
+        if (round == null) {
+            return;
+        }
+        gameService.getVoteCounts(gameId, round.getDayCount(), round.getType())
+                .subscribe(
+                        voteCount -> gameWebSocketHandler.dispatchTransientGameEvent(
+                                gameId, WebSocketMessageType.VOTE_UPDATED, tally(gameId, round, voteCount)),
+                        error -> log.error("Failed to load vote counts for game: {}", gameId, error));
+    }
+
+    private Map<String, Object> tally(String gameId, VoteRound round, Map<String, Long> voteCount) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("gameId", gameId);
+        data.put("dayCount", round.getDayCount());
+        data.put("voteType", round.getType().name());
+        data.put("voteCount", voteCount);
+        data.put("totalVotes", voteCount.values().stream().mapToLong(Long::longValue).sum());
+        return data;
+    }
+
+    @Getter
+    private static class VoteRound {
+        private final int dayCount;
+        private final ActionType type;
+
+        VoteRound(int dayCount, ActionType type) {
+            this.dayCount = dayCount;
+            this.type = type;
+        }
+    }
+}
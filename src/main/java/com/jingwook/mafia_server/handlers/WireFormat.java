@@ -0,0 +1,35 @@
+package com.jingwook.mafia_server.handlers;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WebSocket 서브프로토콜로 협상하는 프레임 포맷
+ * - 클라이언트가 Sec-WebSocket-Protocol로 요청하지 않으면 JSON(텍스트 프레임)
+ * - mafia.cbor를 요청하면 송신/수신 모두 CBOR(바이너리 프레임)
+ */
+public enum WireFormat {
+    JSON("mafia.json"),
+    CBOR("mafia.cbor");
+
+    private final String subProtocol;
+
+    WireFormat(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    public String getSubProtocol() {
+        return subProtocol;
+    }
+
+    public static List<String> subProtocols() {
+        return Arrays.stream(values()).map(WireFormat::getSubProtocol).toList();
+    }
+
+    public static WireFormat fromSubProtocol(String subProtocol) {
+        return Arrays.stream(values())
+                .filter(format -> format.subProtocol.equals(subProtocol))
+                .findFirst()
+                .orElse(JSON);
+    }
+}
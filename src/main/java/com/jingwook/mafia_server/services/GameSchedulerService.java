@@ -1,7 +1,9 @@
 package com.jingwook.mafia_server.services;
 
 import com.jingwook.mafia_server.entities.GameEntity;
+import com.jingwook.mafia_server.exceptions.LockNotAcquiredException;
 import com.jingwook.mafia_server.repositories.GameR2dbcRepository;
+import com.jingwook.mafia_server.utils.RedisKeys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,20 +21,20 @@ public class GameSchedulerService {
 
     private final GameR2dbcRepository gameRepository;
     private final GameService gameService;
-    private final RedisLockService redisLockService;
+    private final LockService lockService;
 
     public GameSchedulerService(
             GameR2dbcRepository gameRepository,
             GameService gameService,
-            RedisLockService redisLockService) {
+            LockService lockService) {
         this.gameRepository = gameRepository;
         this.gameService = gameService;
-        this.redisLockService = redisLockService;
+        this.lockService = lockService;
     }
 
     /**
      * 1초마다 진행 중인 게임들의 페이즈 시간을 체크하여 자동으로 다음 페이즈로 전환
-     * Redis 분산 락을 사용하여 여러 서버에서 중복 처리 방지
+     * 분산 락을 사용하여 여러 서버에서 중복 처리 방지
      */
     @Scheduled(fixedRate = 1000)
     public void checkPhaseTimeouts() {
@@ -74,13 +76,13 @@ public class GameSchedulerService {
 
     /**
      * 분산 락을 사용하여 게임 처리
-     * 락 키: phase:transition:{gameId}
+     * 락 키: phase:transition:{gameId} (해시 태그 포함)
      */
     private Mono<Void> processExpiredGameWithLock(GameEntity game) {
-        String lockKey = "phase:transition:" + game.getId();
+        String lockKey = RedisKeys.phaseTransitionLock(game.getId());
 
-        return redisLockService.executeWithLock(lockKey, processExpiredGame(game))
-                .onErrorResume(RedisLockService.LockNotAcquiredException.class, error -> {
+        return lockService.executeWithLock(lockKey, processExpiredGame(game))
+                .onErrorResume(LockNotAcquiredException.class, error -> {
                     log.debug("Another server is processing game: {}", game.getId());
                     return Mono.empty();
                 })
@@ -0,0 +1,18 @@
+package com.jingwook.mafia_server.services;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 게임 이벤트 seq 발급 (모든 노드가 같은 카운터를 사용해야 seq가 겹치지 않음)
+ * - 기본: Redis INCR ({@link RedisGameSequenceService})
+ * - standalone 프로필: 노드가 하나뿐이므로 노드 카운터(GameEventLog) 사용 ({@link LocalGameSequenceService})
+ */
+public interface GameSequenceService {
+
+    /**
+     * 게임의 다음 이벤트 seq
+     * @param floor 이 노드가 이미 기록한 마지막 seq (서킷 open 동안 노드 카운터로 쓴 seq와 겹치지 않도록 이보다 큰 값을 발급)
+     * @return 비어 있으면 노드 카운터로 발급 (standalone, Redis 서킷 open)
+     */
+    Mono<Long> next(String gameId, long floor);
+}
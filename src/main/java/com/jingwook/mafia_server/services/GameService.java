@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -32,10 +34,13 @@ import com.jingwook.mafia_server.enums.DeathReason;
 import com.jingwook.mafia_server.enums.GamePhase;
 import com.jingwook.mafia_server.enums.PlayerRole;
 import com.jingwook.mafia_server.enums.Team;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
 import com.jingwook.mafia_server.events.GameEndedEvent;
 import com.jingwook.mafia_server.events.GameStartedEvent;
 import com.jingwook.mafia_server.events.PhaseChangedEvent;
 import com.jingwook.mafia_server.events.PlayerDiedEvent;
+import com.jingwook.mafia_server.events.PrivateGameEvent;
+import com.jingwook.mafia_server.events.VoteCastEvent;
 import com.jingwook.mafia_server.repositories.GameActionR2dbcRepository;
 import com.jingwook.mafia_server.repositories.GamePlayerR2dbcRepository;
 import com.jingwook.mafia_server.repositories.GameR2dbcRepository;
@@ -46,6 +51,8 @@ import reactor.core.publisher.Mono;
 
 @Service
 public class GameService {
+    private static final Logger log = LoggerFactory.getLogger(GameService.class);
+
     private final GameR2dbcRepository gameRepository;
     private final GamePlayerR2dbcRepository gamePlayerRepository;
     private final GameActionR2dbcRepository gameActionRepository;
@@ -79,12 +86,24 @@ public class GameService {
     public Mono<GameStateResponse> startGame(String roomId) {
         return checkNoActiveGame(roomId)
                 .then(createNewGame(roomId))
-                .flatMap(game -> initializeGamePlayers(game, roomId))
-                .map(this::buildGameStateResponse)
-                .doOnSuccess(gameState -> {
+                .zipWhen(game -> initializeGamePlayers(game, roomId))
+                .doOnSuccess(tuple -> {
                     // 게임 시작 이벤트 발행
-                    eventPublisher.publishEvent(new GameStartedEvent(roomId, gameState.getGameId()));
-                });
+                    eventPublisher.publishEvent(new GameStartedEvent(roomId, tuple.getT1().getId()));
+                    // 참가자별 역할 공개 (본인에게만)
+                    tuple.getT2().forEach(this::publishRoleAssigned);
+                })
+                .map(tuple -> buildGameStateResponse(tuple.getT1()));
+    }
+
+    private void publishRoleAssigned(GamePlayerEntity player) {
+        MyRoleResponse role = MyRoleResponse.builder()
+                .role(player.getRoleAsEnum())
+                .isAlive(player.getIsAlive())
+                .position(player.getPosition())
+                .build();
+        eventPublisher.publishEvent(new PrivateGameEvent(
+                player.getGameId(), player.getUserId(), WebSocketMessageType.ROLE_ASSIGNED, role));
     }
 
     private Mono<Void> checkNoActiveGame(String roomId) {
@@ -109,11 +128,10 @@ public class GameService {
         return gameRepository.save(game);
     }
 
-    private Mono<GameEntity> initializeGamePlayers(GameEntity game, String roomId) {
+    private Mono<List<GamePlayerEntity>> initializeGamePlayers(GameEntity game, String roomId) {
         return roomMemberRepository.findByRoomId(roomId)
                 .collectList()
-                .flatMap(members -> assignRolesAndSavePlayers(game.getId(), members))
-                .thenReturn(game);
+                .flatMap(members -> assignRolesAndSavePlayers(game.getId(), members));
     }
 
     private GameStateResponse buildGameStateResponse(GameEntity game) {
@@ -131,13 +149,13 @@ public class GameService {
                 .build();
     }
 
-    private Mono<Void> assignRolesAndSavePlayers(String gameId, List<RoomMemberEntity> members) {
+    private Mono<List<GamePlayerEntity>> assignRolesAndSavePlayers(String gameId, List<RoomMemberEntity> members) {
         return validatePlayerCount(members)
                 .then(Mono.defer(() -> {
                     // 도메인 로직으로 역할 생성 및 셔플
                     List<PlayerRole> shuffledRoles = Game.createShuffledRoles();
                     List<GamePlayerEntity> players = createGamePlayers(gameId, members, shuffledRoles);
-                    return gamePlayerRepository.saveAll(players).then();
+                    return gamePlayerRepository.saveAll(players).collectList();
                 }));
     }
 
@@ -262,7 +280,17 @@ public class GameService {
                 game.getDefendantUserId())) {
             return Mono.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 행동을 할 수 없습니다"));
         }
-        return replaceAction(game, dto);
+        return replaceAction(game, dto)
+                .doOnSuccess(saved -> publishVoteCast(game, dto.getType()));
+    }
+
+    /**
+     * 투표가 저장되면 실시간 집계 갱신 이벤트 발행 (VoteTallyBroadcaster가 게임별로 모아서 전송)
+     */
+    private void publishVoteCast(GameEntity game, ActionType type) {
+        if (type == ActionType.VOTE || type == ActionType.FINAL_VOTE) {
+            eventPublisher.publishEvent(new VoteCastEvent(game.getId(), game.getDayCount(), type));
+        }
     }
 
     private Mono<Void> replaceAction(GameEntity game, RegisterActionDto dto) {
@@ -286,6 +314,15 @@ public class GameService {
         return gameActionRepository.save(action).then();
     }
 
+    /**
+     * 대상별 득표 수 (VOTE: 지목된 사람, FINAL_VOTE: 처형 찬성이면 재판 대상자)
+     */
+    public Mono<Map<String, Long>> getVoteCounts(String gameId, int dayCount, ActionType type) {
+        return gameActionRepository.findByGameIdAndDayCountAndType(gameId, dayCount, type.toString())
+                .filter(action -> action.getTargetUserId() != null)
+                .collect(Collectors.groupingBy(GameActionEntity::getTargetUserId, Collectors.counting()));
+    }
+
     public Mono<VoteStatusResponse> getVoteStatus(String gameId, Integer dayCount) {
         return Mono.zip(
                 gameActionRepository.findByGameIdAndDayCountAndType(
@@ -387,6 +424,8 @@ public class GameService {
         // VOTE 페이즈에서 처형 대상자 ID 가져오기
         GamePhase currentPhase = gameEntity.getCurrentPhaseAsEnum();
         String executedUserId = (currentPhase == GamePhase.VOTE) ? result.getExecutedUserId() : null;
+        // 전환 전 일차 (밤 -> 낮에서 일차가 바뀌므로 경찰 조사 결과 조회용으로 보관)
+        Integer phaseDayCount = gameEntity.getDayCount();
 
         // 도메인 로직 실행
         Game nextPhaseGame = gameEntity.toDomain()
@@ -406,6 +445,10 @@ public class GameService {
                             savedGame.getId(),
                             response));
                 })
+                // 밤이 끝난 전환이 저장된 뒤에만 경찰 조사 결과 전달 (저장 실패 시 재시도하는 밤에 중복 전달하지 않음)
+                .then(currentPhase == GamePhase.NIGHT
+                        ? publishPoliceResults(gameEntity.getId(), phaseDayCount)
+                        : Mono.<Void>empty())
                 .thenReturn(response);
     }
 
@@ -429,6 +472,30 @@ public class GameService {
                 .flatMap(tuple -> executeNightKill(game, tuple.getT1(), tuple.getT2()));
     }
 
+    /**
+     * 이번 밤의 경찰 조사 결과를 조사한 경찰에게만 한 번 전달
+     * 밤 -> 낮 전환이 저장된 뒤 호출, 조회에 실패해도 전환 결과에는 영향 없음 (REST 조회로 다시 확인 가능)
+     */
+    private Mono<Void> publishPoliceResults(String gameId, Integer dayCount) {
+        return gameActionRepository.findByGameIdAndDayCountAndType(
+                gameId, dayCount, ActionType.POLICE_CHECK.toString())
+                .flatMap(action -> gamePlayerRepository.findByGameIdAndUserId(gameId, action.getTargetUserId())
+                        .flatMap(targetPlayer -> userRepository.findById(targetPlayer.getUserId())
+                                .map(user -> PoliceCheckResultResponse.CheckResult.builder()
+                                        .targetUserId(targetPlayer.getUserId())
+                                        .targetUsername(user.getNickname())
+                                        .targetRole(convertRoleForPolice(targetPlayer.getRoleAsEnum()))
+                                        .dayCount(action.getDayCount())
+                                        .build()))
+                        .doOnNext(result -> eventPublisher.publishEvent(new PrivateGameEvent(
+                                gameId, action.getActorUserId(), WebSocketMessageType.POLICE_RESULT, result))))
+                .onErrorResume(e -> {
+                    log.error("Failed to publish police results for game: {}", gameId, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
     private Mono<String> getMafiaKillTarget(GameEntity game) {
         return gameActionRepository.findByGameIdAndDayCountAndType(
                 game.getId(), game.getDayCount(), ActionType.MAFIA_KILL.toString())
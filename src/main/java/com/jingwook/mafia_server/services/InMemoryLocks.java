@@ -0,0 +1,106 @@
+package com.jingwook.mafia_server.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jingwook.mafia_server.exceptions.LockNotAcquiredException;
+
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * JVM 내 락 테이블 (빈이 아닌 일반 객체, LocalLockService가 사용)
+ * Redis 락과 같은 의미(토큰, TTL, 재시도)를 ConcurrentHashMap의 원자 연산으로 구현
+ * 노드가 하나뿐인 standalone 프로필 전용 (여러 노드에서는 배타성을 보장하지 못하므로 Redis 장애 시 대체로 쓰지 않음)
+ */
+class InMemoryLocks {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryLocks.class);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+    private static final Duration RETRY_DELAY = Duration.ofMillis(100);
+    private static final int MAX_RETRY_ATTEMPTS = 50;
+
+    private final long ttlMillis;
+    private final Duration retryDelay;
+    private final int maxRetryAttempts;
+    private final LongSupplier clock;
+
+    // lockKey -> 현재 보유 중인 락
+    private final Map<String, LockEntry> locks = new ConcurrentHashMap<>();
+
+    InMemoryLocks() {
+        this(LOCK_TTL, RETRY_DELAY, MAX_RETRY_ATTEMPTS, System::currentTimeMillis);
+    }
+
+    InMemoryLocks(Duration ttl, Duration retryDelay, int maxRetryAttempts, LongSupplier clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.retryDelay = retryDelay;
+        this.maxRetryAttempts = maxRetryAttempts;
+        this.clock = clock;
+    }
+
+    Mono<String> acquire(String lockKey) {
+        String lockToken = UUID.randomUUID().toString();
+
+        return Mono.fromCallable(() -> tryAcquire(lockKey, lockToken))
+                .flatMap(acquired -> {
+                    if (acquired) {
+                        log.debug("Lock acquired: {} with token: {}", lockKey, lockToken);
+                        return Mono.just(lockToken);
+                    } else {
+                        return Mono.error(new LockNotAcquiredException("Failed to acquire lock: " + lockKey));
+                    }
+                })
+                .retryWhen(Retry.backoff(maxRetryAttempts, retryDelay)
+                        .filter(throwable -> throwable instanceof LockNotAcquiredException)
+                        .doBeforeRetry(signal -> log.debug("Retrying to acquire lock: {}", lockKey)))
+                .doOnError(error -> log.warn("Failed to acquire lock after retries: {}", lockKey));
+    }
+
+    Mono<Void> release(String lockKey, String lockToken) {
+        return Mono.fromRunnable(() -> {
+            LockEntry remaining = locks.computeIfPresent(lockKey,
+                    (key, entry) -> entry.getToken().equals(lockToken) ? null : entry);
+            if (remaining != null) {
+                log.warn("Lock token mismatch for key: {}. Lock not released.", lockKey);
+            } else {
+                log.debug("Lock released: {}", lockKey);
+            }
+        });
+    }
+
+    /**
+     * 비어 있거나 만료된 락만 새 토큰으로 교체 (SET NX PX와 동일한 의미)
+     */
+    private boolean tryAcquire(String lockKey, String lockToken) {
+        long now = clock.getAsLong();
+        LockEntry current = locks.compute(lockKey, (key, existing) ->
+                existing == null || existing.isExpired(now)
+                        ? new LockEntry(lockToken, now + ttlMillis)
+                        : existing);
+        return current.getToken().equals(lockToken);
+    }
+
+    private static class LockEntry {
+        private final String token;
+        private final long expiresAt;
+
+        LockEntry(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.enums.ActionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 액션을 JVM 메모리에 임시 저장하는 서비스 (standalone 프로필)
+ * Redis 구현과 같은 키 구조를 사용하고, KEYS 패턴 조회는 prefix 필터로 대체
+ */
+@Service
+@Profile("standalone")
+public class LocalGameActionCacheService implements GameActionCacheService {
+    private static final Logger log = LoggerFactory.getLogger(LocalGameActionCacheService.class);
+
+    // "gameId:dayCount:actionType:actorUserId" -> 액션 데이터
+    private final Map<String, Map<String, Object>> actions = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> saveAction(String gameId, int dayCount, ActionType actionType,
+                                 String actorUserId, String targetUserId) {
+        String key = buildActionKey(gameId, dayCount, actionType, actorUserId);
+
+        Map<String, Object> actionData = new HashMap<>();
+        actionData.put("gameId", gameId);
+        actionData.put("dayCount", dayCount);
+        actionData.put("actionType", actionType.toString());
+        actionData.put("actorUserId", actorUserId);
+        actionData.put("targetUserId", targetUserId);
+
+        return Mono.fromRunnable(() -> {
+            actions.put(key, actionData);
+            log.debug("Saved action to cache: {}", key);
+        });
+    }
+
+    @Override
+    public Flux<Map<String, Object>> getActionsByType(String gameId, int dayCount, ActionType actionType) {
+        String prefix = gameId + ":" + dayCount + ":" + actionType + ":";
+
+        return Flux.defer(() -> Flux.fromIterable(actions.entrySet()))
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getValue);
+    }
+
+    @Override
+    public Mono<Void> deleteAction(String gameId, int dayCount, ActionType actionType, String actorUserId) {
+        String key = buildActionKey(gameId, dayCount, actionType, actorUserId);
+        return Mono.fromRunnable(() -> actions.remove(key));
+    }
+
+    @Override
+    public Mono<Void> clearDayActions(String gameId, int dayCount) {
+        String prefix = gameId + ":" + dayCount + ":";
+        return Mono.fromRunnable(() -> {
+            actions.keySet().removeIf(key -> key.startsWith(prefix));
+            log.debug("Cleared all actions for game {} day {}", gameId, dayCount);
+        });
+    }
+
+    private String buildActionKey(String gameId, int dayCount, ActionType actionType, String actorUserId) {
+        return gameId + ":" + dayCount + ":" + actionType + ":" + actorUserId;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.entities.GameEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 상태를 JVM 메모리에 캐싱하는 서비스 (standalone 프로필)
+ * TTL은 조회 시점에 만료 여부를 확인해서 적용
+ */
+@Service
+@Profile("standalone")
+public class LocalGameCacheService implements GameCacheService {
+    private static final Logger log = LoggerFactory.getLogger(LocalGameCacheService.class);
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    private final Map<String, CachedGame> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> cacheGameState(String gameId, GameEntity gameEntity) {
+        return Mono.fromRunnable(() -> {
+            cache.put(gameId, new CachedGame(gameEntity, System.currentTimeMillis() + CACHE_TTL.toMillis()));
+            log.debug("Cached game state for gameId: {}", gameId);
+        });
+    }
+
+    @Override
+    public Mono<GameEntity> getGameStateFromCache(String gameId) {
+        return Mono.fromSupplier(() -> {
+            CachedGame cached = cache.get(gameId);
+            if (cached == null) {
+                log.debug("Cache miss for gameId: {}", gameId);
+                return null;
+            }
+            if (cached.isExpired(System.currentTimeMillis())) {
+                cache.remove(gameId, cached);
+                log.debug("Cache expired for gameId: {}", gameId);
+                return null;
+            }
+            log.debug("Cache hit for gameId: {}", gameId);
+            return cached.getGame();
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidateGameState(String gameId) {
+        return Mono.fromRunnable(() -> {
+            cache.remove(gameId);
+            log.debug("Invalidated cache for gameId: {}", gameId);
+        });
+    }
+
+    @Override
+    public Mono<Void> removeGameState(String gameId) {
+        return invalidateGameState(gameId);
+    }
+
+    private static class CachedGame {
+        private final GameEntity game;
+        private final long expiresAt;
+
+        CachedGame(GameEntity game, long expiresAt) {
+            this.game = game;
+            this.expiresAt = expiresAt;
+        }
+
+        GameEntity getGame() {
+            return game;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
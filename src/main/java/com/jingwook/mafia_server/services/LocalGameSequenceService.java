@@ -0,0 +1,20 @@
+package com.jingwook.mafia_server.services;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 단일 노드(standalone) 모드용 seq 발급
+ * 노드가 하나뿐이라 노드 카운터가 곧 유일한 발급처이므로 항상 비어 있는 결과를 반환
+ */
+@Service
+@Profile("standalone")
+public class LocalGameSequenceService implements GameSequenceService {
+
+    @Override
+    public Mono<Long> next(String gameId, long floor) {
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jingwook.mafia_server.services;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * JVM 내 락 서비스 (standalone 프로필)
+ * 락 테이블은 InMemoryLocks (토큰, TTL, 재시도 의미가 RedisLockService와 같음)
+ */
+@Service
+@Profile("standalone")
+public class LocalLockService implements LockService {
+    private final InMemoryLocks locks;
+
+    public LocalLockService() {
+        this(new InMemoryLocks());
+    }
+
+    LocalLockService(InMemoryLocks locks) {
+        this.locks = locks;
+    }
+
+    @Override
+    public Mono<String> acquireLock(String lockKey) {
+        return locks.acquire(lockKey);
+    }
+
+    @Override
+    public Mono<Void> releaseLock(String lockKey, String lockToken) {
+        return locks.release(lockKey, lockToken);
+    }
+}
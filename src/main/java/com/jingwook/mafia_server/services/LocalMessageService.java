@@ -0,0 +1,70 @@
+package com.jingwook.mafia_server.services;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.jingwook.mafia_server.dtos.BrokerMessage;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 단일 노드(standalone) 모드용 브로커
+ * 핸들러가 이미 프로세스 내 Sink로 직접 전달하므로 전파할 다른 노드가 없다
+ * 네트워크 왕복 없이 즉시 완료됨
+ */
+@Service
+@Profile("standalone")
+public class LocalMessageService implements MessageBrokerService {
+
+    @Override
+    public Mono<Long> publishRoomUpdate(String roomId, WebSocketMessageType type, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> publishGameChat(String gameId, String chatType, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> publishGameSignal(String gameId, String chatType, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> publishGameEvent(String gameId, long seq, WebSocketMessageType eventType, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> publishTransientGameEvent(String gameId, WebSocketMessageType eventType, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> publishPrivateEvent(String gameId, String userId, WebSocketMessageType eventType, Object data) {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToRoomUpdates() {
+        return Flux.never();
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToGameChat() {
+        return Flux.never();
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToGameEvents() {
+        return Flux.never();
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToPrivateEvents() {
+        return Flux.never();
+    }
+}
@@ -0,0 +1,105 @@
+package com.jingwook.mafia_server.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 투표를 JVM 메모리에서 관리하는 서비스 (standalone 프로필)
+ * 게임/일차별 투표 상태 하나를 통째로 compute 안에서 갱신해서 투표와 카운트를 원자적으로 유지
+ */
+@Service
+@Profile("standalone")
+public class LocalVoteCacheService implements VoteCacheService {
+    private static final Logger log = LoggerFactory.getLogger(LocalVoteCacheService.class);
+
+    // "gameId:dayCount" -> 투표 상태
+    private final Map<String, DayVotes> votesByDay = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> vote(String gameId, int dayCount, String voterUserId, String targetUserId) {
+        return Mono.<Void>fromRunnable(() -> votesByDay.compute(buildKey(gameId, dayCount), (key, dayVotes) -> {
+                    DayVotes updated = dayVotes != null ? dayVotes : new DayVotes();
+                    updated.vote(voterUserId, targetUserId);
+                    return updated;
+                }))
+                .doOnSuccess(v -> log.debug("Voted: {} -> {} (game:{}, day:{})",
+                        voterUserId, targetUserId, gameId, dayCount));
+    }
+
+    @Override
+    public Mono<Map<Object, Object>> getVoteCounts(String gameId, int dayCount) {
+        return Mono.fromSupplier(() -> snapshot(gameId, dayCount, true));
+    }
+
+    @Override
+    public Mono<Map<Object, Object>> getAllVotes(String gameId, int dayCount) {
+        return Mono.fromSupplier(() -> snapshot(gameId, dayCount, false));
+    }
+
+    @Override
+    public Mono<Void> cancelVote(String gameId, int dayCount, String voterUserId) {
+        return Mono.<Void>fromRunnable(() -> votesByDay.computeIfPresent(buildKey(gameId, dayCount), (key, dayVotes) -> {
+                    dayVotes.cancel(voterUserId);
+                    return dayVotes;
+                }))
+                .doOnSuccess(v -> log.debug("Cancelled vote for voter: {}", voterUserId));
+    }
+
+    @Override
+    public Mono<Void> clearVotes(String gameId, int dayCount) {
+        return Mono.<Void>fromRunnable(() -> votesByDay.remove(buildKey(gameId, dayCount)))
+                .doOnSuccess(v -> log.debug("Cleared votes for game:{}, day:{}", gameId, dayCount));
+    }
+
+    private Map<Object, Object> snapshot(String gameId, int dayCount, boolean counts) {
+        Map<Object, Object> result = new HashMap<>();
+        votesByDay.computeIfPresent(buildKey(gameId, dayCount), (key, dayVotes) -> {
+            result.putAll(counts ? dayVotes.getCounts() : dayVotes.getVotes());
+            return dayVotes;
+        });
+        return result;
+    }
+
+    private String buildKey(String gameId, int dayCount) {
+        return gameId + ":" + dayCount;
+    }
+
+    /**
+     * 한 게임의 하루치 투표 (compute 안에서만 접근)
+     */
+    private static class DayVotes {
+        private final Map<String, String> votes = new HashMap<>();
+        private final Map<String, Long> counts = new HashMap<>();
+
+        void vote(String voterUserId, String targetUserId) {
+            String oldTarget = votes.put(voterUserId, targetUserId);
+            if (oldTarget != null) {
+                counts.merge(oldTarget, -1L, Long::sum);
+            }
+            counts.merge(targetUserId, 1L, Long::sum);
+        }
+
+        void cancel(String voterUserId) {
+            String target = votes.remove(voterUserId);
+            if (target != null) {
+                counts.merge(target, -1L, Long::sum);
+            }
+        }
+
+        Map<String, String> getVotes() {
+            return votes;
+        }
+
+        Map<String, Long> getCounts() {
+            return counts;
+        }
+    }
+}
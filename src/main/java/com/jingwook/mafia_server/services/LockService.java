@@ -0,0 +1,38 @@
+package com.jingwook.mafia_server.services;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 락 서비스
+ * 여러 서버 인스턴스(또는 스레드)에서 동시에 같은 작업을 하지 않도록 보장
+ * - 기본: Redis 분산 락 ({@link RedisLockService})
+ * - standalone 프로필: JVM 내 락 ({@link LocalLockService})
+ */
+public interface LockService {
+
+    /**
+     * 락 획득 시도 (재시도 포함)
+     * @param lockKey 락 키
+     * @return 락 토큰 (해제 시 필요)
+     */
+    Mono<String> acquireLock(String lockKey);
+
+    /**
+     * 락 해제
+     * @param lockKey 락 키
+     * @param lockToken 락 획득 시 받은 토큰
+     */
+    Mono<Void> releaseLock(String lockKey, String lockToken);
+
+    /**
+     * 락을 획득하고 작업을 수행한 후 자동으로 락 해제
+     * @param lockKey 락 키
+     * @param task 수행할 작업
+     */
+    default <T> Mono<T> executeWithLock(String lockKey, Mono<T> task) {
+        return acquireLock(lockKey)
+                .flatMap(lockToken -> task
+                        .doFinally(signalType -> releaseLock(lockKey, lockToken).subscribe())
+                );
+    }
+}
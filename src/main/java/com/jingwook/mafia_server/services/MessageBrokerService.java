@@ -0,0 +1,82 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.dtos.BrokerMessage;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 노드 간 WebSocket 메시지 전파
+ * 핸들러는 자기 노드의 Sink에 먼저 직접 전달하고, 다른 노드로의 전파만 브로커에 맡긴다
+ * - 기본: Redis Pub/Sub ({@link RedisMessageService})
+ * - standalone 프로필: 다른 노드가 없으므로 전파 없음 ({@link LocalMessageService})
+ */
+public interface MessageBrokerService {
+
+    /**
+     * 방 메시지 발행 (방 업데이트, 대기실 채팅, 대기실 시그널, 게임 시작)
+     */
+    Mono<Long> publishRoomUpdate(String roomId, WebSocketMessageType type, Object data);
+
+    /**
+     * 게임 채팅 메시지 발행
+     */
+    Mono<Long> publishGameChat(String gameId, String chatType, Object data);
+
+    /**
+     * 게임 채팅 시그널 발행 (입력 중 표시, 리액션)
+     * 채팅과 같은 채널로 전파하되 type이 SIGNAL, 실패해도 재시도하지 않음 (best-effort)
+     */
+    Mono<Long> publishGameSignal(String gameId, String chatType, Object data);
+
+    /**
+     * 게임 이벤트 메시지 발행
+     * @param seq 발행 노드가 매긴 게임별 이벤트 시퀀스 (수신 노드도 같은 seq로 재연결 버퍼에 기록)
+     */
+    Mono<Long> publishGameEvent(String gameId, long seq, WebSocketMessageType eventType, Object data);
+
+    /**
+     * seq 없는 게임 이벤트 발행 (VOTE_UPDATED처럼 매번 최신 전체 값을 보내는 이벤트)
+     * 수신 노드는 재연결 버퍼에 기록하지 않고 로컬 세션에만 전달
+     */
+    Mono<Long> publishTransientGameEvent(String gameId, WebSocketMessageType eventType, Object data);
+
+    /**
+     * 본인 전용 게임 이벤트 발행 (역할 공개, 경찰 조사 결과)
+     * 사용자의 세션이 어느 노드에 있는지 모르므로 모든 노드로 전파
+     */
+    Mono<Long> publishPrivateEvent(String gameId, String userId, WebSocketMessageType eventType, Object data);
+
+    /**
+     * 다른 노드에서 발행한 방 메시지 구독
+     */
+    Flux<BrokerMessage> subscribeToRoomUpdates();
+
+    /**
+     * 다른 노드에서 발행한 게임 채팅/시그널 구독 (type으로 구분)
+     */
+    Flux<BrokerMessage> subscribeToGameChat();
+
+    /**
+     * 다른 노드에서 발행한 게임 이벤트 구독
+     */
+    Flux<BrokerMessage> subscribeToGameEvents();
+
+    /**
+     * 다른 노드에서 발행한 본인 전용 게임 이벤트 구독 (key: gameId:userId)
+     */
+    Flux<BrokerMessage> subscribeToPrivateEvents();
+
+    /**
+     * 이 노드에 게임 세션이 연결됨 (게임별 채널을 쓰는 브로커는 이때 구독)
+     */
+    default void joinGame(String gameId) {
+    }
+
+    /**
+     * 이 노드에서 게임 세션 연결이 끊어짐 (joinGame과 쌍으로 호출)
+     */
+    default void leaveGame(String gameId) {
+    }
+}
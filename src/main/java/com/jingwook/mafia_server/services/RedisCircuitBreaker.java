@@ -0,0 +1,231 @@
+package com.jingwook.mafia_server.services;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Redis 호출을 감싸는 서킷 브레이커
+ * - CLOSED: 정상, 연속 실패(타임아웃 포함)가 임계치를 넘으면 OPEN
+ * - OPEN: Redis 호출 없이 즉시 fallback 실행, open-duration 이후 HALF_OPEN
+ * - HALF_OPEN: 한 번의 probe 호출만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Component
+@Profile("!standalone")
+public class RedisCircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Duration callTimeout;
+
+    // 읽기는 락 없이, 전이(CAS + stateChanges emit)는 transitionLock 안에서만
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Sinks.Many<State> stateChanges = Sinks.many().replay().latest();
+    private final Object transitionLock = new Object();
+    private volatile long openedAt;
+
+    // 누적 degraded 시간 (현재 진행 중인 구간 제외)
+    private final AtomicLong degradedNanos = new AtomicLong();
+    private volatile long degradedSince;
+
+    public RedisCircuitBreaker(
+            ReactiveRedisTemplate<String, Object> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.redis.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${mafia.redis.circuit.open-duration-ms:5000}") long openDurationMs,
+            @Value("${mafia.redis.circuit.call-timeout-ms:1000}") long callTimeoutMs) {
+        this.redisTemplate = redisTemplate;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.callTimeout = Duration.ofMillis(callTimeoutMs);
+        this.stateChanges.tryEmitNext(State.CLOSED);
+
+        Gauge.builder("mafia.redis.circuit.state", state, ref -> ref.get().ordinal())
+                .description("Redis 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+        FunctionCounter.builder("mafia.redis.circuit.degraded", this, RedisCircuitBreaker::totalDegradedSeconds)
+                .description("Redis 없이 로컬 전용으로 동작한 누적 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 호출 실행, 서킷이 열려 있거나 호출이 실패하면 fallback 실행
+     */
+    public <T> Mono<T> execute(Mono<T> call, Supplier<Mono<T>> fallback) {
+        return Mono.defer(() -> {
+            if (!tryAcquirePermission()) {
+                return fallback.get();
+            }
+            return call.timeout(callTimeout)
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnCancel(this::onCancel)
+                    .onErrorResume(error -> {
+                        onFailure(error);
+                        return fallback.get();
+                    });
+        });
+    }
+
+    /**
+     * 여러 값을 반환하는 Redis 호출 실행
+     */
+    public <T> Flux<T> executeMany(Flux<T> call, Supplier<Flux<T>> fallback) {
+        return Flux.defer(() -> {
+            if (!tryAcquirePermission()) {
+                return fallback.get();
+            }
+            return call.timeout(callTimeout)
+                    .doOnComplete(this::onSuccess)
+                    .doOnCancel(this::onCancel)
+                    .onErrorResume(error -> {
+                        onFailure(error);
+                        return fallback.get();
+                    });
+        });
+    }
+
+    /**
+     * fallback 없이 실패만 기록 (호출부에서 직접 오류 처리)
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> call.timeout(callTimeout)
+                .doOnSuccess(value -> onSuccess())
+                .doOnError(this::onFailure));
+    }
+
+    public boolean isOpen() {
+        return state.get() != State.CLOSED && !isProbeDue();
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 서킷이 닫힐 때 완료되는 Mono (이미 닫혀 있으면 즉시 완료)
+     * stateChanges는 전이와 같은 락 안에서 emit하므로 마지막 값이 항상 현재 상태와 같음
+     */
+    public Mono<Void> awaitClosed() {
+        return Mono.defer(() -> state.get() == State.CLOSED
+                ? Mono.<Void>empty()
+                : stateChanges.asFlux()
+                        .filter(current -> current == State.CLOSED)
+                        .next()
+                        .then());
+    }
+
+    /**
+     * OPEN 상태에서 트래픽이 없어도 복구를 감지하도록 주기적으로 PING
+     */
+    @Scheduled(fixedDelayString = "${mafia.redis.circuit.probe-interval-ms:1000}")
+    public void probe() {
+        if (state.get() != State.OPEN || !isProbeDue()) {
+            return;
+        }
+        execute(redisTemplate.execute(connection -> connection.ping()).next(), Mono::empty)
+                .subscribe();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // OPEN 유지 시간이 지났으면 probe 한 건만 통과
+        return current == State.OPEN && isProbeDue() && transition(State.OPEN, State.HALF_OPEN);
+    }
+
+    private boolean isProbeDue() {
+        return state.get() == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        transition(State.HALF_OPEN, State.CLOSED);
+    }
+
+    private void onFailure(Throwable error) {
+        log.debug("Redis call failed: {}", error.toString());
+        if (transition(State.HALF_OPEN, State.OPEN)) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            transition(State.CLOSED, State.OPEN);
+        }
+    }
+
+    /**
+     * probe 호출이 취소되면 HALF_OPEN에 머물지 않도록 다시 OPEN
+     */
+    private void onCancel() {
+        transition(State.HALF_OPEN, State.OPEN);
+    }
+
+    /**
+     * CAS와 stateChanges emit을 한 락 안에서 실행
+     * 동시에 전이가 일어나도 emit이 겹치지 않고(FAIL_NON_SERIALIZED 없음) 상태 순서대로 전달됨
+     */
+    private boolean transition(State from, State to) {
+        synchronized (transitionLock) {
+            if (!state.compareAndSet(from, to)) {
+                return false;
+            }
+
+            long now = System.nanoTime();
+            if (to == State.OPEN) {
+                openedAt = now;
+            }
+            if (from == State.CLOSED) {
+                degradedSince = now;
+                log.warn("Redis circuit OPEN after {} consecutive failures, switching to local-only mode",
+                        consecutiveFailures.get());
+            }
+            if (to == State.CLOSED) {
+                degradedNanos.addAndGet(now - degradedSince);
+                log.info("Redis circuit CLOSED, resuming cross-node delivery");
+            }
+
+            Sinks.EmitResult result = stateChanges.tryEmitNext(to);
+            if (result.isFailure()) {
+                log.error("Failed to publish Redis circuit state {}: {}", to, result);
+            }
+            return true;
+        }
+    }
+
+    private double totalDegradedSeconds() {
+        long total = degradedNanos.get();
+        if (state.get() != State.CLOSED) {
+            total += System.nanoTime() - degradedSince;
+        }
+        return total / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,113 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.enums.ActionType;
+import com.jingwook.mafia_server.utils.RedisKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게임 액션을 Redis에 임시 저장하는 서비스
+ * 페이즈 진행 중에는 Redis에만 저장하고, 페이즈 종료 시 DB에 저장
+ * Redis 서킷이 열려 있으면 저장/조회를 건너뜀
+ */
+@Service
+@Profile("!standalone")
+public class RedisGameActionCacheService implements GameActionCacheService {
+    private static final Logger log = LoggerFactory.getLogger(RedisGameActionCacheService.class);
+    private static final Duration ACTION_TTL = Duration.ofHours(1);
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisGameKeyspace gameKeyspace;
+
+    public RedisGameActionCacheService(@Qualifier("bulkRedisTemplate") ReactiveRedisTemplate<String, Object> redisTemplate,
+            RedisCircuitBreaker circuitBreaker, RedisGameKeyspace gameKeyspace) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.gameKeyspace = gameKeyspace;
+    }
+
+    /**
+     * 액션 저장 (같은 플레이어의 같은 타입 액션은 덮어쓰기)
+     * Hash key: game:{gameId}:action:{dayCount}
+     * Hash field: {actionType}:{actorUserId}
+     */
+    @Override
+    public Mono<Void> saveAction(String gameId, int dayCount, ActionType actionType,
+                                   String actorUserId, String targetUserId) {
+        String key = RedisKeys.actions(gameId, dayCount);
+        String field = RedisKeys.actionField(actionType, actorUserId);
+
+        Map<String, Object> actionData = new HashMap<>();
+        actionData.put("gameId", gameId);
+        actionData.put("dayCount", dayCount);
+        actionData.put("actionType", actionType.toString());
+        actionData.put("actorUserId", actorUserId);
+        actionData.put("targetUserId", targetUserId);
+
+        return redisTemplate.opsForHash()
+                .put(key, field, actionData)
+                .then(redisTemplate.expire(key, ACTION_TTL))
+                .doOnSuccess(success -> log.debug("Saved action to cache: {} {}", key, field))
+                .doOnError(error -> log.error("Failed to save action to cache: {} {}", key, field, error))
+                .then(gameKeyspace.track(gameId, key, ACTION_TTL))
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 특정 타입의 액션 조회
+     * 일차별 Hash에서 {actionType}: 으로 시작하는 필드만 선택 (KEYS 스캔 없음)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Flux<Map<String, Object>> getActionsByType(String gameId, int dayCount, ActionType actionType) {
+        String key = RedisKeys.actions(gameId, dayCount);
+        String fieldPrefix = actionType + ":";
+
+        return redisTemplate.opsForHash().entries(key)
+                .filter(entry -> entry.getKey().toString().startsWith(fieldPrefix))
+                .map(entry -> (Map<String, Object>) entry.getValue())
+                .doOnComplete(() -> log.debug("Retrieved {} actions from cache: {}", actionType, key))
+                .doOnError(error -> log.error("Failed to get actions from cache: {}", key, error))
+                .transform(call -> circuitBreaker.executeMany(call, Flux::empty));
+    }
+
+    /**
+     * 특정 플레이어의 액션 삭제
+     */
+    @Override
+    public Mono<Void> deleteAction(String gameId, int dayCount, ActionType actionType, String actorUserId) {
+        String key = RedisKeys.actions(gameId, dayCount);
+        String field = RedisKeys.actionField(actionType, actorUserId);
+
+        return redisTemplate.opsForHash().remove(key, field)
+                .doOnSuccess(count -> log.debug("Deleted action from cache: {} {}", key, field))
+                .doOnError(error -> log.error("Failed to delete action from cache: {} {}", key, field, error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 특정 게임의 특정 일차 모든 액션 삭제
+     */
+    @Override
+    public Mono<Void> clearDayActions(String gameId, int dayCount) {
+        String key = RedisKeys.actions(gameId, dayCount);
+
+        return redisTemplate.delete(key)
+                .doOnSuccess(count -> log.debug("Cleared all actions for game {} day {}", gameId, dayCount))
+                .doOnError(error -> log.error("Failed to clear actions for game {} day {}", gameId, dayCount, error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+}
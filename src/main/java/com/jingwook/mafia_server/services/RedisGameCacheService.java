@@ -0,0 +1,91 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.dtos.GameStateResponse;
+import com.jingwook.mafia_server.entities.GameEntity;
+import com.jingwook.mafia_server.utils.RedisKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 게임 상태를 Redis에 캐싱하는 서비스
+ * Redis 서킷이 열려 있으면 조회는 캐시 미스, 쓰기는 no-op으로 처리되어 호출부가 DB를 사용
+ */
+@Service
+@Profile("!standalone")
+public class RedisGameCacheService implements GameCacheService {
+    private static final Logger log = LoggerFactory.getLogger(RedisGameCacheService.class);
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisGameKeyspace gameKeyspace;
+
+    public RedisGameCacheService(@Qualifier("bulkRedisTemplate") ReactiveRedisTemplate<String, Object> redisTemplate,
+            RedisCircuitBreaker circuitBreaker, RedisGameKeyspace gameKeyspace) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.gameKeyspace = gameKeyspace;
+    }
+
+    /**
+     * 게임 상태 캐시에 저장
+     */
+    @Override
+    public Mono<Void> cacheGameState(String gameId, GameEntity gameEntity) {
+        String key = RedisKeys.gameState(gameId);
+        return redisTemplate.opsForValue()
+                .set(key, gameEntity, CACHE_TTL)
+                .doOnSuccess(success -> log.debug("Cached game state for gameId: {}", gameId))
+                .doOnError(error -> log.error("Failed to cache game state for gameId: {}", gameId, error))
+                .then(gameKeyspace.track(gameId, key, CACHE_TTL))
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 게임 상태 캐시에서 조회
+     */
+    @Override
+    public Mono<GameEntity> getGameStateFromCache(String gameId) {
+        String key = RedisKeys.gameState(gameId);
+        return redisTemplate.opsForValue()
+                .get(key)
+                .cast(GameEntity.class)
+                .doOnSuccess(entity -> {
+                    if (entity != null) {
+                        log.debug("Cache hit for gameId: {}", gameId);
+                    } else {
+                        log.debug("Cache miss for gameId: {}", gameId);
+                    }
+                })
+                .doOnError(error -> log.error("Failed to get game state from cache for gameId: {}", gameId, error))
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 게임 상태 캐시 무효화
+     */
+    @Override
+    public Mono<Void> invalidateGameState(String gameId) {
+        String key = RedisKeys.gameState(gameId);
+        return redisTemplate.delete(key)
+                .doOnSuccess(count -> log.debug("Invalidated cache for gameId: {}", gameId))
+                .doOnError(error -> log.error("Failed to invalidate cache for gameId: {}", gameId, error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 게임 종료 시 캐시 삭제
+     */
+    @Override
+    public Mono<Void> removeGameState(String gameId) {
+        return invalidateGameState(gameId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jingwook.mafia_server.services;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.jingwook.mafia_server.events.GameEndedEvent;
+import com.jingwook.mafia_server.utils.RedisKeys;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 게임 단위 키 인덱스 관리
+ * 게임 키를 만들 때 game:{gameId}:keys Set에 등록해두고, 게임 종료 시 스크립트 한 번으로 모두 삭제
+ * 키가 모두 같은 해시 태그를 가지므로 클러스터에서도 한 노드에서 실행됨 (KEYS 스캔 불필요)
+ * 인덱스 TTL은 등록된 키 중 가장 긴 TTL에 맞춰 늘어나므로, 인덱스가 먼저 만료돼 키가 정리 대상에서 빠지지 않음
+ */
+@Service
+@Profile("!standalone")
+public class RedisGameKeyspace {
+    private static final Logger log = LoggerFactory.getLogger(RedisGameKeyspace.class);
+
+    // 키 등록 후 인덱스 TTL이 키 TTL보다 짧으면(또는 없으면) 키 TTL로 연장
+    private static final RedisScript<Long> TRACK_SCRIPT = RedisScript.of("""
+            redis.call('SADD', KEYS[1], ARGV[1])
+            if redis.call('TTL', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> CLEANUP_SCRIPT = RedisScript.of("""
+            local keys = redis.call('SMEMBERS', KEYS[1])
+            for _, key in ipairs(keys) do
+                redis.call('DEL', key)
+            end
+            redis.call('DEL', KEYS[1])
+            return #keys
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisGameKeyspace(
+            @Qualifier("bulkConnectionFactory") ReactiveRedisConnectionFactory connectionFactory,
+            RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 게임 키를 인덱스에 등록 (ttl: 등록하는 키의 TTL)
+     */
+    public Mono<Void> track(String gameId, String key, Duration ttl) {
+        return redisTemplate.execute(TRACK_SCRIPT, List.of(RedisKeys.gameKeyIndex(gameId)),
+                        List.of(key, String.valueOf(ttl.toSeconds())))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 게임의 모든 키 삭제
+     */
+    public Mono<Long> cleanup(String gameId) {
+        return redisTemplate.execute(CLEANUP_SCRIPT, List.of(RedisKeys.gameKeyIndex(gameId)))
+                .next()
+                .doOnSuccess(count -> log.info("Cleaned up {} redis keys for game: {}", count, gameId))
+                .doOnError(error -> log.error("Failed to clean up redis keys for game: {}", gameId, error))
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    @EventListener
+    @Async
+    public void handleGameEndedEvent(GameEndedEvent event) {
+        cleanup(event.getGameId()).subscribe();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jingwook.mafia_server.services;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.jingwook.mafia_server.utils.RedisKeys;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 게임 이벤트 seq를 Redis INCR로 발급 (어느 노드가 발행해도 게임별로 하나의 카운터)
+ * Redis 서킷이 열려 있으면 비어 있는 결과를 반환해서 노드 카운터로 발급 (다른 노드로 전파도 안 되는 구간)
+ * - 서킷이 닫힌 뒤에는 노드가 이미 쓴 seq(floor)보다 큰 값부터 발급 (카운터를 floor 이상으로 올림)
+ * - seq 키는 게임 키 인덱스(RedisGameKeyspace)에 등록하지 않고 TTL로만 만료
+ *   (게임 종료 정리가 마지막 이벤트의 INCR보다 먼저 실행되면 카운터가 1부터 다시 시작하므로)
+ */
+@Service
+@Profile("!standalone")
+public class RedisGameSequenceService implements GameSequenceService {
+    private static final Logger log = LoggerFactory.getLogger(RedisGameSequenceService.class);
+    private static final Duration SEQUENCE_TTL = Duration.ofHours(6);
+
+    // INCR 결과가 floor 이하면 floor + 1로 올리고, TTL이 없으면 설정
+    private static final RedisScript<Long> NEXT_SCRIPT = RedisScript.of("""
+            local seq = redis.call('INCR', KEYS[1])
+            local floor = tonumber(ARGV[1])
+            if seq <= floor then
+                seq = floor + 1
+                redis.call('SET', KEYS[1], seq)
+            end
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return seq
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisGameSequenceService(
+            @Qualifier("commandConnectionFactory") ReactiveRedisConnectionFactory connectionFactory,
+            RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Mono<Long> next(String gameId, long floor) {
+        Mono<Long> call = redisTemplate.execute(NEXT_SCRIPT, List.of(RedisKeys.eventSequence(gameId)),
+                        List.of(String.valueOf(floor), String.valueOf(SEQUENCE_TTL.toSeconds())))
+                .next()
+                .doOnError(error -> log.error("Failed to allocate event seq for gameId: {}", gameId, error));
+        return circuitBreaker.execute(call, Mono::empty);
+    }
+}
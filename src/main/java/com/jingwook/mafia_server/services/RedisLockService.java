@@ -2,8 +2,13 @@ package com.jingwook.mafia_server.services;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
+
+import com.jingwook.mafia_server.exceptions.LockNotAcquiredException;
+
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
@@ -13,9 +18,13 @@ import java.util.UUID;
 /**
  * Redis 기반 분산 락 서비스
  * 여러 서버 인스턴스에서 동시에 같은 작업을 하지 않도록 보장
+ * Redis가 응답하지 않으면 락을 주지 않음 (fail closed)
+ * 노드 로컬 락으로 대체하면 모든 노드가 같은 게임의 락을 동시에 얻어 페이즈 전환이 여러 번 실행되므로,
+ * 장애 중에는 락이 필요한 작업(자동 페이즈 전환)을 건너뛰고 서킷이 닫힌 뒤 다시 시도
  */
 @Service
-public class RedisLockService {
+@Profile("!standalone")
+public class RedisLockService implements LockService {
     private static final Logger log = LoggerFactory.getLogger(RedisLockService.class);
     private static final String LOCK_PREFIX = "lock:";
     private static final Duration LOCK_TTL = Duration.ofSeconds(10);
@@ -23,22 +32,23 @@ public class RedisLockService {
     private static final int MAX_RETRY_ATTEMPTS = 50;
 
     private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
 
-    public RedisLockService(ReactiveRedisTemplate<String, Object> redisTemplate) {
+    public RedisLockService(ReactiveRedisTemplate<String, Object> redisTemplate, RedisCircuitBreaker circuitBreaker) {
         this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
     }
 
-    /**
-     * 락 획득 시도 (재시도 포함)
-     * @param lockKey 락 키
-     * @return 락 토큰 (해제 시 필요)
-     */
+    @Override
     public Mono<String> acquireLock(String lockKey) {
+        if (circuitBreaker.isOpen()) {
+            return Mono.error(unavailable(lockKey));
+        }
+
         String fullKey = LOCK_PREFIX + lockKey;
         String lockToken = UUID.randomUUID().toString();
 
-        return redisTemplate.opsForValue()
-                .setIfAbsent(fullKey, lockToken, LOCK_TTL)
+        return circuitBreaker.protect(redisTemplate.opsForValue().setIfAbsent(fullKey, lockToken, LOCK_TTL))
                 .flatMap(acquired -> {
                     if (acquired) {
                         log.debug("Lock acquired: {} with token: {}", fullKey, lockToken);
@@ -50,19 +60,17 @@ public class RedisLockService {
                 .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, RETRY_DELAY)
                         .filter(throwable -> throwable instanceof LockNotAcquiredException)
                         .doBeforeRetry(signal -> log.debug("Retrying to acquire lock: {}", fullKey)))
-                .doOnError(error -> log.warn("Failed to acquire lock after retries: {}", fullKey));
+                .doOnError(Exceptions::isRetryExhausted, error -> log.warn("Failed to acquire lock after retries: {}", fullKey))
+                .onErrorResume(error -> !(error instanceof LockNotAcquiredException) && !Exceptions.isRetryExhausted(error),
+                        error -> Mono.error(unavailable(lockKey)));
     }
 
-    /**
-     * 락 해제
-     * @param lockKey 락 키
-     * @param lockToken 락 획득 시 받은 토큰
-     */
+    @Override
     public Mono<Void> releaseLock(String lockKey, String lockToken) {
         String fullKey = LOCK_PREFIX + lockKey;
 
-        return redisTemplate.opsForValue()
-                .get(fullKey)
+        // Redis가 응답하지 않으면 해제를 건너뛰고 TTL 만료에 맡김
+        return circuitBreaker.execute(redisTemplate.opsForValue().get(fullKey), Mono::empty)
                 .flatMap(currentToken -> {
                     if (lockToken.equals(currentToken.toString())) {
                         return redisTemplate.delete(fullKey)
@@ -78,23 +86,10 @@ public class RedisLockService {
     }
 
     /**
-     * 락을 획득하고 작업을 수행한 후 자동으로 락 해제
-     * @param lockKey 락 키
-     * @param task 수행할 작업
-     */
-    public <T> Mono<T> executeWithLock(String lockKey, Mono<T> task) {
-        return acquireLock(lockKey)
-                .flatMap(lockToken -> task
-                        .doFinally(signalType -> releaseLock(lockKey, lockToken).subscribe())
-                );
-    }
-
-    /**
-     * 락 획득 실패 예외
+     * Redis 장애 중 락 요청 거절 (호출한 쪽은 다른 노드가 보유 중일 때와 같이 작업을 건너뜀)
      */
-    public static class LockNotAcquiredException extends RuntimeException {
-        public LockNotAcquiredException(String message) {
-            super(message);
-        }
+    private LockNotAcquiredException unavailable(String lockKey) {
+        log.debug("Redis unavailable, not granting lock: {}", lockKey);
+        return new LockNotAcquiredException("Redis unavailable, lock not granted: " + LOCK_PREFIX + lockKey);
     }
 }
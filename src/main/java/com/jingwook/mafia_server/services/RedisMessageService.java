@@ -1,196 +1,259 @@
 package com.jingwook.mafia_server.services;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.jingwook.mafia_server.dtos.BrokerMessage;
 import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.utils.RedisKeys;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Service
-public class RedisMessageService {
+@Profile("!standalone")
+public class RedisMessageService implements MessageBrokerService {
     private static final Logger log = LoggerFactory.getLogger(RedisMessageService.class);
+    private static final Duration RESUBSCRIBE_DELAY = Duration.ofSeconds(1);
+
+    // 이 노드에서 발행한 메시지를 구독 시 걸러내기 위한 식별자
+    private final String nodeId = UuidCreator.getTimeOrderedEpoch().toString();
 
-    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final RedisPublishPipeline publishPipeline;
+    private final RedisCircuitBreaker circuitBreaker;
     private final ReactiveRedisMessageListenerContainer listenerContainer;
     private final ObjectMapper objectMapper;
     private final ChannelTopic roomUpdateTopic;
     private final ChannelTopic gameChatTopic;
     private final ChannelTopic gameEventTopic;
+    private final ChannelTopic userEventTopic;
+
+    // mafia.redis.pubsub.sharded=true 일 때만 존재, 게임 채팅/이벤트를 게임별 샤드 채널로 전파
+    private final RedisShardedPubSub shardedPubSub;
 
     public RedisMessageService(
-            ReactiveRedisConnectionFactory connectionFactory,
+            RedisPublishPipeline publishPipeline,
+            RedisCircuitBreaker circuitBreaker,
             ReactiveRedisMessageListenerContainer listenerContainer,
             ObjectMapper objectMapper,
             ChannelTopic roomUpdateTopic,
             ChannelTopic gameChatTopic,
-            ChannelTopic gameEventTopic) {
-        // Pub/Sub용 String 전용 RedisTemplate 생성
-        StringRedisSerializer stringSerializer = new StringRedisSerializer();
-        RedisSerializationContext<String, String> serializationContext = RedisSerializationContext
-                .<String, String>newSerializationContext(stringSerializer)
-                .value(stringSerializer)
-                .build();
-        this.stringRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
-
+            ChannelTopic gameEventTopic,
+            ChannelTopic userEventTopic,
+            ObjectProvider<RedisShardedPubSub> shardedPubSub) {
+        this.publishPipeline = publishPipeline;
+        this.circuitBreaker = circuitBreaker;
         this.listenerContainer = listenerContainer;
         this.objectMapper = objectMapper;
         this.roomUpdateTopic = roomUpdateTopic;
         this.gameChatTopic = gameChatTopic;
         this.gameEventTopic = gameEventTopic;
+        this.userEventTopic = userEventTopic;
+        this.shardedPubSub = shardedPubSub.getIfAvailable();
     }
 
-    /**
-     * 방 업데이트 메시지 발행
-     */
-    public Mono<Long> publishRoomUpdate(String roomId, Object data) {
-        return publishMessage(roomUpdateTopic, createMessage(roomId, WebSocketMessageType.ROOM_UPDATE, data));
+    @Override
+    public Mono<Long> publishRoomUpdate(String roomId, WebSocketMessageType type, Object data) {
+        return publishMessage(roomUpdateTopic, createMessage(roomId, type, data));
     }
 
-    /**
-     * 게임 채팅 메시지 발행
-     */
+    @Override
     public Mono<Long> publishGameChat(String gameId, String chatType, Object data) {
-        String key = gameId + ":" + chatType;
-        return publishMessage(gameChatTopic, createMessage(key, WebSocketMessageType.CHAT, data));
+        return publishToGameChat(gameId, chatType, WebSocketMessageType.CHAT, data);
+    }
+
+    @Override
+    public Mono<Long> publishGameSignal(String gameId, String chatType, Object data) {
+        return publishToGameChat(gameId, chatType, WebSocketMessageType.SIGNAL, data);
     }
 
     /**
-     * 게임 이벤트 메시지 발행
+     * 시그널도 채팅과 같은 토픽(샤드 모드면 게임 채팅 샤드 채널)을 사용하므로 추가 구독이 없음
      */
-    public Mono<Long> publishGameEvent(String gameId, WebSocketMessageType eventType, Object data) {
-        return publishMessage(gameEventTopic, createMessage(gameId, eventType, data));
+    private Mono<Long> publishToGameChat(String gameId, String chatType, WebSocketMessageType type, Object data) {
+        String key = gameId + ":" + chatType;
+        BrokerMessage message = createMessage(key, type, data);
+        if (shardedPubSub != null) {
+            return publishShardMessage(RedisKeys.gameChatChannel(gameId), message);
+        }
+        return publishMessage(gameChatTopic, message);
+    }
+
+    @Override
+    public Mono<Long> publishGameEvent(String gameId, long seq, WebSocketMessageType eventType, Object data) {
+        BrokerMessage message = createMessage(gameId, eventType, data);
+        message.setSeq(seq);
+        if (shardedPubSub != null) {
+            return publishShardMessage(RedisKeys.gameEventChannel(gameId), message);
+        }
+        return publishMessage(gameEventTopic, message);
+    }
+
+    @Override
+    public Mono<Long> publishTransientGameEvent(String gameId, WebSocketMessageType eventType, Object data) {
+        BrokerMessage message = createMessage(gameId, eventType, data);
+        if (shardedPubSub != null) {
+            return publishShardMessage(RedisKeys.gameEventChannel(gameId), message);
+        }
+        return publishMessage(gameEventTopic, message);
     }
 
     /**
-     * 방 업데이트 메시지 구독
+     * 역할 공개는 게임 소켓 연결 전(방 소켓만 있는 상태)에 발행되므로 게임별 샤드 채널이 아닌 전역 토픽 사용
+     * 게임당 참가자 수 + 밤마다 경찰 1건 정도라 전역 토픽 부하는 작음
      */
-    public Flux<RedisMessage> subscribeToRoomUpdates() {
+    @Override
+    public Mono<Long> publishPrivateEvent(String gameId, String userId, WebSocketMessageType eventType, Object data) {
+        return publishMessage(userEventTopic, createMessage(gameId + ":" + userId, eventType, data));
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToRoomUpdates() {
         return subscribeToTopic(roomUpdateTopic);
     }
 
-    /**
-     * 게임 채팅 메시지 구독
-     */
-    public Flux<RedisMessage> subscribeToGameChat() {
+    @Override
+    public Flux<BrokerMessage> subscribeToGameChat() {
+        if (shardedPubSub != null) {
+            return subscribeToShards(":chat");
+        }
         return subscribeToTopic(gameChatTopic);
     }
 
+    @Override
+    public Flux<BrokerMessage> subscribeToGameEvents() {
+        if (shardedPubSub != null) {
+            return subscribeToShards(":event");
+        }
+        return subscribeToTopic(gameEventTopic);
+    }
+
+    @Override
+    public Flux<BrokerMessage> subscribeToPrivateEvents() {
+        return subscribeToTopic(userEventTopic);
+    }
+
     /**
-     * 게임 이벤트 메시지 구독
+     * 샤드 모드에서는 이 노드에 세션이 있는 게임의 채널만 구독
      */
-    public Flux<RedisMessage> subscribeToGameEvents() {
-        return subscribeToTopic(gameEventTopic);
+    @Override
+    public void joinGame(String gameId) {
+        if (shardedPubSub != null) {
+            shardedPubSub.subscribe(RedisKeys.gameEventChannel(gameId));
+            shardedPubSub.subscribe(RedisKeys.gameChatChannel(gameId));
+        }
+    }
+
+    @Override
+    public void leaveGame(String gameId) {
+        if (shardedPubSub != null) {
+            shardedPubSub.unsubscribe(RedisKeys.gameEventChannel(gameId));
+            shardedPubSub.unsubscribe(RedisKeys.gameChatChannel(gameId));
+        }
     }
 
-    private Mono<Long> publishMessage(ChannelTopic topic, RedisMessage message) {
+    /**
+     * 직접 PUBLISH하지 않고 노드 단위 발행 파이프라인에 적재
+     * 같은 페이즈 전환에서 나온 여러 이벤트가 하나의 배치로 묶여 전송됨
+     * Redis 서킷이 열려 있으면 발행을 건너뜀 (로컬 세션에는 핸들러가 이미 전달함)
+     */
+    private Mono<Long> publishMessage(ChannelTopic topic, BrokerMessage message) {
         try {
             String json = objectMapper.writeValueAsString(message);
-            return stringRedisTemplate.convertAndSend(topic.getTopic(), json)
+            Mono<Long> publish = publishPipeline.publish(topic.getTopic(), json)
                     .doOnSuccess(count -> log.debug("Published message to {}: {}", topic.getTopic(), json))
                     .doOnError(error -> log.error("Failed to publish message to {}", topic.getTopic(), error));
+            return circuitBreaker.execute(publish, () -> Mono.just(0L));
         } catch (Exception e) {
             log.error("Failed to serialize message for topic {}", topic.getTopic(), e);
             return Mono.just(0L);
         }
     }
 
-    private Flux<RedisMessage> subscribeToTopic(ChannelTopic topic) {
-        return listenerContainer.receive(topic)
-                .mapNotNull(message -> {
-                    try {
-                        // ReactiveRedisMessageListenerContainer는 ByteBuffer를 반환
-                        Object messageObj = message.getMessage();
-
-                        String json;
-                        if (messageObj instanceof byte[]) {
-                            json = new String((byte[]) messageObj, java.nio.charset.StandardCharsets.UTF_8);
-                        } else if (messageObj instanceof java.nio.ByteBuffer) {
-                            java.nio.ByteBuffer buffer = (java.nio.ByteBuffer) messageObj;
-                            byte[] bytes = new byte[buffer.remaining()];
-                            buffer.get(bytes);
-                            json = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
-                        } else if (messageObj instanceof String) {
-                            json = (String) messageObj;
-                        } else {
-                            log.warn("Unexpected message type: {}", messageObj.getClass().getName());
-                            json = messageObj.toString();
-                        }
-
-                        log.debug("Received from {}: {}", topic.getTopic(), json);
-
-                        // 이중 직렬화 확인 및 언래핑
-                        // Redis MONITOR에서 "\"{...}\"" 형태로 보이면 이중 직렬화됨
-                        if (json.startsWith("\"") && json.endsWith("\"") && json.length() > 2) {
-                            // 이스케이프된 JSON 문자열을 언래핑
-                            json = objectMapper.readValue(json, String.class);
-                            log.debug("Unwrapped: {}", json);
-                        }
-
-                        return objectMapper.readValue(json, RedisMessage.class);
-                    } catch (Exception e) {
-                        log.error("Failed to deserialize message from {}", topic.getTopic(), e);
-                        return null;
-                    }
-                });
-    }
-
-    private RedisMessage createMessage(String key, WebSocketMessageType type, Object data) {
-        return new RedisMessage(key, type, data);
-    }
-
     /**
-     * Redis로 전송되는 메시지 포맷
+     * SPUBLISH는 게임 채널 슬롯을 가진 노드로 바로 전송 (Lettuce 공유 커넥션이 파이프라이닝)
      */
-    public static class RedisMessage {
-        private String key; // roomId, gameId, or gameId:chatType
-        private String type; // WebSocketMessageType을 String으로 저장
-        private Object data;
-
-        public RedisMessage() {
-        }
-
-        public RedisMessage(String key, WebSocketMessageType type, Object data) {
-            this.key = key;
-            this.type = type.name();
-            this.data = data;
+    private Mono<Long> publishShardMessage(String channel, BrokerMessage message) {
+        try {
+            String json = objectMapper.writeValueAsString(message);
+            Mono<Long> publish = shardedPubSub.publish(channel, json)
+                    .doOnSuccess(count -> log.debug("Published shard message to {}: {}", channel, json))
+                    .doOnError(error -> log.error("Failed to publish shard message to {}", channel, error));
+            return circuitBreaker.execute(publish, () -> Mono.just(0L));
+        } catch (Exception e) {
+            log.error("Failed to serialize message for channel {}", channel, e);
+            return Mono.just(0L);
         }
+    }
 
-        public String getKey() {
-            return key;
-        }
+    /**
+     * 자기 노드가 발행한 메시지는 이미 로컬 Sink로 전달되었으므로 제외
+     * 구독이 끊기면 Redis 서킷이 다시 닫힐 때까지 기다렸다가 재구독
+     */
+    private Flux<BrokerMessage> subscribeToTopic(ChannelTopic topic) {
+        return Flux.defer(() -> listenerContainer.receive(topic))
+                .doOnError(error -> log.warn("Subscription to {} lost: {}", topic.getTopic(), error.toString()))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> circuitBreaker.awaitClosed()
+                        .then(Mono.delay(RESUBSCRIBE_DELAY))
+                        .doOnNext(tick -> log.info("Resubscribing to {}", topic.getTopic()))
+                        .thenReturn(signal))))
+                .mapNotNull(message -> readMessage(topic.getTopic(), message.getMessage()))
+                .filter(message -> !nodeId.equals(message.getOrigin()));
+    }
 
-        public void setKey(String key) {
-            this.key = key;
-        }
+    private Flux<BrokerMessage> subscribeToShards(String channelSuffix) {
+        return shardedPubSub.messages()
+                .filter(message -> message.getChannel().endsWith(channelSuffix))
+                .mapNotNull(message -> readMessage(message.getChannel(), message.getMessage()))
+                .filter(message -> !nodeId.equals(message.getOrigin()));
+    }
 
-        public WebSocketMessageType getType() {
-            return type != null ? WebSocketMessageType.valueOf(type) : null;
-        }
+    private BrokerMessage readMessage(String source, Object messageObj) {
+        try {
+            // ReactiveRedisMessageListenerContainer는 ByteBuffer, 샤드 구독은 String을 반환
+            String json;
+            if (messageObj instanceof byte[]) {
+                json = new String((byte[]) messageObj, java.nio.charset.StandardCharsets.UTF_8);
+            } else if (messageObj instanceof java.nio.ByteBuffer) {
+                java.nio.ByteBuffer buffer = (java.nio.ByteBuffer) messageObj;
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                json = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+            } else if (messageObj instanceof String) {
+                json = (String) messageObj;
+            } else {
+                log.warn("Unexpected message type: {}", messageObj.getClass().getName());
+                json = messageObj.toString();
+            }
 
-        public String getTypeString() {
-            return type;
-        }
+            log.debug("Received from {}: {}", source, json);
 
-        public void setType(String type) {
-            this.type = type;
-        }
+            // 이중 직렬화 확인 및 언래핑
+            // Redis MONITOR에서 "\"{...}\"" 형태로 보이면 이중 직렬화됨
+            if (json.startsWith("\"") && json.endsWith("\"") && json.length() > 2) {
+                // 이스케이프된 JSON 문자열을 언래핑
+                json = objectMapper.readValue(json, String.class);
+                log.debug("Unwrapped: {}", json);
+            }
 
-        public Object getData() {
-            return data;
+            return objectMapper.readValue(json, BrokerMessage.class);
+        } catch (Exception e) {
+            log.error("Failed to deserialize message from {}", source, e);
+            return null;
         }
+    }
 
-        public void setData(Object data) {
-            this.data = data;
-        }
+    private BrokerMessage createMessage(String key, WebSocketMessageType type, Object data) {
+        return new BrokerMessage(key, type, data, nodeId);
     }
 }
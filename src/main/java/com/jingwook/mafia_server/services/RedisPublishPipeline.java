@@ -0,0 +1,216 @@
+package com.jingwook.mafia_server.services;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 노드 단위 Redis PUBLISH 파이프라인
+ * 여러 스레드의 발행 요청을 bounded 큐에 모으고, 단일 발행자가 배치 단위로 파이프라이닝해서 전송
+ * 배치는 큐 순서대로 한 번에 하나씩만 전송하므로 같은 키의 메시지 순서가 유지됨
+ * 호출한 쪽이 취소(타임아웃 포함)한 요청은 큐에 남아 있어도 전송하지 않고 건너뜀
+ */
+@Service
+@Profile("!standalone")
+public class RedisPublishPipeline {
+    private static final Logger log = LoggerFactory.getLogger(RedisPublishPipeline.class);
+
+    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final BlockingQueue<PendingPublish> queue;
+    private final int maxBatchSize;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final Scheduler publisherScheduler = Schedulers.newSingle("redis-publisher", true);
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer publishLatencyTimer;
+    private final Counter rejectedCounter;
+    private final Counter cancelledCounter;
+
+    public RedisPublishPipeline(
+            @Qualifier("pubSubRedisTemplate") ReactiveRedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mafia.redis.publish.queue-capacity:10000}") int queueCapacity,
+            @Value("${mafia.redis.publish.max-batch-size:64}") int maxBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+
+        Gauge.builder("mafia.redis.publish.queue.depth", queue, BlockingQueue::size)
+                .description("Redis 발행 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("mafia.redis.publish.batch.size")
+                .description("한 번에 파이프라이닝된 PUBLISH 수")
+                .register(meterRegistry);
+        this.publishLatencyTimer = Timer.builder("mafia.redis.publish.latency")
+                .description("큐 적재부터 Redis 응답까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mafia.redis.publish.rejected")
+                .description("큐가 가득 차서 거부된 발행 요청 수")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("mafia.redis.publish.cancelled")
+                .description("전송 전에 호출한 쪽이 취소해서 건너뛴 발행 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메시지를 발행 큐에 적재
+     * 구독 시점에 큐에 들어가며, 해당 배치가 전송되면 수신자 수로 완료됨
+     */
+    public Mono<Long> publish(String channel, String message) {
+        return Mono.create(sink -> {
+            PendingPublish pending = new PendingPublish(channel, message, sink, System.nanoTime());
+            sink.onCancel(pending::cancel);
+            if (!queue.offer(pending)) {
+                rejectedCounter.increment();
+                sink.error(new PublishQueueFullException("Publish queue is full, dropping message for " + channel));
+                return;
+            }
+            scheduleDrain();
+        });
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            publisherScheduler.schedule(this::drainNextBatch);
+        }
+    }
+
+    private void drainNextBatch() {
+        List<PendingPublish> batch = new ArrayList<>(maxBatchSize);
+        queue.drainTo(batch, maxBatchSize);
+
+        if (batch.isEmpty()) {
+            draining.set(false);
+            // 플래그 해제 직전에 들어온 요청이 있으면 다시 drain
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+            return;
+        }
+
+        int drained = batch.size();
+        batch.removeIf(PendingPublish::isCancelled);
+        if (batch.size() < drained) {
+            cancelledCounter.increment(drained - batch.size());
+        }
+        if (batch.isEmpty()) {
+            publisherScheduler.schedule(this::drainNextBatch);
+            return;
+        }
+
+        publishBatch(batch)
+                .doFinally(signalType -> publisherScheduler.schedule(this::drainNextBatch))
+                .subscribe();
+    }
+
+    /**
+     * 하나의 커넥션에서 배치 내 PUBLISH를 응답 대기 없이 연속 전송 (파이프라이닝)
+     * flatMapSequential은 큐 순서대로 구독하므로 전송 순서가 유지됨
+     */
+    private Mono<Void> publishBatch(List<PendingPublish> batch) {
+        batchSizeSummary.record(batch.size());
+
+        return stringRedisTemplate.execute(connection -> Flux.fromIterable(batch)
+                        .flatMapSequential(pending -> connection.pubSubCommands()
+                                .publish(encode(pending.getChannel()), encode(pending.getMessage()))
+                                .doOnSuccess(this::logPublished)
+                                .doOnSuccess(pending::complete)
+                                .doOnError(pending::fail)
+                                .onErrorResume(error -> Mono.empty()), batch.size()))
+                .then()
+                .doOnError(error -> {
+                    log.error("Failed to publish batch of {} messages", batch.size(), error);
+                    batch.forEach(pending -> pending.fail(error));
+                })
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private void logPublished(Long receivers) {
+        log.debug("Published message to {} receivers", receivers);
+    }
+
+    private ByteBuffer encode(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisherScheduler.dispose();
+    }
+
+    private class PendingPublish {
+        private final String channel;
+        private final String message;
+        private final MonoSink<Long> sink;
+        private final long enqueuedAt;
+        private volatile boolean cancelled;
+
+        PendingPublish(String channel, String message, MonoSink<Long> sink, long enqueuedAt) {
+            this.channel = channel;
+            this.message = message;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        String getChannel() {
+            return channel;
+        }
+
+        String getMessage() {
+            return message;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void complete(Long receivers) {
+            publishLatencyTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            sink.success(receivers);
+        }
+
+        void fail(Throwable error) {
+            sink.error(error);
+        }
+    }
+
+    /**
+     * 발행 큐 포화 예외
+     */
+    public static class PublishQueueFullException extends RuntimeException {
+        public PublishQueueFullException(String message) {
+            super(message);
+        }
+    }
+}
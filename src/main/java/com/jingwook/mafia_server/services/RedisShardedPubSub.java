@@ -0,0 +1,270 @@
+package com.jingwook.mafia_server.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.BaseRedisReactiveCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * 샤드 Pub/Sub (SPUBLISH / SSUBSCRIBE)
+ * 게임별 채널(game:{gameId}:event 등)을 채널 슬롯을 가진 노드에서만 처리하므로
+ * 클러스터에서 전역 채널 하나에 모든 메시지가 몰리지 않음
+ * Spring Data Redis가 샤드 Pub/Sub을 지원하지 않아 pubsub 커넥션의 네이티브 Lettuce 클라이언트를 직접 사용
+ * mafia.redis.pubsub.sharded=true 일 때만 활성화 (Redis 7 이상 필요)
+ *
+ * 채널별 SSUBSCRIBE/SUNSUBSCRIBE는 참조 수를 바꾸는 compute 안에서 채널의 이전 명령 뒤에 이어 붙임
+ * (구독/해제가 빠르게 반복돼도 Redis에 보낸 순서가 참조 수 변화 순서와 같음)
+ *
+ * 커넥션 생성은 블로킹이므로 boundedElastic에서 비동기로 수행 (구독은 Netty 이벤트 루프에서 호출됨)
+ * 연결/구독 실패는 Redis 서킷에 기록하고, 서킷이 닫힐 때까지 로컬 전달만 하다가 구독을 다시 시도
+ */
+@Component
+@Profile("!standalone")
+@ConditionalOnProperty(name = "mafia.redis.pubsub.sharded", havingValue = "true")
+public class RedisShardedPubSub {
+    private static final Logger log = LoggerFactory.getLogger(RedisShardedPubSub.class);
+    private static final Duration RESUBSCRIBE_DELAY = Duration.ofSeconds(1);
+    private static final Duration CONNECTED = Duration.ofMillis(Long.MAX_VALUE);
+    // 클러스터에서는 노드별 커넥션 스레드가 동시에 수신하므로 직렬화 실패 시 잠깐 재시도
+    private static final Sinks.EmitFailureHandler EMIT_RETRY = Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Counter droppedCounter;
+
+    // 채널 -> 이 노드에서 해당 채널이 필요한 구독자 수와 마지막 구독 명령
+    private final Map<String, ChannelState> channels = new ConcurrentHashMap<>();
+    private final Sinks.Many<ShardMessage> messages = Sinks.many().multicast().directBestEffort();
+
+    // 성공한 연결만 캐시, 실패하면 다음 호출에서 다시 연결 (호출자가 타임아웃으로 취소해도 연결 시도는 끝까지 진행)
+    private final Mono<Connections> connections;
+    private volatile Connections established;
+
+    public RedisShardedPubSub(
+            @Qualifier("pubSubConnectionFactory") LettuceConnectionFactory connectionFactory,
+            RedisCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.circuitBreaker = circuitBreaker;
+        this.droppedCounter = Counter.builder("mafia.redis.pubsub.shard.dropped")
+                .description("로컬 스트림으로 넘기지 못하고 버린 샤드 메시지 수")
+                .register(meterRegistry);
+        this.connections = Mono.fromCallable(this::connect)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnError(error -> log.warn("Failed to establish sharded pub/sub connections: {}", error.toString()))
+                .cache(connected -> CONNECTED, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 호출자(RedisMessageService)가 서킷으로 감싸므로 여기서는 실패를 그대로 전달
+     */
+    public Mono<Long> publish(String channel, String message) {
+        return connections.flatMap(connection -> connection.publishCommands.spublish(channel, message));
+    }
+
+    /**
+     * 수신한 샤드 메시지 스트림 (구독 중인 모든 채널)
+     */
+    public Flux<ShardMessage> messages() {
+        return messages.asFlux();
+    }
+
+    /**
+     * 첫 구독자일 때만 SSUBSCRIBE
+     */
+    public void subscribe(String channel) {
+        AtomicReference<Mono<Void>> command = new AtomicReference<>();
+        channels.compute(channel, (key, state) -> {
+            ChannelState next = state != null ? state : new ChannelState();
+            if (++next.refCount == 1) {
+                command.set(next.enqueue(untilSucceeded(channel,
+                        connections.flatMap(connection -> connection.subscribe.reactive().ssubscribe(channel))
+                                .doOnSuccess(v -> log.debug("SSUBSCRIBE {}", channel)))));
+            }
+            return next;
+        });
+        run(channel, command.get());
+    }
+
+    /**
+     * 마지막 구독자가 빠지면 SUNSUBSCRIBE
+     */
+    public void unsubscribe(String channel) {
+        AtomicReference<Mono<Void>> command = new AtomicReference<>();
+        channels.computeIfPresent(channel, (key, state) -> {
+            if (state.refCount > 0 && --state.refCount == 0) {
+                command.set(state.enqueue(untilSucceeded(channel,
+                        connections.flatMap(connection -> connection.subscribe.reactive().sunsubscribe(channel))
+                                .doOnSuccess(v -> log.debug("SUNSUBSCRIBE {}", channel)))));
+            }
+            return state;
+        });
+        run(channel, command.get());
+    }
+
+    /**
+     * 실패를 서킷에 기록하고, 서킷이 닫힌 뒤 다시 시도 (그동안 이 채널은 로컬 전달만 됨)
+     * 같은 채널의 다음 명령은 이 명령이 끝난 뒤 실행되므로 구독/해제 순서는 유지됨
+     */
+    private Mono<Void> untilSucceeded(String channel, Mono<Void> command) {
+        return circuitBreaker.protect(command)
+                .doOnError(error -> log.warn("Shard channel command failed for {}: {}", channel, error.toString()))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> circuitBreaker.awaitClosed()
+                        .then(Mono.delay(RESUBSCRIBE_DELAY))
+                        .thenReturn(signal))));
+    }
+
+    /**
+     * compute 밖에서 실행 (앞선 명령이 끝나야 시작), 마지막 명령이 해제였으면 채널 상태 제거
+     */
+    private void run(String channel, Mono<Void> command) {
+        if (command == null) {
+            return;
+        }
+        command.subscribe(null, null, () -> channels.computeIfPresent(channel,
+                (key, state) -> state.refCount == 0 && state.tail == command ? null : state));
+    }
+
+    /**
+     * 네이티브 커넥션은 처음 사용할 때 생성 (Redis 장애 중에도 애플리케이션 기동 가능, 블로킹 호출)
+     * Lettuce는 재연결 시 샤드 채널 구독을 자동 복구함
+     */
+    private Connections connect() {
+        AbstractRedisClient client = connectionFactory.getRequiredNativeClient();
+        StatefulConnection<String, String> publishConnection;
+        BaseRedisReactiveCommands<String, String> publishCommands;
+        StatefulRedisPubSubConnection<String, String> subscribeConnection;
+        if (client instanceof RedisClusterClient clusterClient) {
+            StatefulRedisClusterConnection<String, String> connection = clusterClient.connect(StringCodec.UTF8);
+            publishConnection = connection;
+            publishCommands = connection.reactive();
+            subscribeConnection = connectPubSub(connection, () -> clusterClient.connectPubSub(StringCodec.UTF8));
+        } else {
+            RedisClient redisClient = (RedisClient) client;
+            StatefulRedisConnection<String, String> connection = redisClient.connect(StringCodec.UTF8);
+            publishConnection = connection;
+            publishCommands = connection.reactive();
+            subscribeConnection = connectPubSub(connection, () -> redisClient.connectPubSub(StringCodec.UTF8));
+        }
+
+        // RedisPubSubListener.smessage의 기본 구현이 message로 위임하므로 샤드 메시지도 여기로 들어옴
+        subscribeConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                emit(new ShardMessage(channel, message));
+            }
+        });
+        established = new Connections(publishConnection, publishCommands, subscribeConnection);
+        log.info("Sharded pub/sub connections established");
+        return established;
+    }
+
+    /**
+     * 다른 스레드가 emit 중이면 busy-loop 재시도, 그래도 실패하면 버리고 기록
+     * (구독자가 없어 버려지는 경우는 예외 없이 무시됨)
+     */
+    private void emit(ShardMessage message) {
+        try {
+            messages.emitNext(message, EMIT_RETRY);
+        } catch (Sinks.EmissionException e) {
+            droppedCounter.increment();
+            log.warn("Dropped shard message on {}: {}", message.getChannel(), e.getReason());
+        }
+    }
+
+    /**
+     * pubsub 커넥션 생성이 실패하면 먼저 만든 발행 커넥션을 닫음 (다음 시도에서 새로 생성)
+     */
+    private static StatefulRedisPubSubConnection<String, String> connectPubSub(
+            StatefulConnection<String, String> publishConnection,
+            Supplier<? extends StatefulRedisPubSubConnection<String, String>> connector) {
+        try {
+            return connector.get();
+        } catch (RuntimeException e) {
+            publishConnection.close();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Connections connection = established;
+        if (connection != null) {
+            connection.subscribe.close();
+            connection.publish.close();
+        }
+    }
+
+    /**
+     * 발행/구독 네이티브 커넥션 묶음
+     */
+    private static class Connections {
+        private final StatefulConnection<String, String> publish;
+        private final BaseRedisReactiveCommands<String, String> publishCommands;
+        private final StatefulRedisPubSubConnection<String, String> subscribe;
+
+        Connections(StatefulConnection<String, String> publish,
+                BaseRedisReactiveCommands<String, String> publishCommands,
+                StatefulRedisPubSubConnection<String, String> subscribe) {
+            this.publish = publish;
+            this.publishCommands = publishCommands;
+            this.subscribe = subscribe;
+        }
+    }
+
+    /**
+     * 채널별 참조 수와 명령 체인 (채널 compute 안에서만 변경)
+     */
+    private static class ChannelState {
+        private int refCount;
+        private Mono<Void> tail = Mono.empty();
+
+        /**
+         * 이전 명령이 끝난 뒤(실패해도) 실행되도록 이어 붙임, cache라 여러 번 구독해도 한 번만 실행
+         */
+        Mono<Void> enqueue(Mono<Void> command) {
+            tail = tail.then(command).onErrorResume(error -> Mono.empty()).cache();
+            return tail;
+        }
+    }
+
+    @Getter
+    public static class ShardMessage {
+        private final String channel;
+        private final String message;
+
+        public ShardMessage(String channel, String message) {
+            this.channel = channel;
+            this.message = message;
+        }
+    }
+}
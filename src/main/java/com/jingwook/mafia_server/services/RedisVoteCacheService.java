@@ -0,0 +1,161 @@
+package com.jingwook.mafia_server.services;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.jingwook.mafia_server.utils.RedisKeys;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 투표를 Redis Hash로 관리하는 서비스
+ * 실시간 투표 카운트를 효율적으로 처리
+ * Redis 서킷이 열려 있으면 빈 결과를 반환
+ */
+@Service
+@Profile("!standalone")
+public class RedisVoteCacheService implements VoteCacheService {
+    private static final Logger log = LoggerFactory.getLogger(RedisVoteCacheService.class);
+    private static final Duration VOTE_TTL = Duration.ofHours(1);
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisGameKeyspace gameKeyspace;
+
+    public RedisVoteCacheService(ReactiveRedisTemplate<String, Object> redisTemplate, RedisCircuitBreaker circuitBreaker,
+            RedisGameKeyspace gameKeyspace) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.gameKeyspace = gameKeyspace;
+    }
+
+    /**
+     * 투표 등록 (기존 투표가 있으면 변경)
+     * Hash key: game:{gameId}:vote:{dayCount}
+     * Hash field: {voterUserId}
+     * Hash value: {targetUserId}
+     */
+    @Override
+    public Mono<Void> vote(String gameId, int dayCount, String voterUserId, String targetUserId) {
+        String voteKey = buildVoteKey(gameId, dayCount);
+        String countKey = buildVoteCountKey(gameId, dayCount);
+
+        // 1. 기존 투표 확인
+        return redisTemplate.opsForHash().get(voteKey, voterUserId)
+                .defaultIfEmpty("")
+                .flatMap(oldTarget -> {
+                    String oldTargetStr = oldTarget.toString();
+
+                    // 2. 기존 투표가 있으면 카운트 감소
+                    Mono<Void> decrementOld = Mono.empty();
+                    if (!oldTargetStr.isEmpty() && !oldTargetStr.equals(targetUserId)) {
+                        decrementOld = redisTemplate.opsForHash()
+                                .increment(countKey, oldTargetStr, -1)
+                                .then();
+                    }
+
+                    // 3. 새 투표 저장
+                    Mono<Void> saveVote = redisTemplate.opsForHash()
+                            .put(voteKey, voterUserId, targetUserId)
+                            .then();
+
+                    // 4. 새 타겟 카운트 증가
+                    Mono<Void> incrementNew = redisTemplate.opsForHash()
+                            .increment(countKey, targetUserId, 1)
+                            .then();
+
+                    // 5. TTL 설정 및 게임 키 인덱스 등록
+                    Mono<Void> setExpire = redisTemplate.expire(voteKey, VOTE_TTL)
+                            .then(redisTemplate.expire(countKey, VOTE_TTL))
+                            .then(gameKeyspace.track(gameId, voteKey, VOTE_TTL))
+                            .then(gameKeyspace.track(gameId, countKey, VOTE_TTL));
+
+                    return decrementOld.then(saveVote).then(incrementNew).then(setExpire);
+                })
+                .doOnSuccess(v -> log.debug("Voted: {} -> {} (game:{}, day:{})",
+                        voterUserId, targetUserId, gameId, dayCount))
+                .doOnError(error -> log.error("Failed to vote", error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 투표 카운트 조회
+     */
+    @Override
+    public Mono<Map<Object, Object>> getVoteCounts(String gameId, int dayCount) {
+        String countKey = buildVoteCountKey(gameId, dayCount);
+
+        return redisTemplate.opsForHash().entries(countKey)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnSuccess(counts -> log.debug("Retrieved vote counts for game:{}, day:{}", gameId, dayCount))
+                .doOnError(error -> log.error("Failed to get vote counts", error))
+                .transform(call -> circuitBreaker.execute(call, () -> Mono.just(Map.of())));
+    }
+
+    /**
+     * 모든 투표 정보 조회
+     */
+    @Override
+    public Mono<Map<Object, Object>> getAllVotes(String gameId, int dayCount) {
+        String voteKey = buildVoteKey(gameId, dayCount);
+
+        return redisTemplate.opsForHash().entries(voteKey)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnSuccess(votes -> log.debug("Retrieved all votes for game:{}, day:{}", gameId, dayCount))
+                .doOnError(error -> log.error("Failed to get all votes", error))
+                .transform(call -> circuitBreaker.execute(call, () -> Mono.just(Map.of())));
+    }
+
+    /**
+     * 투표 취소
+     */
+    @Override
+    public Mono<Void> cancelVote(String gameId, int dayCount, String voterUserId) {
+        String voteKey = buildVoteKey(gameId, dayCount);
+        String countKey = buildVoteCountKey(gameId, dayCount);
+
+        return redisTemplate.opsForHash().get(voteKey, voterUserId)
+                .flatMap(target -> {
+                    // 카운트 감소
+                    return redisTemplate.opsForHash()
+                            .increment(countKey, target.toString(), -1)
+                            .then(redisTemplate.opsForHash().remove(voteKey, voterUserId))
+                            .then();
+                })
+                .doOnSuccess(v -> log.debug("Cancelled vote for voter: {}", voterUserId))
+                .doOnError(error -> log.error("Failed to cancel vote", error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    /**
+     * 특정 일차 투표 데이터 삭제
+     */
+    @Override
+    public Mono<Void> clearVotes(String gameId, int dayCount) {
+        String voteKey = buildVoteKey(gameId, dayCount);
+        String countKey = buildVoteCountKey(gameId, dayCount);
+
+        return redisTemplate.delete(voteKey)
+                .then(redisTemplate.delete(countKey))
+                .doOnSuccess(v -> log.debug("Cleared votes for game:{}, day:{}", gameId, dayCount))
+                .doOnError(error -> log.error("Failed to clear votes", error))
+                .then()
+                .transform(call -> circuitBreaker.execute(call, Mono::empty));
+    }
+
+    private String buildVoteKey(String gameId, int dayCount) {
+        return RedisKeys.votes(gameId, dayCount);
+    }
+
+    private String buildVoteCountKey(String gameId, int dayCount) {
+        return RedisKeys.voteCounts(gameId, dayCount);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jingwook.mafia_server.utils;
+
+import com.jingwook.mafia_server.enums.ActionType;
+
+/**
+ * 게임 단위 Redis 키 생성
+ * 모든 게임 키에 {gameId} 해시 태그를 붙여 클러스터에서도 한 게임의 키가 같은 슬롯에 위치하도록 함
+ * (멀티 키 Lua, MULTI/EXEC, 게임 단위 정리 스크립트가 가능)
+ */
+public class RedisKeys {
+    private static final String GAME_PREFIX = "game:";
+
+    private RedisKeys() {
+    }
+
+    public static String gameTag(String gameId) {
+        return "{" + gameId + "}";
+    }
+
+    /**
+     * 게임에서 생성된 모든 키를 모아두는 Set (정리 스크립트용)
+     */
+    public static String gameKeyIndex(String gameId) {
+        return GAME_PREFIX + gameTag(gameId) + ":keys";
+    }
+
+    public static String gameState(String gameId) {
+        return GAME_PREFIX + gameTag(gameId) + ":state";
+    }
+
+    /**
+     * Hash field: {voterUserId}, value: {targetUserId}
+     */
+    public static String votes(String gameId, int dayCount) {
+        return GAME_PREFIX + gameTag(gameId) + ":vote:" + dayCount;
+    }
+
+    /**
+     * Hash field: {targetUserId}, value: 득표 수
+     */
+    public static String voteCounts(String gameId, int dayCount) {
+        return GAME_PREFIX + gameTag(gameId) + ":vote:count:" + dayCount;
+    }
+
+    /**
+     * Hash field: {actionType}:{actorUserId}, value: 액션 데이터
+     */
+    public static String actions(String gameId, int dayCount) {
+        return GAME_PREFIX + gameTag(gameId) + ":action:" + dayCount;
+    }
+
+    public static String actionField(ActionType actionType, String actorUserId) {
+        return actionType + ":" + actorUserId;
+    }
+
+    /**
+     * 게임 이벤트 seq 카운터 (INCR, 모든 노드가 공유)
+     */
+    public static String eventSequence(String gameId) {
+        return GAME_PREFIX + gameTag(gameId) + ":event:seq";
+    }
+
+    /**
+     * 락 키 (RedisLockService가 lock: 접두어를 붙임)
+     */
+    public static String phaseTransitionLock(String gameId) {
+        return "phase:transition:" + gameTag(gameId);
+    }
+
+    /**
+     * 샤드 Pub/Sub 채널 (게임 이벤트)
+     */
+    public static String gameEventChannel(String gameId) {
+        return GAME_PREFIX + gameTag(gameId) + ":event";
+    }
+
+    /**
+     * 샤드 Pub/Sub 채널 (게임 채팅)
+     */
+    public static String gameChatChannel(String gameId) {
+        return GAME_PREFIX + gameTag(gameId) + ":chat";
+    }
+}
@@ -0,0 +1,99 @@
+-- standalone 프로필용 H2 (MODE=MySQL) 스키마
+-- Flyway 마이그레이션(V1~V7) 적용 결과와 동일한 구조
+
+-- Users 테이블
+CREATE TABLE IF NOT EXISTS users (
+    id VARCHAR(255) PRIMARY KEY,
+    nickname VARCHAR(255) NOT NULL UNIQUE,
+    joined_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Rooms 테이블
+CREATE TABLE IF NOT EXISTS rooms (
+    id VARCHAR(255) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    max_players INT NOT NULL DEFAULT 8,
+    status VARCHAR(50) NOT NULL DEFAULT 'AVAILABLE',
+    host_user_id VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (host_user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_rooms_status ON rooms(status);
+
+-- Room Members 테이블
+CREATE TABLE IF NOT EXISTS room_members (
+    id VARCHAR(255) PRIMARY KEY,
+    room_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    game_role VARCHAR(50),
+    is_alive BOOLEAN,
+    joined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_room_user UNIQUE (room_id, user_id),
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_room_members_user_id ON room_members(user_id);
+
+-- Games 테이블
+CREATE TABLE IF NOT EXISTS games (
+    id VARCHAR(255) PRIMARY KEY,
+    room_id VARCHAR(255) NOT NULL,
+    current_phase VARCHAR(50) NOT NULL,
+    day_count INT NOT NULL DEFAULT 1,
+    phase_start_time TIMESTAMP NOT NULL,
+    phase_duration_seconds INT NOT NULL,
+    winner_team VARCHAR(50),
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    defendant_user_id VARCHAR(255),
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_games_room_id ON games(room_id);
+CREATE INDEX IF NOT EXISTS idx_games_finished_at ON games(finished_at);
+
+-- Game Players 테이블
+CREATE TABLE IF NOT EXISTS game_players (
+    id VARCHAR(255) PRIMARY KEY,
+    game_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    is_alive BOOLEAN NOT NULL DEFAULT TRUE,
+    position INT NOT NULL,
+    died_at TIMESTAMP,
+    CONSTRAINT unique_game_user UNIQUE (game_id, user_id),
+    FOREIGN KEY (game_id) REFERENCES games(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_game_players_game_alive ON game_players(game_id, is_alive);
+
+-- Game Actions 테이블
+CREATE TABLE IF NOT EXISTS game_actions (
+    id VARCHAR(255) PRIMARY KEY,
+    game_id VARCHAR(255) NOT NULL,
+    day_count INT NOT NULL,
+    phase VARCHAR(50) NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    actor_user_id VARCHAR(255) NOT NULL,
+    target_user_id VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (game_id) REFERENCES games(id) ON DELETE CASCADE,
+    FOREIGN KEY (actor_user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (target_user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_game_actions_game_day_type ON game_actions(game_id, day_count, type);
+
+-- Chat Messages 테이블
+CREATE TABLE IF NOT EXISTS chat_messages (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    context_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    chat_type VARCHAR(20) NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_chat_context_type ON chat_messages(context_id, chat_type, created_at);
@@ -0,0 +1,114 @@
+package com.jingwook.mafia_server.handlers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+    private final GameChannelAccess channelAccess = mock(GameChannelAccess.class);
+    @SuppressWarnings("unchecked")
+    private final AdmissionController controller = new AdmissionController(registry, channelAccess,
+            mock(ObjectProvider.class), meterRegistry, false, 200, 20, 100, 0.9, 7);
+
+    @Test
+    void filter_임계치를_넘으면_방_생성을_503과_Retry_After로_거절한다() {
+        // given
+        controller.update(500, 0, 10, 0.5);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/rooms"));
+
+        // when
+        AtomicBoolean passed = filter(exchange);
+
+        // then
+        assertFalse(passed.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("7", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(List.of("loop-lag"), controller.getSnapshot().getReasons());
+    }
+
+    @Test
+    void filter_거절_중에도_게임_소켓과_진행_중인_요청은_허용한다() {
+        // given
+        controller.update(0, 50, 10, 0.5);
+        MockServerWebExchange gameSocket = MockServerWebExchange.from(MockServerHttpRequest.get("/ws/games/g1/events")
+                .header(HttpHeaders.UPGRADE, "websocket"));
+        MockServerWebExchange action = MockServerWebExchange.from(MockServerHttpRequest.post("/games/g1/actions"));
+        MockServerWebExchange roomSocket = MockServerWebExchange.from(MockServerHttpRequest.get("/ws/rooms/r1")
+                .header(HttpHeaders.UPGRADE, "websocket"));
+
+        // when & then
+        assertTrue(filter(gameSocket).get());
+        assertTrue(filter(action).get());
+        assertFalse(filter(roomSocket).get());
+        assertEquals(1, meterRegistry.counter("mafia.admission.rejected", "target", "websocket").count());
+    }
+
+    @Test
+    void filter_거절_중에는_진행_중인_게임의_참가자만_단일_세션으로_다시_붙을_수_있다() {
+        // given
+        controller.update(500, 0, 10, 0.5);
+        registry.acquire(SubscriptionChannel.gameEvents("g1").getName());
+        when(channelAccess.isPlayer("g1", "u1")).thenReturn(Mono.just(true));
+        when(channelAccess.isPlayer("g1", "stranger")).thenReturn(Mono.just(false));
+
+        // when & then
+        assertTrue(filter(sessionSocket("/ws/session?gameId=g1&userId=u1")).get());
+        assertFalse(filter(sessionSocket("/ws/session?gameId=g1&userId=stranger")).get());
+        assertFalse(filter(sessionSocket("/ws/session?gameId=g1")).get());
+        assertFalse(filter(sessionSocket("/ws/session?gameId=g2&userId=u1")).get());
+        verify(channelAccess, never()).isPlayer(eq("g2"), anyString());
+        assertEquals(3, meterRegistry.counter("mafia.admission.rejected", "target", "websocket").count());
+    }
+
+    @Test
+    void liveHeapRatio_힙_사용률을_0과_1_사이로_돌려준다() {
+        // when
+        System.gc();
+        double ratio = AdmissionController.liveHeapRatio();
+
+        // then
+        assertTrue(ratio > 0 && ratio <= 1, "ratio " + ratio);
+    }
+
+    @Test
+    void filter_측정값이_임계치_아래로_돌아오면_다시_허용한다() {
+        // given
+        controller.update(0, 0, 500, 0.95);
+        controller.update(0, 0, 10, 0.5);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/rooms"));
+
+        // when & then
+        assertTrue(filter(exchange).get());
+        assertFalse(controller.isShedding());
+    }
+
+    private static MockServerWebExchange sessionSocket(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri).header(HttpHeaders.UPGRADE, "websocket"));
+    }
+
+    private AtomicBoolean filter(MockServerWebExchange exchange) {
+        AtomicBoolean passed = new AtomicBoolean(false);
+        WebFilterChain chain = ignored -> {
+            passed.set(true);
+            return Mono.empty();
+        };
+        controller.filter(exchange, chain).block();
+        return passed;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jingwook.mafia_server.handlers;
+
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크(@Tag("benchmark")) 결과 기록 (stdout 대신)
+ * - JUnit TestReporter 엔트리 (IDE, 리포트)
+ * - build/benchmark/{name}.properties (-Dmafia.benchmark.dir로 변경), 실행할 때마다 덮어씀
+ */
+final class BenchmarkReport {
+    static final String TAG = "benchmark";
+
+    private final String name;
+    private final TestReporter reporter;
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    BenchmarkReport(String name, TestReporter reporter) {
+        this.name = name;
+        this.reporter = reporter;
+    }
+
+    BenchmarkReport put(String key, Object value) {
+        values.put(key, String.valueOf(value));
+        return this;
+    }
+
+    void write() throws IOException {
+        reporter.publishEntry(values);
+        Path dir = Path.of(System.getProperty("mafia.benchmark.dir", "build/benchmark"));
+        Files.createDirectories(dir);
+        try (Writer writer = Files.newBufferedWriter(dir.resolve(name + ".properties"), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * 나노초 측정값의 백분위수 (마이크로초)
+     */
+    static long percentileMicros(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+    }
+}
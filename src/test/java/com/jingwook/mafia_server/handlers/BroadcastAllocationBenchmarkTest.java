@@ -0,0 +1,146 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 구독자 1,000명 채널 브로드캐스트의 힙 할당량: 공유 풀 버퍼 vs 세션별 인코딩
+ * - 공유: 한 번 인코딩한 풀 버퍼를 공용 Sink로 emit, 세션 버퍼는 복제본(retain)만 적재 (현재 구조)
+ * - 세션별: 세션마다 프레임을 다시 인코딩해서 적재
+ * 전달이 호출 스레드에서 끝나므로 ThreadMXBean#getCurrentThreadAllocatedBytes로 이벤트당 할당량을 잼
+ * (풀 버퍼 본문은 힙 밖이므로 사용 중인 direct 메모리도 함께 기록)
+ * -Dmafia.benchmark.allocation.subscribers=5000 처럼 규모를 바꿔 실행, 결과는 BenchmarkReport
+ */
+@Tag(BenchmarkReport.TAG)
+class BroadcastAllocationBenchmarkTest {
+
+    private static final int SUBSCRIBERS = Integer.getInteger("mafia.benchmark.allocation.subscribers", 1_000);
+    private static final int EVENTS = Integer.getInteger("mafia.benchmark.allocation.events", 200);
+    private static final int WARMUP = Integer.getInteger("mafia.benchmark.allocation.warmup", 200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FrameCodec frameCodec = new FrameCodec(new ObjectMapper(), meterRegistry);
+    private final SessionOutboxFactory outboxFactory = new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void 공유_버퍼와_세션별_인코딩의_이벤트당_할당량을_비교한다(TestReporter testReporter) throws Exception {
+        // given
+        assumeAllocationMeasurable();
+        Sinks.Many<OutboundMessage> sink = Sinks.many().multicast().directBestEffort();
+        AtomicLong delivered = new AtomicLong();
+        AtomicLong peakDirect = new AtomicLong();
+        List<SessionOutbox> outboxes = new ArrayList<>();
+        List<Disposable> sessions = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            SessionOutbox outbox = outboxFactory.create(() -> {});
+            outboxes.add(outbox);
+            sessions.add(outbox.attach(sink.asFlux()).subscribe(message -> {
+                delivered.incrementAndGet();
+                message.release();
+            }));
+        }
+
+        // when
+        measure(() -> shared(sink, peakDirect), WARMUP);
+        measure(() -> perSession(outboxes, peakDirect), WARMUP);
+        delivered.set(0);
+        long sharedBytes = measure(() -> shared(sink, peakDirect), EVENTS);
+        long perSessionBytes = measure(() -> perSession(outboxes, peakDirect), EVENTS);
+
+        // then
+        sessions.forEach(Disposable::dispose);
+        assertEquals(2L * EVENTS * SUBSCRIBERS, delivered.get());
+        assertTrue(sharedBytes < perSessionBytes,
+                "shared " + sharedBytes + " B/event should allocate less than per-session " + perSessionBytes);
+        new BenchmarkReport("broadcast-allocation", testReporter)
+                .put("subscribers", SUBSCRIBERS)
+                .put("events", EVENTS)
+                .put("shared.heap.bytes.per.event", sharedBytes)
+                .put("shared.heap.bytes.per.delivery", sharedBytes / SUBSCRIBERS)
+                .put("per.session.heap.bytes.per.event", perSessionBytes)
+                .put("per.session.heap.bytes.per.delivery", perSessionBytes / SUBSCRIBERS)
+                .put("peak.pooled.direct.bytes", peakDirect.get())
+                .write();
+    }
+
+    /**
+     * 현재 구조: 인코딩 한 번 + emit (세션 버퍼는 retain한 복제본)
+     */
+    private void shared(Sinks.Many<OutboundMessage> sink, AtomicLong peakDirect) throws Exception {
+        OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, body());
+        try {
+            sink.tryEmitNext(message);
+            recordDirect(peakDirect);
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * 비교 대상: 세션마다 다시 인코딩
+     */
+    private void perSession(List<SessionOutbox> outboxes, AtomicLong peakDirect) throws Exception {
+        Map<String, Object> body = body();
+        for (SessionOutbox outbox : outboxes) {
+            OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, body);
+            try {
+                outbox.offer(message);
+            } finally {
+                message.release();
+            }
+        }
+        recordDirect(peakDirect);
+    }
+
+    /**
+     * @return 이벤트당 평균 힙 할당 바이트 (측정 스레드 기준)
+     */
+    private long measure(Broadcast broadcast, int events) throws Exception {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < events; i++) {
+            broadcast.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / events;
+    }
+
+    private void recordDirect(AtomicLong peakDirect) {
+        peakDirect.accumulateAndGet(PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory(), Math::max);
+    }
+
+    private void assumeAllocationMeasurable() {
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "JVM does not support thread allocation counters");
+    }
+
+    private static Map<String, Object> body() {
+        return Map.of(
+                "channel", SubscriptionChannel.gameEvents("g1").getName(),
+                "seq", 1,
+                "type", WebSocketMessageType.PHASE_CHANGED.name(),
+                "data", Map.of("phase", "DAY", "dayCount", 1, "remainingSeconds", 60));
+    }
+
+    @FunctionalInterface
+    private interface Broadcast {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,127 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FrameCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FrameCodec frameCodec = new FrameCodec(objectMapper, new SimpleMeterRegistry());
+
+    @Test
+    void encode_CBOR_세션이_없으면_JSON_텍스트_프레임만_만든다() throws Exception {
+        // given
+        OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, phaseChanged());
+
+        // when
+        WebSocketMessage frame = message.toWebSocketMessage(WireFormat.CBOR);
+
+        // then
+        assertEquals(WebSocketMessage.Type.TEXT, frame.getType());
+        frame.release();
+    }
+
+    @Test
+    void encode_CBOR_세션이_있으면_같은_내용의_더_작은_바이너리_프레임을_만든다() throws Exception {
+        // given
+        WireFormat format = frameCodec.open(session("mafia.cbor"));
+        Map<String, Object> body = phaseChanged();
+
+        // when
+        OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, body);
+        int jsonBytes = objectMapper.writeValueAsBytes(body).length;
+        WebSocketMessage frame = message.toWebSocketMessage(format);
+
+        // then
+        assertEquals(WireFormat.CBOR, format);
+        assertEquals(WebSocketMessage.Type.BINARY, frame.getType());
+        byte[] cbor = read(frame.getPayload());
+        assertTrue(cbor.length < jsonBytes);
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(body)), new CBORMapper().readTree(cbor));
+        frame.release();
+        frameCodec.close(format);
+    }
+
+    @Test
+    void readFrame_CBOR_명령_프레임을_역직렬화한다() throws Exception {
+        // given
+        byte[] cbor = new CBORMapper().writeValueAsBytes(Map.of(
+                "action", "REGISTER_ACTION",
+                "requestId", "r1",
+                "gameId", "g1",
+                "data", Map.of("type", "VOTE", "targetUserId", "u2")
+        ));
+        WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.BINARY,
+                DefaultDataBufferFactory.sharedInstance.wrap(cbor));
+
+        // when
+        SessionFrameDto frame = frameCodec.readFrame(message, WireFormat.CBOR);
+
+        // then
+        assertEquals("REGISTER_ACTION", frame.getAction());
+        assertEquals("r1", frame.getRequestId());
+        assertEquals("u2", frame.getData().get("targetUserId").asText());
+    }
+
+    @Test
+    void open_서브프로토콜이_없으면_JSON이다() {
+        assertEquals(WireFormat.JSON, frameCodec.open(session(null)));
+    }
+
+    private WebSocketSession session(String subProtocol) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getHandshakeInfo()).thenReturn(
+                new HandshakeInfo(URI.create("/ws/session"), new HttpHeaders(), Mono.empty(), subProtocol));
+        return session;
+    }
+
+    @Test
+    void encode_게임_이벤트의_seq를_메시지에_기록한다() throws Exception {
+        // when
+        OutboundMessage event = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, phaseChanged());
+        OutboundMessage ack = frameCodec.encode(WebSocketMessageType.ACK, Map.of("type", "ACK"));
+        OutboundMessage replica = event.retain();
+
+        // then
+        assertEquals(12, event.getSeq());
+        assertEquals(12, replica.getSeq());
+        assertEquals(0, ack.getSeq());
+        event.release();
+        replica.release();
+        ack.release();
+    }
+
+    private Map<String, Object> phaseChanged() {
+        return Map.of(
+                "channel", "game:g1:events",
+                "seq", 12,
+                "type", "PHASE_CHANGED",
+                "data", Map.of("phase", "NIGHT", "dayCount", 3, "alivePlayerIds", List.of("u1", "u2", "u3"))
+        );
+    }
+
+    private byte[] read(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        return bytes;
+    }
+}
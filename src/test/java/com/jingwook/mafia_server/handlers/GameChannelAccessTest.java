@@ -0,0 +1,80 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.entities.GamePlayerEntity;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.PlayerRole;
+import com.jingwook.mafia_server.repositories.GamePlayerR2dbcRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameChannelAccessTest {
+
+    private final GamePlayerR2dbcRepository gamePlayerRepository = mock(GamePlayerR2dbcRepository.class);
+    private final GameChannelAccess access = new GameChannelAccess(gamePlayerRepository);
+
+    @Test
+    void isAllowed_마피아_채팅은_MAFIA_역할만_허용한다() {
+        // given
+        givenPlayer("mafia", PlayerRole.MAFIA, true);
+        givenPlayer("citizen", PlayerRole.CITIZEN, true);
+        SubscriptionChannel channel = SubscriptionChannel.gameChat("g1", ChatType.GAME_MAFIA);
+
+        // when & then
+        assertTrue(access.isAllowed(session("mafia"), channel).block());
+        assertFalse(access.isAllowed(session("citizen"), channel).block());
+    }
+
+    @Test
+    void isAllowed_사망자_채팅은_죽은_플레이어만_허용한다() {
+        // given
+        givenPlayer("dead", PlayerRole.CITIZEN, false);
+        givenPlayer("alive", PlayerRole.CITIZEN, true);
+        SubscriptionChannel channel = SubscriptionChannel.gameChat("g1", ChatType.GAME_DEAD);
+
+        // when & then
+        assertTrue(access.isAllowed(session("dead"), channel).block());
+        assertFalse(access.isAllowed(session("alive"), channel).block());
+    }
+
+    @Test
+    void isAllowed_참가자가_아니면_제한된_채팅은_거부하고_전체_채팅은_허용한다() {
+        // given
+        when(gamePlayerRepository.findByGameIdAndUserId("g1", "stranger")).thenReturn(Mono.empty());
+
+        // when & then
+        assertFalse(access.isAllowed(session("stranger"), SubscriptionChannel.gameChat("g1", ChatType.GAME_MAFIA)).block());
+        assertFalse(access.isAllowed(session(null), SubscriptionChannel.gameChat("g1", ChatType.GAME_DEAD)).block());
+        assertTrue(access.isAllowed(session("stranger"), SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL)).block());
+    }
+
+    @Test
+    void isAllowed_참가자를_조회하면_세션에_게임과_역할을_기록한다() {
+        // given
+        givenPlayer("mafia", PlayerRole.MAFIA, true);
+        SessionRegistry.SessionInfo info = session("mafia");
+
+        // when
+        access.isAllowed(info, SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL)).block();
+
+        // then
+        assertTrue(info.isBoundTo("g1"));
+        assertEquals(PlayerRole.MAFIA, info.getRole());
+    }
+
+    private void givenPlayer(String userId, PlayerRole role, boolean alive) {
+        GamePlayerEntity player = GamePlayerEntity.builder()
+                .gameId("g1")
+                .userId(userId)
+                .role(role.name())
+                .isAlive(alive)
+                .build();
+        when(gamePlayerRepository.findByGameIdAndUserId("g1", userId)).thenReturn(Mono.just(player));
+    }
+
+    private SessionRegistry.SessionInfo session(String userId) {
+        return new SessionRegistry.SessionInfo("s-" + userId, "game", userId, null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jingwook.mafia_server.dtos.RegisterActionDto;
+import com.jingwook.mafia_server.dtos.SendChatDto;
+import com.jingwook.mafia_server.dtos.SessionFrameDto;
+import com.jingwook.mafia_server.enums.ActionType;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.ChatService;
+import com.jingwook.mafia_server.services.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameCommandDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GameService gameService = mock(GameService.class);
+    private final ChatService chatService = mock(ChatService.class);
+    private final ControlFrameWriter controlFrameWriter = mock(ControlFrameWriter.class);
+    private final SessionOutbox outbox = new SessionOutboxFactory(new SimpleMeterRegistry(), 256, 50, false, 1, 0)
+            .create(() -> {});
+    private final GameCommandDispatcher dispatcher = new GameCommandDispatcher(gameService, chatService, objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator(), controlFrameWriter, new SimpleMeterRegistry());
+
+    @Test
+    void dispatch_행동_등록의_actorUserId는_세션의_userId로_덮어쓴다() {
+        // given
+        when(gameService.registerAction(anyString(), any())).thenReturn(Mono.empty());
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("type", ActionType.VOTE.name())
+                .put("targetUserId", "u2")
+                .put("actorUserId", "someone-else");
+
+        // when
+        dispatcher.dispatch("u1", "g1", frame("REGISTER_ACTION", data), outbox).block();
+
+        // then
+        ArgumentCaptor<RegisterActionDto> captor = ArgumentCaptor.forClass(RegisterActionDto.class);
+        verify(gameService).registerAction(eq("g1"), captor.capture());
+        assertEquals("u1", captor.getValue().getActorUserId());
+        assertEquals("u2", captor.getValue().getTargetUserId());
+        verify(controlFrameWriter).write(eq(outbox), eq(WebSocketMessageType.ACK), anyMap());
+    }
+
+    @Test
+    void dispatch_채팅의_userId는_세션의_userId로_덮어쓴다() {
+        // given
+        when(chatService.sendGameChat(anyString(), any(), any())).thenReturn(Mono.empty());
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("chatType", ChatType.GAME_ALL.name())
+                .put("message", "hi")
+                .put("userId", "someone-else");
+
+        // when
+        dispatcher.dispatch("u1", "g1", frame("SEND_CHAT", data), outbox).block();
+
+        // then
+        ArgumentCaptor<SendChatDto> captor = ArgumentCaptor.forClass(SendChatDto.class);
+        verify(chatService).sendGameChat(eq("g1"), captor.capture(), eq(ChatType.GAME_ALL));
+        assertEquals("u1", captor.getValue().getUserId());
+    }
+
+    @Test
+    void dispatch_세션의_userId가_없으면_클라이언트_값을_쓰지_않고_거절한다() {
+        // given
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("chatType", ChatType.GAME_ALL.name())
+                .put("message", "hi")
+                .put("userId", "someone-else");
+
+        // when
+        dispatcher.dispatch(null, "g1", frame("SEND_CHAT", data), outbox).block();
+
+        // then
+        verifyNoInteractions(chatService);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(controlFrameWriter).write(eq(outbox), eq(WebSocketMessageType.ERROR), captor.capture());
+        assertEquals("r1", captor.getValue().get("requestId"));
+    }
+
+    private SessionFrameDto frame(String action, ObjectNode data) {
+        SessionFrameDto frame = new SessionFrameDto();
+        frame.setAction(action);
+        frame.setRequestId("r1");
+        frame.setData(data);
+        return frame;
+    }
+}
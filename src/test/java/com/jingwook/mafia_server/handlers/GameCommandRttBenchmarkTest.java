@@ -0,0 +1,193 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.controllers.GameController;
+import com.jingwook.mafia_server.services.ChatService;
+import com.jingwook.mafia_server.services.GameSequenceService;
+import com.jingwook.mafia_server.services.GameService;
+import com.jingwook.mafia_server.services.MessageBrokerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.server.support.WebSocketHandlerAdapter;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 행동 등록(REGISTER_ACTION)의 왕복 시간: 게임 소켓 명령(ACK까지) vs HTTP POST /games/{gameId}/actions
+ * 로컬 Netty 서버에 실제 GameWebSocketHandler와 GameController를 올리고 loopback으로 요청 (서비스는 즉시 완료하는 모의 객체)
+ * 한 번에 하나씩 보내고 응답을 받은 뒤 다음 요청 (연결 재사용, 직렬 RTT)
+ * -Dmafia.benchmark.rtt.requests=5000 처럼 규모를 바꿔 실행, 결과는 BenchmarkReport
+ */
+@Tag(BenchmarkReport.TAG)
+class GameCommandRttBenchmarkTest {
+
+    private static final int WARMUP = Integer.getInteger("mafia.benchmark.rtt.warmup", 500);
+    private static final int REQUESTS = Integer.getInteger("mafia.benchmark.rtt.requests", 2_000);
+    private static final String ACTION = "{\"type\":\"VOTE\",\"targetUserId\":\"u2\"}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GameService gameService = mock(GameService.class);
+
+    private AnnotationConfigApplicationContext context;
+    private DisposableServer server;
+
+    @BeforeEach
+    void startServer() {
+        when(gameService.registerAction(anyString(), any())).thenReturn(Mono.empty());
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(WebFluxOnly.class);
+        context.registerBean(GameController.class, () -> new GameController(gameService));
+        context.registerBean("webSocketHandlerMapping", HandlerMapping.class, this::webSocketHandlerMapping);
+        context.registerBean(WebSocketHandlerAdapter.class, WebSocketHandlerAdapter::new);
+        context.refresh();
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle(new ReactorHttpHandlerAdapter(WebHttpHandlerBuilder.applicationContext(context).build()))
+                .bindNow();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.disposeNow();
+        context.close();
+    }
+
+    @Test
+    void 게임_소켓_명령과_HTTP_요청의_왕복_시간을_비교한다(TestReporter testReporter) throws Exception {
+        // when
+        long[] websocket = measureWebSocket();
+        long[] http = measureHttp();
+
+        // then
+        verify(gameService, times(2 * (WARMUP + REQUESTS))).registerAction(eq("g1"), any());
+        new BenchmarkReport("game-command-rtt", testReporter)
+                .put("requests", REQUESTS)
+                .put("ws.p50.us", BenchmarkReport.percentileMicros(websocket, 50))
+                .put("ws.p99.us", BenchmarkReport.percentileMicros(websocket, 99))
+                .put("http.p50.us", BenchmarkReport.percentileMicros(http, 50))
+                .put("http.p99.us", BenchmarkReport.percentileMicros(http, 99))
+                .write();
+    }
+
+    /**
+     * ACK를 받을 때마다 다음 명령 전송, 측정 구간은 전송 직전부터 ACK 수신까지
+     */
+    private long[] measureWebSocket() {
+        long[] samples = new long[REQUESTS];
+        AtomicInteger sent = new AtomicInteger();
+        long[] sentAt = new long[1];
+        Sinks.Many<String> outgoing = Sinks.many().unicast().onBackpressureBuffer();
+        URI uri = URI.create("ws://127.0.0.1:" + server.port() + "/ws/games/g1/events?userId=u1");
+
+        new ReactorNettyWebSocketClient().execute(uri, session -> {
+            Mono<Void> send = session.send(outgoing.asFlux().map(session::textMessage));
+            Mono<Void> receive = session.receive()
+                    .map(WebSocketMessage::getPayloadAsText)
+                    .filter(payload -> payload.contains("\"ACK\""))
+                    .take(WARMUP + REQUESTS)
+                    .doOnNext(ack -> {
+                        int index = sent.get() - 1 - WARMUP;
+                        if (index >= 0) {
+                            samples[index] = System.nanoTime() - sentAt[0];
+                        }
+                        if (sent.get() < WARMUP + REQUESTS) {
+                            sendCommand(outgoing, sent, sentAt);
+                        } else {
+                            outgoing.tryEmitComplete();
+                        }
+                    })
+                    .then();
+            sendCommand(outgoing, sent, sentAt);
+            return Mono.zip(send, receive).then();
+        }).block(Duration.ofMinutes(5));
+
+        assertEquals(WARMUP + REQUESTS, sent.get());
+        return samples;
+    }
+
+    private void sendCommand(Sinks.Many<String> outgoing, AtomicInteger sent, long[] sentAt) {
+        String frame = "{\"action\":\"REGISTER_ACTION\",\"requestId\":\"" + sent.incrementAndGet()
+                + "\",\"data\":" + ACTION + "}";
+        sentAt[0] = System.nanoTime();
+        outgoing.tryEmitNext(frame);
+    }
+
+    private long[] measureHttp() {
+        long[] samples = new long[REQUESTS];
+        WebClient client = WebClient.create("http://127.0.0.1:" + server.port());
+        for (int i = 0; i < WARMUP + REQUESTS; i++) {
+            long startedAt = System.nanoTime();
+            client.post()
+                    .uri("/games/g1/actions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"type\":\"VOTE\",\"targetUserId\":\"u2\",\"actorUserId\":\"u1\"}")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(Duration.ofSeconds(10));
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = System.nanoTime() - startedAt;
+            }
+        }
+        return samples;
+    }
+
+    private HandlerMapping webSocketHandlerMapping() {
+        FrameCodec frameCodec = new FrameCodec(objectMapper, meterRegistry);
+        GameCommandDispatcher dispatcher = new GameCommandDispatcher(gameService, mock(ChatService.class),
+                objectMapper, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ControlFrameWriter(frameCodec), meterRegistry);
+        GameChannelAccess channelAccess = mock(GameChannelAccess.class);
+        when(channelAccess.isAllowed(any(), any())).thenReturn(Mono.just(false));
+
+        GameWebSocketHandler handler = new GameWebSocketHandler(mock(MessageBrokerService.class),
+                new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0), dispatcher,
+                new SessionHeartbeatMonitor(meterRegistry, 15_000, 2, 120_000), new GameEventLog(64, 600_000),
+                gameService, frameCodec, new SessionRegistry(meterRegistry), new GameEventLoops(meterRegistry, false),
+                mock(GameTickBroadcaster.class), mock(SignalRelay.class), mock(GameSequenceService.class),
+                channelAccess);
+
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping();
+        mapping.setOrder(1);
+        mapping.setUrlMap(Map.of("/ws/games/*/events", handler));
+        return mapping;
+    }
+
+    /**
+     * Spring Boot 자동 설정 없이 WebFlux 디스패처만 (DB/Redis 없이 컨트롤러와 WebSocket 핸들러만 올림)
+     */
+    @Configuration
+    @EnableWebFlux
+    static class WebFluxOnly {
+    }
+}
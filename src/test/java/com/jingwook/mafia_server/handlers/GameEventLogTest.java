@@ -0,0 +1,104 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventLogTest {
+
+    private final GameEventLog eventLog = new GameEventLog(3, 600000);
+
+    @Test
+    void replay_since_이후_이벤트만_순서대로_반환한다() {
+        // given
+        appendEvents("g1", 3);
+
+        // when
+        GameEventLog.Replay replay = replay("g1", 1);
+
+        // then
+        assertFalse(replay.isSnapshotRequired());
+        assertEquals(List.of(2L, 3L), replay.getEvents().stream().map(GameEventLog.Entry::getSeq).toList());
+    }
+
+    @Test
+    void replay_놓친_구간이_버퍼_밖이면_스냅샷이_필요하다() {
+        // given
+        appendEvents("g1", 5); // 버퍼에는 3, 4, 5만 남음
+
+        // when
+        GameEventLog.Replay replay = replay("g1", 1);
+
+        // then
+        assertTrue(replay.isSnapshotRequired());
+        assertEquals(5, replay.getCurrentSeq());
+    }
+
+    @Test
+    void append_다른_노드의_seq를_보면_다음_seq가_그_이후로_이어진다() {
+        // given
+        eventLog.append("g1", 7, WebSocketMessageType.PHASE_CHANGED, "{}", () -> {});
+
+        // when
+        long next = eventLog.nextSequence("g1");
+
+        // then
+        assertEquals(8, next);
+    }
+
+    @Test
+    void append_늦게_온_seq는_순서대로_끼워_넣고_중복_seq는_전달하지_않는다() {
+        // given
+        List<Long> emitted = new ArrayList<>();
+        GameEventLog log = new GameEventLog(8, 600000);
+
+        // when
+        for (long seq : new long[]{1, 3, 2, 3}) {
+            log.append("g1", seq, WebSocketMessageType.PHASE_CHANGED, "{}", () -> emitted.add(seq));
+        }
+
+        // then
+        assertEquals(List.of(1L, 3L, 2L), emitted);
+        AtomicReference<GameEventLog.Replay> replay = new AtomicReference<>();
+        log.replay("g1", 1, replay::set);
+        assertEquals(List.of(2L, 3L), replay.get().getEvents().stream().map(GameEventLog.Entry::getSeq).toList());
+    }
+
+    @Test
+    void appendOwn_이_노드가_발행한_이벤트는_seq가_겹쳐도_전달한다() {
+        // given
+        List<Long> emitted = new ArrayList<>();
+        GameEventLog log = new GameEventLog(3, 600000);
+        for (long seq = 1; seq <= 5; seq++) {
+            long current = seq;
+            log.append("g1", seq, WebSocketMessageType.PHASE_CHANGED, "{}", () -> emitted.add(current));
+        }
+
+        // when: 이미 있는 seq, 버퍼 밖의 오래된 seq
+        log.appendOwn("g1", 5, WebSocketMessageType.PLAYER_DIED, "{}", () -> emitted.add(-5L));
+        log.appendOwn("g1", 1, WebSocketMessageType.GAME_ENDED, "{}", () -> emitted.add(-1L));
+        log.append("g1", 5, WebSocketMessageType.PHASE_CHANGED, "{}", () -> emitted.add(50L));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, -5L, -1L), emitted);
+        assertEquals(5, log.lastSequence("g1"));
+    }
+
+    private void appendEvents(String gameId, int count) {
+        for (int i = 0; i < count; i++) {
+            long seq = eventLog.nextSequence(gameId);
+            eventLog.append(gameId, seq, WebSocketMessageType.PHASE_CHANGED, "{}", () -> {});
+        }
+    }
+
+    private GameEventLog.Replay replay(String gameId, long since) {
+        AtomicReference<GameEventLog.Replay> result = new AtomicReference<>();
+        eventLog.replay(gameId, since, result::set);
+        return result.get();
+    }
+}
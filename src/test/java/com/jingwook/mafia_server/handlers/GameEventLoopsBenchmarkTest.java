@@ -0,0 +1,169 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 이벤트 루프 고정(affinity) 켬/끔 처리량 비교
+ * 여러 발행 스레드(@Async 리스너 역할)가 임의의 게임에 이벤트를 보내고, 이벤트마다
+ * seq 할당 -> 재연결 버퍼 기록 -> 인코딩 -> 공용 Sink emit -> 구독 세션 버퍼 적재까지 실행
+ * - 켬: 게임 전용 Netty 루프에서 실행 (GameEventLoops(meterRegistry, true))
+ * - 끔: 발행 스레드에서 바로 실행 (GameEventLoops(meterRegistry, false))
+ * -Dmafia.benchmark.affinity.events=500000 처럼 규모를 바꿔 실행, 결과는 BenchmarkReport
+ */
+@Tag(BenchmarkReport.TAG)
+class GameEventLoopsBenchmarkTest {
+
+    private static final int GAMES = Integer.getInteger("mafia.benchmark.affinity.games", 200);
+    private static final int SUBSCRIBERS = Integer.getInteger("mafia.benchmark.affinity.subscribers", 8);
+    private static final int PRODUCERS = Integer.getInteger("mafia.benchmark.affinity.producers", 8);
+    private static final int EVENTS = Integer.getInteger("mafia.benchmark.affinity.events", 100_000);
+    private static final int ROUNDS = Integer.getInteger("mafia.benchmark.affinity.rounds", 3);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 이벤트_루프_고정_켬과_끔의_처리량을_비교한다(TestReporter testReporter) throws Exception {
+        // given: 한 번씩 돌려 JIT 예열
+        run(true);
+        run(false);
+
+        // when: 번갈아 측정하고 가장 좋은 값 사용
+        Result pinned = null;
+        Result unpinned = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            pinned = best(pinned, run(true));
+            unpinned = best(unpinned, run(false));
+        }
+
+        // then
+        assertEquals((long) EVENTS * SUBSCRIBERS, pinned.delivered);
+        assertEquals(0, pinned.emitFailures);
+        new BenchmarkReport("game-event-loops", testReporter)
+                .put("games", GAMES)
+                .put("subscribers.per.game", SUBSCRIBERS)
+                .put("producers", PRODUCERS)
+                .put("events", EVENTS)
+                .put("pinned.events.per.sec", pinned.eventsPerSecond())
+                .put("pinned.emit.failures", pinned.emitFailures)
+                .put("unpinned.events.per.sec", unpinned.eventsPerSecond())
+                .put("unpinned.emit.failures", unpinned.emitFailures)
+                .put("unpinned.delivered.ratio", String.format("%.4f",
+                        (double) unpinned.delivered / ((long) EVENTS * SUBSCRIBERS)))
+                .write();
+    }
+
+    private Result run(boolean affinity) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GameEventLoops loops = new GameEventLoops(meterRegistry, affinity);
+        GameEventLog eventLog = new GameEventLog(64, 600_000);
+        FrameCodec frameCodec = new FrameCodec(objectMapper, meterRegistry);
+        SessionRegistry registry = new SessionRegistry(meterRegistry);
+        SessionOutboxFactory outboxFactory = new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0);
+
+        AtomicLong delivered = new AtomicLong();
+        List<Disposable> sessions = new ArrayList<>();
+        for (int game = 0; game < GAMES; game++) {
+            Sinks.Many<OutboundMessage> sink = registry.acquire(channelOf(game));
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                sessions.add(outboxFactory.create(() -> {}).attach(sink.asFlux()).subscribe(message -> {
+                    delivered.incrementAndGet();
+                    message.release();
+                }));
+            }
+        }
+
+        AtomicLong emitFailures = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        long startedAt = System.nanoTime();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int count = EVENTS / PRODUCERS + (p < EVENTS % PRODUCERS ? 1 : 0);
+            producers.execute(() -> {
+                for (int i = 0; i < count; i++) {
+                    int game = ThreadLocalRandom.current().nextInt(GAMES);
+                    String gameId = "g" + game;
+                    loops.execute(gameId, () -> {
+                        dispatch(gameId, registry.sink(channelOf(game)), eventLog, frameCodec, emitFailures);
+                        done.countDown();
+                    });
+                }
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.MINUTES));
+        long elapsed = System.nanoTime() - startedAt;
+
+        producers.shutdown();
+        sessions.forEach(Disposable::dispose);
+        return new Result(elapsed, delivered.get(), emitFailures.get());
+    }
+
+    /**
+     * GameWebSocketHandler.broadcastToGameEventLocal과 같은 순서
+     */
+    private static void dispatch(String gameId, Sinks.Many<OutboundMessage> sink, GameEventLog eventLog,
+            FrameCodec frameCodec, AtomicLong emitFailures) {
+        long seq = eventLog.nextSequence(gameId);
+        Map<String, Object> body = Map.of(
+                "channel", SubscriptionChannel.gameEvents(gameId).getName(),
+                "seq", seq,
+                "type", WebSocketMessageType.PHASE_CHANGED.name(),
+                "data", Map.of("phase", "DAY", "dayCount", 1, "remainingSeconds", 60));
+        eventLog.append(gameId, seq, WebSocketMessageType.PHASE_CHANGED, body, () -> {
+            try {
+                OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, body);
+                try {
+                    if (sink.tryEmitNext(message).isFailure()) {
+                        emitFailures.incrementAndGet();
+                    }
+                } finally {
+                    message.release();
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static String channelOf(int game) {
+        return SubscriptionChannel.gameEvents("g" + game).getName();
+    }
+
+    private static Result best(Result current, Result candidate) {
+        return current == null || candidate.elapsedNanos < current.elapsedNanos ? candidate : current;
+    }
+
+    private static class Result {
+        private final long elapsedNanos;
+        private final long delivered;
+        private final long emitFailures;
+
+        Result(long elapsedNanos, long delivered, long emitFailures) {
+            this.elapsedNanos = elapsedNanos;
+            this.delivered = delivered;
+            this.emitFailures = emitFailures;
+        }
+
+        long eventsPerSecond() {
+            return EVENTS * 1_000_000_000L / Math.max(1, elapsedNanos);
+        }
+    }
+}
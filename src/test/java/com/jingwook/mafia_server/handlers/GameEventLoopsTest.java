@@ -0,0 +1,86 @@
+package com.jingwook.mafia_server.handlers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventLoopsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_비활성화면_호출한_스레드에서_바로_실행한다() {
+        // given
+        GameEventLoops loops = new GameEventLoops(meterRegistry, false);
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        loops.execute("g1", () -> threads.add(Thread.currentThread()));
+
+        // then
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void execute_같은_게임의_작업은_같은_루프에서_제출_순서대로_실행한다() throws Exception {
+        // given
+        GameEventLoops loops = new GameEventLoops(meterRegistry, true);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        CountDownLatch done = new CountDownLatch(100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            loops.execute("g1", () -> {
+                assertTrue(loops.loopOf("g1").inEventLoop());
+                threads.add(Thread.currentThread());
+                order.add(index);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(100, meterRegistry.timer("mafia.ws.affinity.dispatch.delay").count());
+    }
+
+    @Test
+    void execute_작업이_실패해도_같은_게임의_다음_작업은_실행한다() throws Exception {
+        // given
+        GameEventLoops loops = new GameEventLoops(meterRegistry, true);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        loops.execute("g1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        loops.execute("g1", done::countDown);
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void loopOf_같은_게임은_항상_같은_루프를_고른다() {
+        // given
+        GameEventLoops loops = new GameEventLoops(meterRegistry, true);
+
+        // when & then
+        assertSame(loops.loopOf("g1"), loops.loopOf("g1"));
+        assertTrue(GameEventLoops.serverLoops().contains(loops.loopOf("g1")));
+    }
+}
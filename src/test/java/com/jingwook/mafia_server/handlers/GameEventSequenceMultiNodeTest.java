@@ -0,0 +1,192 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.dtos.BrokerMessage;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.GameSequenceService;
+import com.jingwook.mafia_server.services.GameService;
+import com.jingwook.mafia_server.services.MessageBrokerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 두 노드가 같은 게임 이벤트를 발행할 때 seq가 겹치지 않고, 재연결 replay가 놓친 이벤트만 돌려주는지 확인
+ * seq 없는 이벤트(VOTE_UPDATED)는 seq를 소비하거나 replay에 남지 않는지 확인
+ * 브로커는 모의 객체로 두고 발행된 메시지를 상대 노드에 원하는 순서로 전달
+ */
+class GameEventSequenceMultiNodeTest {
+
+    private static final String GAME_ID = "g1";
+
+    // Redis INCR 대신 두 노드가 함께 쓰는 카운터
+    private final AtomicLong sharedCounter = new AtomicLong();
+    private final GameSequenceService sequenceService = (gameId, floor) -> Mono.fromSupplier(sharedCounter::incrementAndGet);
+
+    @Test
+    void dispatchGameEvent_두_노드가_발행해도_seq가_겹치지_않는다() {
+        // given
+        Node nodeA = new Node("A");
+        Node nodeB = new Node("B");
+
+        // when: 번갈아 발행하고 상대 노드에는 역순으로 늦게 전달
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 1));
+        nodeB.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PLAYER_DIED, Map.of("n", 2));
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 3));
+        nodeB.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PLAYER_DIED, Map.of("n", 4));
+        nodeA.deliverPublishedTo(nodeB, true);
+        nodeB.deliverPublishedTo(nodeA, true);
+
+        // then
+        List<Long> expected = List.of(1L, 2L, 3L, 4L);
+        for (Node node : List.of(nodeA, nodeB)) {
+            assertEquals(4, node.liveSeqs.size(), "node " + node.name + " live: " + node.liveSeqs);
+            assertEquals(new HashSet<>(expected), new HashSet<>(node.liveSeqs));
+            assertEquals(expected, seqsOf(node.replay(0)));
+        }
+    }
+
+    @Test
+    void dispatchGameEvent_재연결하면_놓친_이벤트만_순서대로_받는다() {
+        // given: 노드 A의 클라이언트가 seq 1까지 받고 끊김
+        Node nodeA = new Node("A");
+        Node nodeB = new Node("B");
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 1));
+        nodeA.deliverPublishedTo(nodeB, false);
+
+        // when: 그 사이 두 노드가 발행, B의 이벤트는 A에 늦게 도착
+        nodeB.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PLAYER_DIED, Map.of("n", 2));
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 3));
+        nodeB.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PLAYER_DIED, Map.of("n", 4));
+        nodeB.deliverPublishedTo(nodeA, true);
+        nodeA.deliverPublishedTo(nodeB, false);
+
+        // then: A, B 어느 노드로 재연결해도 같은 결과
+        for (Node node : List.of(nodeA, nodeB)) {
+            GameEventLog.Replay replay = node.replay(1);
+            assertFalse(replay.isSnapshotRequired());
+            assertEquals(4, replay.getCurrentSeq());
+            assertEquals(List.of(2L, 3L, 4L), seqsOf(replay));
+        }
+    }
+
+    @Test
+    void dispatchGameEvent_이미_받은_seq가_다시_오면_전달하지_않는다() {
+        // given
+        Node nodeA = new Node("A");
+        Node nodeB = new Node("B");
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 1));
+
+        // when: 브로커가 같은 메시지를 두 번 전달
+        BrokerMessage published = nodeA.published.get(0);
+        nodeB.inbound.tryEmitNext(published);
+        nodeB.inbound.tryEmitNext(published);
+
+        // then
+        assertEquals(List.of(1L), nodeB.liveSeqs);
+    }
+
+    @Test
+    void dispatchTransientGameEvent_seq와_재연결_버퍼를_쓰지_않고_다른_노드에_전달한다() {
+        // given
+        Node nodeA = new Node("A");
+        Node nodeB = new Node("B");
+        nodeA.handler.dispatchGameEvent(GAME_ID, WebSocketMessageType.PHASE_CHANGED, Map.of("n", 1));
+
+        // when
+        nodeA.handler.dispatchTransientGameEvent(GAME_ID, WebSocketMessageType.VOTE_UPDATED, Map.of("totalVotes", 1));
+        nodeA.handler.dispatchTransientGameEvent(GAME_ID, WebSocketMessageType.VOTE_UPDATED, Map.of("totalVotes", 2));
+        nodeA.deliverPublishedTo(nodeB, false);
+
+        // then
+        assertEquals(1, sharedCounter.get());
+        assertEquals(List.of(1L, 0L, 0L), nodeA.liveSeqs);
+        assertEquals(List.of(1L, 0L, 0L), nodeB.liveSeqs);
+        for (Node node : List.of(nodeA, nodeB)) {
+            assertEquals(List.of(1L), seqsOf(node.replay(0)));
+        }
+    }
+
+    private static List<Long> seqsOf(GameEventLog.Replay replay) {
+        return replay.getEvents().stream().map(GameEventLog.Entry::getSeq).toList();
+    }
+
+    /**
+     * 노드 하나: 실제 GameWebSocketHandler/GameEventLog/SessionRegistry, 브로커만 모의 객체
+     */
+    private class Node {
+        private final String name;
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final SessionRegistry sessionRegistry = new SessionRegistry(meterRegistry);
+        private final GameEventLog gameEventLog = new GameEventLog(64, 600_000);
+        private final MessageBrokerService broker = mock(MessageBrokerService.class);
+        private final Sinks.Many<BrokerMessage> inbound = Sinks.many().multicast().directBestEffort();
+        private final List<BrokerMessage> published = new ArrayList<>();
+        private final List<Long> liveSeqs = new ArrayList<>();
+        private final GameWebSocketHandler handler;
+
+        Node(String name) {
+            this.name = name;
+            when(broker.subscribeToGameChat()).thenReturn(Flux.never());
+            when(broker.subscribeToPrivateEvents()).thenReturn(Flux.never());
+            when(broker.subscribeToGameEvents()).thenReturn(inbound.asFlux());
+            when(broker.publishGameEvent(anyString(), anyLong(), any(), any())).thenAnswer(invocation -> {
+                BrokerMessage message = new BrokerMessage(invocation.getArgument(0), invocation.getArgument(2),
+                        invocation.getArgument(3), name);
+                message.setSeq(invocation.getArgument(1));
+                published.add(message);
+                return Mono.just(1L);
+            });
+            when(broker.publishTransientGameEvent(anyString(), any(), any())).thenAnswer(invocation -> {
+                published.add(new BrokerMessage(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), name));
+                return Mono.just(1L);
+            });
+
+            this.handler = new GameWebSocketHandler(broker,
+                    new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0),
+                    mock(GameCommandDispatcher.class), mock(SessionHeartbeatMonitor.class), gameEventLog,
+                    mock(GameService.class), new FrameCodec(new ObjectMapper(), meterRegistry), sessionRegistry,
+                    new GameEventLoops(meterRegistry, false), mock(GameTickBroadcaster.class),
+                    mock(SignalRelay.class), sequenceService, mock(GameChannelAccess.class));
+            handler.subscribeToBroker();
+
+            // 이 노드에 붙은 게임 이벤트 소켓
+            sessionRegistry.acquire(SubscriptionChannel.gameEvents(GAME_ID).getName())
+                    .asFlux()
+                    .subscribe(message -> liveSeqs.add(message.getSeq()));
+        }
+
+        /**
+         * 이 노드가 발행한 메시지를 상대 노드에 전달
+         */
+        void deliverPublishedTo(Node other, boolean reversed) {
+            List<BrokerMessage> messages = new ArrayList<>(published);
+            published.clear();
+            if (reversed) {
+                Collections.reverse(messages);
+            }
+            messages.forEach(other.inbound::tryEmitNext);
+        }
+
+        GameEventLog.Replay replay(long since) {
+            AtomicReference<GameEventLog.Replay> result = new AtomicReference<>();
+            gameEventLog.replay(GAME_ID, since, result::set);
+            return result.get();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jingwook.mafia_server.dtos.NextPhaseResponse;
+import com.jingwook.mafia_server.enums.GamePhase;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameTickBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+    private final GameService gameService = mock(GameService.class);
+    private final GameTickBroadcaster broadcaster = new GameTickBroadcaster(registry,
+            new FrameCodec(objectMapper, meterRegistry), new GameEventLoops(meterRegistry, false),
+            gameService, objectMapper, meterRegistry, true);
+
+    @Test
+    void tick_페이즈_전환으로_받은_시계로_남은_시간을_전송한다() {
+        // given
+        Sinks.Many<OutboundMessage> sink = registry.acquire(SubscriptionChannel.gameEvents("g1").getName());
+        List<String> frames = new ArrayList<>();
+        Disposable subscription = sink.asFlux().subscribe(message -> frames.add(message.getPayload()));
+        broadcaster.onGameEvent("g1", WebSocketMessageType.PHASE_CHANGED, NextPhaseResponse.builder()
+                .currentPhase(GamePhase.DAY)
+                .phaseStartTime(LocalDateTime.now())
+                .phaseDurationSeconds(30)
+                .build());
+
+        // when
+        broadcaster.tick();
+
+        // then
+        assertEquals(1, frames.size());
+        assertTrue(frames.get(0).contains("\"type\":\"TICK\""));
+        assertTrue(frames.get(0).contains("\"phase\":\"DAY\""));
+        assertTrue(frames.get(0).matches(".*\"remainingSeconds\":(29|30).*"));
+        verifyNoInteractions(gameService);
+        subscription.dispose();
+    }
+
+    @Test
+    void tick_종료된_게임에는_전송하지_않는다() {
+        // given
+        Sinks.Many<OutboundMessage> sink = registry.acquire(SubscriptionChannel.gameEvents("g1").getName());
+        List<String> frames = new ArrayList<>();
+        Disposable subscription = sink.asFlux().subscribe(message -> frames.add(message.getPayload()));
+        broadcaster.onGameEvent("g1", WebSocketMessageType.GAME_ENDED, null);
+
+        // when
+        broadcaster.tick();
+
+        // then
+        assertTrue(frames.isEmpty());
+        verifyNoInteractions(gameService);
+        subscription.dispose();
+    }
+}
@@ -0,0 +1,88 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.dtos.RoomDetailResponse;
+import com.jingwook.mafia_server.dtos.RoomMemberResponse;
+import com.jingwook.mafia_server.enums.ParticipatingRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomStateTrackerTest {
+
+    private final RoomStateTracker tracker = new RoomStateTracker();
+
+    @Test
+    void push_처음_보는_방은_전체_상태로_전달한다() {
+        // given
+        List<RoomStateTracker.Change> changes = new ArrayList<>();
+
+        // when
+        tracker.push("r1", room(host("u1")), changes::add);
+
+        // then
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).isFull());
+        assertEquals(1, changes.get(0).getVersion());
+    }
+
+    @Test
+    void push_멤버가_들어오면_추가된_멤버만_전달한다() {
+        // given
+        List<RoomStateTracker.Change> changes = new ArrayList<>();
+        tracker.push("r1", room(host("u1")), changes::add);
+
+        // when
+        tracker.push("r1", room(host("u1"), participant("u2")), changes::add);
+
+        // then
+        RoomStateTracker.Change delta = changes.get(1);
+        assertFalse(delta.isFull());
+        assertEquals(2, delta.getVersion());
+        assertEquals(List.of(Map.of("op", "MEMBER_ADDED", "member", participant("u2"))), delta.getOps());
+    }
+
+    @Test
+    void diff_방장이_나가면_퇴장과_방장_변경을_전달한다() {
+        // given
+        RoomDetailResponse before = room(host("u1"), participant("u2"));
+        RoomDetailResponse after = room(host("u2"));
+
+        // when
+        List<Map<String, Object>> ops = RoomStateTracker.diff(before, after);
+
+        // then
+        assertEquals(List.of(
+                Map.of("op", "MEMBER_REMOVED", "userId", "u1"),
+                Map.of("op", "HOST_CHANGED", "userId", "u2")
+        ), ops);
+    }
+
+    @Test
+    void push_바뀐_게_없으면_전달하지_않는다() {
+        // given
+        List<RoomStateTracker.Change> changes = new ArrayList<>();
+        tracker.push("r1", room(host("u1")), changes::add);
+
+        // when
+        tracker.push("r1", room(host("u1")), changes::add);
+
+        // then
+        assertEquals(1, changes.size());
+    }
+
+    private RoomDetailResponse room(RoomMemberResponse... members) {
+        return new RoomDetailResponse("r1", "방", List.of(members), members.length, 8);
+    }
+
+    private RoomMemberResponse host(String userId) {
+        return new RoomMemberResponse(userId, "닉네임" + userId, ParticipatingRole.HOST);
+    }
+
+    private RoomMemberResponse participant(String userId) {
+        return new RoomMemberResponse(userId, "닉네임" + userId, ParticipatingRole.PARTICIPANT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jingwook.mafia_server.handlers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHeartbeatTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void recordPing_pong_없이_허용_횟수를_넘으면_false를_반환한다() {
+        // given
+        SessionHeartbeat heartbeat = createHeartbeat(2);
+
+        // when & then
+        assertTrue(heartbeat.recordPing());  // 첫 ping
+        assertTrue(heartbeat.recordPing());  // 1회 누락
+        assertFalse(heartbeat.recordPing()); // 2회 누락
+    }
+
+    @Test
+    void recordPong_pong을_받으면_누락_횟수가_초기화된다() {
+        // given
+        SessionHeartbeat heartbeat = createHeartbeat(2);
+        heartbeat.recordPing();
+        heartbeat.recordPing();
+
+        // when
+        heartbeat.recordPong();
+
+        // then
+        assertTrue(heartbeat.recordPing());
+        assertTrue(heartbeat.recordPing());
+    }
+
+    @Test
+    void isIdle_애플리케이션_메시지가_없으면_idle로_판단한다() {
+        // given
+        SessionHeartbeat heartbeat = createHeartbeat(2);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // then
+        assertTrue(heartbeat.isIdle());
+    }
+
+    private SessionHeartbeat createHeartbeat(int maxMissedPongs) {
+        return new SessionHeartbeat(null, "game", Duration.ofSeconds(15), maxMissedPongs,
+                Duration.ofSeconds(60), () -> {}, now::get);
+    }
+}
@@ -0,0 +1,277 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionOutboxTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void offer_버퍼가_가득_차면_가장_오래된_채팅을_버린다() {
+        // given
+        SessionOutbox outbox = createOutbox(2, 10, () -> {});
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(chat("2"));
+        outbox.offer(chat("3"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("2", "3")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void offer_게임_이벤트는_버퍼가_가득_차도_버리지_않는다() {
+        // given
+        SessionOutbox outbox = createOutbox(2, 10, () -> {});
+
+        // when
+        outbox.offer(event("1"));
+        outbox.offer(chat("2"));
+        outbox.offer(event("3"));
+        outbox.offer(event("4"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("1", "3", "4")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void offer_overflow가_임계치에_도달하면_세션을_끊는다() {
+        // given
+        AtomicBoolean evicted = new AtomicBoolean(false);
+        SessionOutbox outbox = createOutbox(1, 2, () -> evicted.set(true));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(chat("2"));
+        outbox.offer(chat("3"));
+
+        // then
+        assertTrue(evicted.get());
+        assertEquals(0, outbox.size());
+    }
+
+    @Test
+    void offer_버퍼가_가득_차면_채팅보다_시그널을_먼저_버린다() {
+        // given
+        AtomicBoolean evicted = new AtomicBoolean(false);
+        SessionOutbox outbox = createOutbox(2, 1, () -> evicted.set(true));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(signal("2"));
+        outbox.offer(signal("3"));
+        outbox.offer(signal("4"));
+
+        // then
+        assertFalse(evicted.get());
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("4", "1")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void offer_버릴_시그널이_없으면_들어온_시그널을_버린다() {
+        // given
+        AtomicBoolean evicted = new AtomicBoolean(false);
+        SessionOutbox outbox = createOutbox(1, 1, () -> evicted.set(true));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(signal("2"));
+
+        // then
+        assertFalse(evicted.get());
+        assertEquals(1, outbox.size());
+    }
+
+    @Test
+    void offer_TICK은_세션당_최신_하나만_유지한다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+
+        // when
+        outbox.offer(tick("1"));
+        outbox.offer(event("2"));
+        outbox.offer(tick("3"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("2", "3")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void offer_버퍼가_가득_차면_TICK을_버리고_overflow로_세지_않는다() {
+        // given
+        AtomicBoolean evicted = new AtomicBoolean(false);
+        SessionOutbox outbox = createOutbox(2, 1, () -> evicted.set(true));
+
+        // when
+        outbox.offer(event("1"));
+        outbox.offer(event("2"));
+        outbox.offer(tick("3"));
+        outbox.offer(tick("4"));
+
+        // then
+        assertFalse(evicted.get());
+        assertEquals(0, meterRegistry.counter("overflow").count());
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("1", "2")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void attach_게임_이벤트는_먼저_쌓인_채팅보다_먼저_나간다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+        outbox.offer(chat("1"));
+        outbox.offer(chat("2"));
+        outbox.offer(event("3"));
+
+        // when & then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("3", "1", "2")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void attach_송신_파이프라인으로_넘길_때_레인별_대기_시간을_기록한다() {
+        // given
+        Timer priority = meterRegistry.timer("queue.time", "lane", "priority");
+        Timer chatLane = meterRegistry.timer("queue.time", "lane", "chat");
+        SessionOutbox outbox = new SessionOutbox(10, 10, () -> {},
+                meterRegistry.counter("overflow"),
+                meterRegistry.counter("dropped"),
+                meterRegistry.counter("evicted"),
+                Map.of(OutboundMessage.Lane.PRIORITY, priority, OutboundMessage.Lane.CHAT, chatLane));
+        outbox.offer(event("1"));
+        outbox.offer(chat("2"));
+
+        // when
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("1", "2")
+                .thenCancel()
+                .verify();
+
+        // then
+        assertEquals(1, priority.count());
+        assertEquals(1, chatLane.count());
+    }
+
+    @Test
+    void attach_배치_모드면_채팅을_모아서_배열_프레임_하나로_보낸다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+        outbox.enableBatching(3, Duration.ofHours(1), meterRegistry.summary("batch"));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(chat("2"));
+        outbox.offer(chat("3"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("[1,2,3]")
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void attach_배치_모드에서도_게임_이벤트는_기다리지_않는다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+        outbox.enableBatching(10, Duration.ofHours(1), meterRegistry.summary("batch"));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(event("2"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("2")
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+        assertEquals(1, outbox.size());
+    }
+
+    @Test
+    void attach_배치_대기_시간이_지나면_모인_채팅을_보낸다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+        outbox.enableBatching(10, Duration.ofMillis(20), meterRegistry.summary("batch"));
+
+        // when
+        outbox.offer(chat("1"));
+        outbox.offer(chat("2"));
+
+        // then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload))
+                .expectNext("[1,2]")
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void attach_요청한_만큼만_내보낸다() {
+        // given
+        SessionOutbox outbox = createOutbox(10, 10, () -> {});
+        outbox.offer(event("1"));
+        outbox.offer(event("2"));
+
+        // when & then
+        StepVerifier.create(outbox.attach(Flux.never()).map(OutboundMessage::getPayload), 1)
+                .expectNext("1")
+                .then(() -> assertEquals(1, outbox.size()))
+                .thenRequest(1)
+                .expectNext("2")
+                .thenCancel()
+                .verify();
+    }
+
+    private SessionOutbox createOutbox(int capacity, int maxOverflows, Runnable onEvict) {
+        return new SessionOutbox(capacity, maxOverflows, onEvict,
+                meterRegistry.counter("overflow"),
+                meterRegistry.counter("dropped"),
+                meterRegistry.counter("evicted"),
+                Map.of());
+    }
+
+    private OutboundMessage chat(String payload) {
+        return OutboundMessage.encode(WebSocketMessageType.CHAT, payload);
+    }
+
+    private OutboundMessage signal(String payload) {
+        return OutboundMessage.encode(WebSocketMessageType.SIGNAL, payload);
+    }
+
+    private OutboundMessage tick(String payload) {
+        return OutboundMessage.encode(WebSocketMessageType.TICK, payload);
+    }
+
+    private OutboundMessage event(String payload) {
+        return OutboundMessage.encode(WebSocketMessageType.PHASE_CHANGED, payload);
+    }
+}
@@ -0,0 +1,103 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+
+    @Test
+    void release_마지막_구독이_해제될_때만_Sink를_제거한다() {
+        // given
+        AtomicInteger removed = new AtomicInteger();
+        Sinks.Many<OutboundMessage> first = registry.acquire("room:r1");
+        Sinks.Many<OutboundMessage> second = registry.acquire("room:r1");
+
+        // when
+        registry.release("room:r1", removed::incrementAndGet);
+
+        // then
+        assertSame(first, second);
+        assertSame(first, registry.sink("room:r1"));
+        assertEquals(1, registry.refCount("room:r1"));
+        assertEquals(0, removed.get());
+
+        registry.release("room:r1", removed::incrementAndGet);
+        assertNull(registry.sink("room:r1"));
+        assertEquals(1, removed.get());
+    }
+
+    @Test
+    void acquire_제거된_채널을_다시_구독하면_새_Sink를_만든다() {
+        // given
+        Sinks.Many<OutboundMessage> before = registry.acquire("game:g1:events");
+        registry.release("game:g1:events");
+
+        // when
+        Sinks.Many<OutboundMessage> after = registry.acquire("game:g1:events");
+
+        // then
+        assertNotSame(before, after);
+        assertSame(after, registry.sink("game:g1:events"));
+    }
+
+    @Test
+    void deliverToUser_해당_사용자의_세션_버퍼에만_적재한다() {
+        // given
+        SessionOutbox target = createOutbox();
+        SessionOutbox other = createOutbox();
+        registry.register(session("s1"), "session", "u1", target);
+        registry.register(session("s2"), "session", "u2", other);
+        OutboundMessage message = OutboundMessage.encode(WebSocketMessageType.ACK, "{}");
+
+        // when
+        int delivered = registry.deliverToUser("u1", message);
+        message.release();
+
+        // then
+        assertEquals(1, delivered);
+        assertEquals(1, target.size());
+        assertEquals(2, target.bufferedBytes());
+        assertEquals(0, other.size());
+    }
+
+    @Test
+    void unregister_세션을_해제하면_더_이상_전달하지_않는다() {
+        // given
+        SessionRegistry.SessionInfo info = registry.register(session("s1"), "session", "u1", createOutbox());
+
+        // when
+        registry.unregister(info);
+
+        // then
+        OutboundMessage message = OutboundMessage.encode(WebSocketMessageType.ACK, "{}");
+        assertEquals(0, registry.deliverToUser("u1", message));
+        message.release();
+    }
+
+    private SessionOutbox createOutbox() {
+        return new SessionOutbox(10, 10, () -> {},
+                meterRegistry.counter("overflow"),
+                meterRegistry.counter("dropped"),
+                meterRegistry.counter("evicted"),
+                Map.of());
+    }
+
+    private WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.services.MessageBrokerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SignalRelayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+    private final MessageBrokerService messageBrokerService = mock(MessageBrokerService.class);
+    private final SignalRelay relay = new SignalRelay(registry, new FrameCodec(objectMapper, meterRegistry),
+            new GameEventLoops(meterRegistry, false), messageBrokerService,
+            new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0), meterRegistry, 2, 60_000);
+
+    @Test
+    void relay_같은_시그널은_중복_구간_안에서_한_번만_전달한다() {
+        // given
+        SubscriptionChannel channel = SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL);
+        List<String> frames = subscribe(channel);
+        when(messageBrokerService.publishGameSignal(anyString(), anyString(), any())).thenReturn(Mono.just(1L));
+
+        // when
+        relay.relay("u1", channel, signal("TYPING", "start"));
+        relay.relay("u1", channel, signal("TYPING", "start"));
+
+        // then
+        assertEquals(1, frames.size());
+        assertTrue(frames.get(0).contains("\"type\":\"SIGNAL\""));
+        assertTrue(frames.get(0).contains("\"userId\":\"u1\""));
+        verify(messageBrokerService, times(1)).publishGameSignal(eq("g1"), eq("GAME_ALL"), any());
+        assertEquals(1, meterRegistry.counter("mafia.ws.signal", "outcome", "duplicate").count());
+    }
+
+    @Test
+    void relay_사용자별_초당_한도를_넘으면_버린다() {
+        // given
+        SubscriptionChannel channel = SubscriptionChannel.room("r1");
+        List<String> frames = subscribe(channel);
+        when(messageBrokerService.publishRoomUpdate(anyString(), any(), any())).thenReturn(Mono.just(1L));
+
+        // when
+        relay.relay("u1", channel, signal("REACTION", "a"));
+        relay.relay("u1", channel, signal("REACTION", "b"));
+        relay.relay("u1", channel, signal("REACTION", "c"));
+
+        // then
+        assertEquals(2, frames.size());
+        verify(messageBrokerService, times(2)).publishRoomUpdate(eq("r1"), eq(WebSocketMessageType.SIGNAL), any());
+        assertEquals(1, meterRegistry.counter("mafia.ws.signal", "outcome", "rate_limited").count());
+    }
+
+    @Test
+    void relay_게임_이벤트_채널이나_알_수_없는_종류는_버린다() {
+        // when
+        relay.relay("u1", SubscriptionChannel.gameEvents("g1"), signal("TYPING", "start"));
+        relay.relay("u1", SubscriptionChannel.room("r1"), signal("SHOUT", "!"));
+
+        // then
+        verifyNoInteractions(messageBrokerService);
+        assertEquals(2, meterRegistry.counter("mafia.ws.signal", "outcome", "invalid").count());
+    }
+
+    private List<String> subscribe(SubscriptionChannel channel) {
+        Sinks.Many<OutboundMessage> sink = registry.acquire(channel.getName());
+        List<String> frames = new ArrayList<>();
+        sink.asFlux().subscribe(message -> frames.add(message.getPayload()));
+        return frames;
+    }
+
+    private ObjectNode signal(String kind, String value) {
+        return objectMapper.createObjectNode().put("kind", kind).put("value", value);
+    }
+}
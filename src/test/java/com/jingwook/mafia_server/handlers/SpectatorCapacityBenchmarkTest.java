@@ -0,0 +1,194 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.server.support.WebSocketHandlerAdapter;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 노드 하나의 관전자 수용량: 관전자당 메모리와 소켓 전송 처리량
+ * 로컬 Netty 서버에 실제 SpectatorWebSocketHandler를 올리고 관전자마다 loopback WebSocket을 연결
+ * 운영과 같이 관전 지연(delaySequence)과 게임 이벤트 루프 고정을 켠 상태로 게임 이벤트를 보내고 클라이언트 수신까지 측정
+ * - 관전자당 힙/풀 direct 메모리: 연결 전후 차이 (GC 후, 같은 JVM의 클라이언트 쪽 객체도 포함하므로 상한)
+ * - 전송 처리량: 첫 프레임 수신부터 마지막 프레임 수신까지 소켓으로 받은 프레임 수/초 (지연 시간은 제외)
+ * -Dmafia.benchmark.spectate.viewers=5000 처럼 규모를 바꿔 실행, 결과는 BenchmarkReport
+ */
+@Tag(BenchmarkReport.TAG)
+class SpectatorCapacityBenchmarkTest {
+
+    private static final int VIEWERS = Integer.getInteger("mafia.benchmark.spectate.viewers", 1_000);
+    private static final int EVENTS = Integer.getInteger("mafia.benchmark.spectate.events", 100);
+    private static final long DELAY_SECONDS = Long.getLong("mafia.benchmark.spectate.delay-seconds", 1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FrameCodec frameCodec = new FrameCodec(objectMapper, meterRegistry);
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private AnnotationConfigApplicationContext context;
+    private DisposableServer server;
+
+    @BeforeEach
+    void startServer() {
+        context = new AnnotationConfigApplicationContext();
+        context.register(WebFluxOnly.class);
+        context.registerBean("webSocketHandlerMapping", HandlerMapping.class, this::webSocketHandlerMapping);
+        context.registerBean(WebSocketHandlerAdapter.class, WebSocketHandlerAdapter::new);
+        context.refresh();
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle(new ReactorHttpHandlerAdapter(WebHttpHandlerBuilder.applicationContext(context).build()))
+                .bindNow();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.disposeNow();
+        context.close();
+    }
+
+    @Test
+    void 관전자당_메모리와_소켓_전송_처리량을_측정한다(TestReporter testReporter) throws Exception {
+        // given
+        long heapBefore = usedHeap();
+        long directBefore = PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory();
+        AtomicLong received = new AtomicLong();
+        AtomicLong leaked = new AtomicLong();
+        AtomicLong firstReceivedAt = new AtomicLong();
+        AtomicLong lastReceivedAt = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(VIEWERS * EVENTS);
+        List<Disposable> viewers = new ArrayList<>();
+        ReactorNettyWebSocketClient client = new ReactorNettyWebSocketClient();
+        URI uri = URI.create("ws://127.0.0.1:" + server.port() + "/ws/games/g1/spectate");
+        for (int i = 0; i < VIEWERS; i++) {
+            viewers.add(client.execute(uri, session -> session.receive()
+                    .map(WebSocketMessage::getPayloadAsText)
+                    .filter(payload -> payload.contains(WebSocketMessageType.PHASE_CHANGED.name()))
+                    .doOnNext(payload -> {
+                        long now = System.nanoTime();
+                        firstReceivedAt.compareAndSet(0, now);
+                        lastReceivedAt.set(now);
+                        if (payload.contains("\"role\"")) {
+                            leaked.incrementAndGet();
+                        }
+                        received.incrementAndGet();
+                        done.countDown();
+                    })
+                    .then()).subscribe());
+        }
+        awaitViewers();
+        long heapPerViewer = (usedHeap() - heapBefore) / VIEWERS;
+        long directPerViewer = (PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory() - directBefore) / VIEWERS;
+
+        // when
+        Sinks.Many<OutboundMessage> events = registry.sink(SubscriptionChannel.gameEvents("g1").getName());
+        for (int seq = 1; seq <= EVENTS; seq++) {
+            OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, Map.of(
+                    "channel", SubscriptionChannel.gameEvents("g1").getName(),
+                    "seq", seq,
+                    "type", WebSocketMessageType.PHASE_CHANGED.name(),
+                    "data", Map.of("phase", "DAY", "players", List.of(Map.of("userId", "u1", "role", "MAFIA")))));
+            assertTrue(events.tryEmitNext(message).isSuccess());
+            message.release();
+        }
+        boolean completed = done.await(DELAY_SECONDS + 120, TimeUnit.SECONDS);
+
+        // then
+        long frames = (long) VIEWERS * EVENTS;
+        long writeNanos = Math.max(1, lastReceivedAt.get() - firstReceivedAt.get());
+        viewers.forEach(Disposable::dispose);
+        assertTrue(completed, "received " + received.get() + " of " + frames + " frames");
+        assertEquals(0, leaked.get());
+        assertEquals(EVENTS, meterRegistry.counter("mafia.ws.spectate.relayed").count());
+        assertEquals(0, meterRegistry.counter("mafia.ws.outbox.evicted").count());
+        new BenchmarkReport("spectator-capacity", testReporter)
+                .put("viewers", VIEWERS)
+                .put("events", EVENTS)
+                .put("delay.seconds", DELAY_SECONDS)
+                .put("heap.bytes.per.viewer", heapPerViewer)
+                .put("pooled.direct.bytes.per.viewer", directPerViewer)
+                .put("frames.written", received.get())
+                .put("write.frames.per.sec", frames * 1_000_000_000L / writeNanos)
+                .put("write.duration.ms", TimeUnit.NANOSECONDS.toMillis(writeNanos))
+                .write();
+    }
+
+    /**
+     * 모든 관전자가 핸드셰이크를 마치고 관전 Sink를 구독할 때까지 대기
+     */
+    private void awaitViewers() throws InterruptedException {
+        String channel = SubscriptionChannel.spectate("g1").getName();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (registry.refCount(channel) < VIEWERS) {
+            assertTrue(System.nanoTime() < deadline, "connected " + registry.refCount(channel) + " of " + VIEWERS);
+            Thread.sleep(50);
+        }
+    }
+
+    private long usedHeap() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private HandlerMapping webSocketHandlerMapping() {
+        GameWebSocketHandler gameHandler = mock(GameWebSocketHandler.class);
+        when(gameHandler.acquireEventSink("g1"))
+                .thenAnswer(invocation -> registry.acquire(SubscriptionChannel.gameEvents("g1").getName()));
+        when(gameHandler.acquireChatSink("g1", ChatType.GAME_ALL))
+                .thenAnswer(invocation -> registry.acquire(SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL).getName()));
+        SpectatorRelay relay = new SpectatorRelay(gameHandler, registry, frameCodec,
+                new GameEventLoops(meterRegistry, true), objectMapper, meterRegistry, DELAY_SECONDS);
+        SpectatorWebSocketHandler handler = new SpectatorWebSocketHandler(relay,
+                new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0),
+                new SessionHeartbeatMonitor(meterRegistry, 15_000, 2, 120_000), frameCodec, registry);
+
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping();
+        mapping.setOrder(1);
+        mapping.setUrlMap(Map.of("/ws/games/*/spectate", handler));
+        return mapping;
+    }
+
+    /**
+     * Spring Boot 자동 설정 없이 WebFlux 디스패처만
+     */
+    @Configuration
+    @EnableWebFlux
+    static class WebFluxOnly {
+    }
+}
@@ -0,0 +1,85 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 관전 탭 fan-out (역할 정보 제거, 게임당 탭 하나)
+ * 노드 수용량(관전자당 메모리, 소켓 전송 처리량)은 SpectatorCapacityBenchmarkTest
+ */
+class SpectatorRelayTest {
+
+    private static final int SPECTATORS = 20;
+    private static final int EVENTS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FrameCodec frameCodec = new FrameCodec(objectMapper, meterRegistry);
+    private final SessionRegistry registry = new SessionRegistry(meterRegistry);
+    private final SessionOutboxFactory outboxFactory = new SessionOutboxFactory(meterRegistry, 256, 50, false, 1, 0);
+
+    @Test
+    void 관전자_수와_무관하게_탭_하나로_역할_정보를_지운_프레임을_전달한다() throws Exception {
+        // given
+        GameWebSocketHandler gameHandler = mock(GameWebSocketHandler.class);
+        when(gameHandler.acquireEventSink("g1"))
+                .thenAnswer(invocation -> registry.acquire(SubscriptionChannel.gameEvents("g1").getName()));
+        when(gameHandler.acquireChatSink("g1", ChatType.GAME_ALL))
+                .thenAnswer(invocation -> registry.acquire(SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL).getName()));
+        SpectatorRelay relay = new SpectatorRelay(gameHandler, registry, frameCodec,
+                new GameEventLoops(meterRegistry, false), objectMapper, meterRegistry, 0);
+
+        AtomicLong received = new AtomicLong();
+        AtomicLong leaked = new AtomicLong();
+        List<Disposable> viewers = new ArrayList<>();
+        for (int i = 0; i < SPECTATORS; i++) {
+            Sinks.Many<OutboundMessage> sink = relay.acquire("g1");
+            viewers.add(outboxFactory.create(() -> {}).attach(sink.asFlux()).subscribe(message -> {
+                if (message.getPayload().contains("\"role\"")) {
+                    leaked.incrementAndGet();
+                }
+                received.incrementAndGet();
+                message.release();
+            }));
+        }
+        Sinks.Many<OutboundMessage> events = registry.sink(SubscriptionChannel.gameEvents("g1").getName());
+
+        // when
+        for (int seq = 1; seq <= EVENTS; seq++) {
+            OutboundMessage message = frameCodec.encode(WebSocketMessageType.PHASE_CHANGED, Map.of(
+                    "channel", "game:g1:events",
+                    "seq", seq,
+                    "type", "PHASE_CHANGED",
+                    "data", Map.of("phase", "DAY", "players", List.of(Map.of("userId", "u1", "role", "MAFIA")))
+            ));
+            events.tryEmitNext(message);
+            message.release();
+        }
+
+        // then
+        assertEquals((long) SPECTATORS * EVENTS, received.get());
+        assertEquals(0, leaked.get());
+        assertEquals(EVENTS, meterRegistry.counter("mafia.ws.spectate.relayed").count());
+        verify(gameHandler, times(1)).acquireEventSink("g1");
+
+        viewers.forEach(Disposable::dispose);
+        for (int i = 0; i < SPECTATORS; i++) {
+            relay.release("g1");
+        }
+        verify(gameHandler, times(1)).releaseEventSink("g1");
+        assertEquals(0, registry.refCount(SubscriptionChannel.spectate("g1").getName()));
+    }
+}
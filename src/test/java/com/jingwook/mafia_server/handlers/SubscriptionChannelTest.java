@@ -0,0 +1,67 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.ChatType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubscriptionChannelTest {
+
+    @Test
+    void parse_게임_채팅_채널을_해석한다() {
+        // when
+        SubscriptionChannel channel = SubscriptionChannel.parse("game:g1:mafia");
+
+        // then
+        assertNotNull(channel);
+        assertEquals("g1", channel.getGameId());
+        assertEquals(ChatType.GAME_MAFIA, channel.getChatType());
+        assertEquals("game:g1:mafia", channel.getName());
+    }
+
+    @Test
+    void parse_방과_게임_이벤트_채널을_구분한다() {
+        // when
+        SubscriptionChannel room = SubscriptionChannel.parse("room:r1");
+        SubscriptionChannel events = SubscriptionChannel.parse("game:g1:events");
+
+        // then
+        assertTrue(room.isRoom());
+        assertEquals("r1", room.getRoomId());
+        assertTrue(events.isGameEvents());
+        assertEquals("g1", events.getGameId());
+    }
+
+    @Test
+    void parse_알_수_없는_채널은_null을_반환한다() {
+        assertNull(SubscriptionChannel.parse(null));
+        assertNull(SubscriptionChannel.parse("game:g1:waiting_room"));
+        assertNull(SubscriptionChannel.parse("game:g1"));
+        assertNull(SubscriptionChannel.parse("room:"));
+        assertNull(SubscriptionChannel.parse("lobby:1"));
+    }
+
+    @Test
+    void 본인_전용_채널은_구독_요청으로_파싱되지_않는다() {
+        // given
+        SubscriptionChannel user = SubscriptionChannel.user("u1");
+
+        // when & then
+        assertEquals("user:u1", user.getName());
+        assertTrue(user.isUser());
+        assertFalse(user.isGameEvents());
+        assertNull(SubscriptionChannel.parse(user.getName()));
+    }
+
+    @Test
+    void parse_관전_채널은_게임_이벤트_채널과_구분된다() {
+        // when
+        SubscriptionChannel spectate = SubscriptionChannel.parse("game:g1:spectate");
+
+        // then
+        assertTrue(spectate.isSpectate());
+        assertFalse(spectate.isGameEvents());
+        assertNull(spectate.getChatType());
+        assertEquals("g1", spectate.getGameId());
+    }
+}
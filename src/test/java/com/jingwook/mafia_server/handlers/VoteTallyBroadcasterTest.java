@@ -0,0 +1,46 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.jingwook.mafia_server.enums.ActionType;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import com.jingwook.mafia_server.events.VoteCastEvent;
+import com.jingwook.mafia_server.services.GameService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VoteTallyBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameService gameService = mock(GameService.class);
+    private final GameWebSocketHandler gameHandler = mock(GameWebSocketHandler.class);
+    private final VoteTallyBroadcaster broadcaster =
+            new VoteTallyBroadcaster(gameService, gameHandler, meterRegistry, 50);
+
+    @Test
+    void handleVoteCastEvent_묶음_간격_안의_투표는_집계_한_번으로_전송한다() {
+        // given
+        when(gameService.getVoteCounts("g1", 2, ActionType.VOTE))
+                .thenReturn(Mono.just(Map.of("u2", 3L, "u5", 1L)));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            broadcaster.handleVoteCastEvent(new VoteCastEvent("g1", 2, ActionType.VOTE));
+        }
+
+        // then
+        verify(gameHandler, timeout(1000).times(1))
+                .dispatchTransientGameEvent(eq("g1"), eq(WebSocketMessageType.VOTE_UPDATED), argThat(data -> {
+                    Map<?, ?> tally = (Map<?, ?>) data;
+                    return Long.valueOf(4L).equals(tally.get("totalVotes"))
+                            && "VOTE".equals(tally.get("voteType"));
+                }));
+        verify(gameService, times(1)).getVoteCounts("g1", 2, ActionType.VOTE);
+        assertEquals(3, meterRegistry.counter("mafia.ws.vote.coalesced").count());
+    }
+}
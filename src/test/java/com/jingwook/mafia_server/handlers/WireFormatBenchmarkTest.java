@@ -0,0 +1,149 @@
+package com.jingwook.mafia_server.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jingwook.mafia_server.dtos.ChatMessageDto;
+import com.jingwook.mafia_server.dtos.RoomDetailResponse;
+import com.jingwook.mafia_server.dtos.RoomMemberResponse;
+import com.jingwook.mafia_server.enums.ChatType;
+import com.jingwook.mafia_server.enums.ParticipatingRole;
+import com.jingwook.mafia_server.enums.WebSocketMessageType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * JSON vs CBOR: 이벤트당 프레임 크기와 인코딩 시간 (PHASE_CHANGED, CHAT, ROOM_UPDATE)
+ * 운영과 같은 FrameCodec으로 인코딩하고 FrameCodec 메트릭(mafia.ws.frame.bytes, mafia.ws.frame.encode)에서 읽음
+ * -Dmafia.benchmark.wire.iterations=100000 처럼 규모를 바꿔 실행, 결과는 BenchmarkReport
+ */
+@Tag(BenchmarkReport.TAG)
+class WireFormatBenchmarkTest {
+
+    private static final int WARMUP = Integer.getInteger("mafia.benchmark.wire.warmup", 20_000);
+    private static final int ITERATIONS = Integer.getInteger("mafia.benchmark.wire.iterations", 50_000);
+
+    // Spring Boot ObjectMapper와 같은 날짜 형식
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void 프레임_종류별_JSON과_CBOR의_크기와_인코딩_시간을_비교한다(TestReporter testReporter) throws Exception {
+        // given
+        Map<WebSocketMessageType, Object> frames = new LinkedHashMap<>();
+        frames.put(WebSocketMessageType.PHASE_CHANGED, phaseChanged());
+        frames.put(WebSocketMessageType.CHAT, chat());
+        frames.put(WebSocketMessageType.ROOM_UPDATE, roomUpdate());
+        BenchmarkReport report = new BenchmarkReport("wire-format", testReporter)
+                .put("iterations", ITERATIONS);
+
+        for (Map.Entry<WebSocketMessageType, Object> frame : frames.entrySet()) {
+            // when
+            encode(frame.getKey(), frame.getValue(), WARMUP, new SimpleMeterRegistry());
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            encode(frame.getKey(), frame.getValue(), ITERATIONS, meterRegistry);
+
+            // then
+            String type = frame.getKey().name().toLowerCase();
+            double jsonBytes = bytes(meterRegistry, "json");
+            double cborBytes = bytes(meterRegistry, "cbor");
+            assertEquals(ITERATIONS, meterRegistry.get("mafia.ws.frame.encode").tag("format", "cbor").timer().count());
+            assertTrue(cborBytes < jsonBytes, type + ": CBOR " + cborBytes + " B should be smaller than JSON " + jsonBytes);
+            report.put(type + ".json.bytes", (long) jsonBytes)
+                    .put(type + ".cbor.bytes", (long) cborBytes)
+                    .put(type + ".cbor.size.ratio", String.format("%.3f", cborBytes / jsonBytes))
+                    .put(type + ".json.encode.ns", encodeNanos(meterRegistry, "json"))
+                    .put(type + ".cbor.encode.ns", encodeNanos(meterRegistry, "cbor"));
+        }
+        report.write();
+    }
+
+    /**
+     * CBOR 세션이 하나 있는 상태로 인코딩 (FrameCodec은 CBOR 세션이 있을 때만 CBOR도 만듦)
+     */
+    private void encode(WebSocketMessageType type, Object body, int iterations, SimpleMeterRegistry meterRegistry)
+            throws Exception {
+        FrameCodec frameCodec = new FrameCodec(objectMapper, meterRegistry);
+        frameCodec.open(cborSession());
+        for (int i = 0; i < iterations; i++) {
+            frameCodec.encode(type, body).release();
+        }
+    }
+
+    private static double bytes(SimpleMeterRegistry meterRegistry, String format) {
+        DistributionSummary summary = meterRegistry.get("mafia.ws.frame.bytes").tag("format", format).summary();
+        return summary.mean();
+    }
+
+    private static long encodeNanos(SimpleMeterRegistry meterRegistry, String format) {
+        Timer timer = meterRegistry.get("mafia.ws.frame.encode").tag("format", format).timer();
+        return (long) timer.mean(TimeUnit.NANOSECONDS);
+    }
+
+    private static WebSocketSession cborSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getHandshakeInfo()).thenReturn(new HandshakeInfo(URI.create("/ws/session"), new HttpHeaders(),
+                Mono.empty(), WireFormat.CBOR.getSubProtocol()));
+        return session;
+    }
+
+    private static Map<String, Object> phaseChanged() {
+        return Map.of(
+                "channel", SubscriptionChannel.gameEvents("g1").getName(),
+                "seq", 12,
+                "type", WebSocketMessageType.PHASE_CHANGED.name(),
+                "data", Map.of(
+                        "gameId", "g1",
+                        "phase", "NIGHT",
+                        "dayCount", 3,
+                        "phaseEndTime", "2025-01-01T12:00:30",
+                        "alivePlayerIds", List.of("u1", "u2", "u3", "u4", "u5", "u6")));
+    }
+
+    private static Map<String, Object> chat() {
+        ChatMessageDto message = ChatMessageDto.builder()
+                .id(1024L)
+                .contextId("g1")
+                .userId("u3")
+                .nickname("player3")
+                .chatType(ChatType.GAME_ALL)
+                .message("I think u5 is the mafia, vote for them")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 12, 0, 15))
+                .build();
+        return Map.of(
+                "channel", SubscriptionChannel.gameChat("g1", ChatType.GAME_ALL).getName(),
+                "type", WebSocketMessageType.CHAT.name(),
+                "data", message);
+    }
+
+    private static Map<String, Object> roomUpdate() {
+        List<RoomMemberResponse> members = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            members.add(new RoomMemberResponse("u" + i, "player" + i,
+                    i == 1 ? ParticipatingRole.HOST : ParticipatingRole.PARTICIPANT));
+        }
+        return Map.of(
+                "channel", SubscriptionChannel.room("r1").getName(),
+                "type", WebSocketMessageType.ROOM_UPDATE.name(),
+                "data", new RoomDetailResponse("r1", "Friday night mafia", members, 8, 8));
+    }
+}
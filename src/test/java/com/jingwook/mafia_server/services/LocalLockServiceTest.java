@@ -0,0 +1,62 @@
+package com.jingwook.mafia_server.services;
+
+import com.jingwook.mafia_server.exceptions.LockNotAcquiredException;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalLockServiceTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final LocalLockService lockService = new LocalLockService(
+            new InMemoryLocks(Duration.ofSeconds(10), Duration.ofMillis(1), 2, now::get));
+
+    @Test
+    void acquireLock_다른_토큰이_보유_중이면_재시도_후_실패한다() {
+        // given
+        String token = lockService.acquireLock("game:g1:lock").block();
+
+        // when & then
+        assertNotNull(token);
+        StepVerifier.create(lockService.acquireLock("game:g1:lock"))
+                .expectErrorMatches(error -> error.getCause() instanceof LockNotAcquiredException
+                        || error instanceof LockNotAcquiredException)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void acquireLock_TTL이_지난_락은_새_토큰이_가져간다() {
+        // given
+        String expired = lockService.acquireLock("game:g1:lock").block();
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+
+        // when
+        String token = lockService.acquireLock("game:g1:lock").block();
+
+        // then
+        assertNotNull(token);
+        assertNotEquals(expired, token);
+    }
+
+    @Test
+    void releaseLock_만료된_토큰으로는_새_보유자의_락을_풀지_못한다() {
+        // given
+        String expired = lockService.acquireLock("game:g1:lock").block();
+        now.addAndGet(Duration.ofSeconds(11).toMillis());
+        String current = lockService.acquireLock("game:g1:lock").block();
+
+        // when
+        lockService.releaseLock("game:g1:lock", expired).block();
+
+        // then
+        StepVerifier.create(lockService.acquireLock("game:g1:lock"))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+        lockService.releaseLock("game:g1:lock", current).block();
+        assertNotNull(lockService.acquireLock("game:g1:lock").block());
+    }
+}
@@ -0,0 +1,82 @@
+package com.jingwook.mafia_server.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalVoteCacheServiceTest {
+
+    private final LocalVoteCacheService voteCacheService = new LocalVoteCacheService();
+
+    @Test
+    void vote_투표를_바꾸면_이전_대상의_카운트가_줄어든다() {
+        // given
+        voteCacheService.vote("g1", 1, "u1", "u3").block();
+        voteCacheService.vote("g1", 1, "u2", "u3").block();
+
+        // when
+        voteCacheService.vote("g1", 1, "u1", "u4").block();
+
+        // then
+        assertEquals(Map.of("u3", 1L, "u4", 1L), voteCacheService.getVoteCounts("g1", 1).block());
+        assertEquals(Map.of("u1", "u4", "u2", "u3"), voteCacheService.getAllVotes("g1", 1).block());
+    }
+
+    @Test
+    void cancelVote_취소하면_대상의_카운트가_줄어든다() {
+        // given
+        voteCacheService.vote("g1", 1, "u1", "u3").block();
+        voteCacheService.vote("g1", 1, "u2", "u3").block();
+
+        // when
+        voteCacheService.cancelVote("g1", 1, "u1").block();
+
+        // then
+        assertEquals(Map.of("u3", 1L), voteCacheService.getVoteCounts("g1", 1).block());
+        assertEquals(Map.of("u2", "u3"), voteCacheService.getAllVotes("g1", 1).block());
+    }
+
+    @Test
+    void clearVotes_일차별로_따로_관리하고_해당_일차만_지운다() {
+        // given
+        voteCacheService.vote("g1", 1, "u1", "u3").block();
+        voteCacheService.vote("g1", 2, "u1", "u2").block();
+
+        // when
+        voteCacheService.clearVotes("g1", 1).block();
+
+        // then
+        assertTrue(voteCacheService.getVoteCounts("g1", 1).block().isEmpty());
+        assertEquals(Map.of("u2", 1L), voteCacheService.getVoteCounts("g1", 2).block());
+    }
+
+    @Test
+    void vote_동시에_투표를_바꿔도_카운트_합계가_투표자_수와_같다() throws Exception {
+        // given
+        int voters = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[voters * 10];
+        for (int i = 0; i < futures.length; i++) {
+            String voter = "v" + (i % voters);
+            String target = "t" + (i % 3);
+            futures[i] = CompletableFuture.runAsync(() -> voteCacheService.vote("g1", 1, voter, target).block(), executor);
+        }
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        long total = voteCacheService.getVoteCounts("g1", 1).block().values().stream()
+                .mapToLong(count -> (Long) count)
+                .sum();
+        assertEquals(voters, total);
+        assertEquals(voters, voteCacheService.getAllVotes("g1", 1).block().size());
+    }
+}
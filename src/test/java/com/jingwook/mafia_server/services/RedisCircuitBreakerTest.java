@@ -0,0 +1,150 @@
+package com.jingwook.mafia_server.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RedisCircuitBreakerTest {
+
+    private RedisCircuitBreaker circuitBreaker;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(
+                mock(ReactiveRedisTemplate.class),
+                new SimpleMeterRegistry(),
+                2,
+                200,
+                1000
+        );
+    }
+
+    @Test
+    void execute_연속_실패가_임계치에_도달하면_서킷이_열린다() {
+        // given
+        Mono<String> failing = Mono.error(new IllegalStateException("redis down"));
+
+        // when
+        StepVerifier.create(circuitBreaker.execute(failing, () -> Mono.just("fallback")))
+                .expectNext("fallback")
+                .verifyComplete();
+        StepVerifier.create(circuitBreaker.execute(failing, () -> Mono.just("fallback")))
+                .expectNext("fallback")
+                .verifyComplete();
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isOpen());
+    }
+
+    @Test
+    void execute_서킷이_열려_있으면_Redis_호출을_구독하지_않는다() {
+        // given
+        openCircuit();
+        AtomicBoolean subscribed = new AtomicBoolean(false);
+        Mono<String> call = Mono.fromCallable(() -> {
+            subscribed.set(true);
+            return "redis";
+        });
+
+        // when
+        StepVerifier.create(circuitBreaker.execute(call, () -> Mono.just("fallback")))
+                .expectNext("fallback")
+                .verifyComplete();
+
+        // then
+        assertFalse(subscribed.get());
+    }
+
+    @Test
+    void execute_open_duration_이후_probe가_성공하면_서킷이_닫힌다() throws InterruptedException {
+        // given
+        openCircuit();
+        Thread.sleep(250);
+
+        // when
+        StepVerifier.create(circuitBreaker.execute(Mono.just("redis"), () -> Mono.just("fallback")))
+                .expectNext("redis")
+                .verifyComplete();
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        StepVerifier.create(circuitBreaker.awaitClosed()).verifyComplete();
+    }
+
+    @Test
+    void execute_probe가_실패하면_다시_열린다() throws InterruptedException {
+        // given
+        openCircuit();
+        Thread.sleep(250);
+
+        // when
+        StepVerifier.create(circuitBreaker.execute(Mono.<String>error(new IllegalStateException("still down")),
+                        () -> Mono.just("fallback")))
+                .expectNext("fallback")
+                .verifyComplete();
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void awaitClosed_열린_동안_기다리던_구독은_여러_스레드가_동시에_전이해도_완료된다() throws Exception {
+        // given
+        openCircuit();
+        CompletableFuture<Void> closed = circuitBreaker.awaitClosed().toFuture();
+        Thread.sleep(250);
+
+        // when: probe 성공과 실패가 동시에 들어옴
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 64; i++) {
+            Mono<String> call = i % 2 == 0 ? Mono.just("redis") : Mono.error(new IllegalStateException("flaky"));
+            executor.execute(() -> {
+                awaitQuietly(start);
+                circuitBreaker.execute(call, Mono::empty).block();
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        while (circuitBreaker.getState() != RedisCircuitBreaker.State.CLOSED) {
+            Thread.sleep(250);
+            circuitBreaker.execute(Mono.just("redis"), Mono::empty).block();
+        }
+
+        // then
+        closed.get(1, TimeUnit.SECONDS);
+        StepVerifier.create(circuitBreaker.awaitClosed()).verifyComplete();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.execute(Mono.<String>error(new IllegalStateException("redis down")), Mono::empty)
+                    .block();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jingwook.mafia_server.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+
+import com.jingwook.mafia_server.exceptions.LockNotAcquiredException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisLockServiceTest {
+
+    private ReactiveValueOperations<String, Object> valueOperations;
+    private RedisCircuitBreaker circuitBreaker;
+    private RedisLockService lockService;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        ReactiveRedisTemplate<String, Object> redisTemplate = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        circuitBreaker = new RedisCircuitBreaker(redisTemplate, new SimpleMeterRegistry(), 1, 60_000, 1_000);
+        lockService = new RedisLockService(redisTemplate, circuitBreaker);
+    }
+
+    @Test
+    void acquireLock_Redis_오류면_로컬_락_없이_획득에_실패한다() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+                .thenReturn(Mono.error(new IllegalStateException("redis down")));
+
+        // when & then
+        StepVerifier.create(lockService.acquireLock("phase:transition:g1"))
+                .expectError(LockNotAcquiredException.class)
+                .verify();
+    }
+
+    @Test
+    void acquireLock_서킷이_열려_있으면_Redis_호출_없이_획득에_실패한다() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+                .thenReturn(Mono.error(new IllegalStateException("redis down")));
+        StepVerifier.create(lockService.acquireLock("phase:transition:g1"))
+                .expectError(LockNotAcquiredException.class)
+                .verify();
+        clearInvocations(valueOperations);
+
+        // when & then
+        StepVerifier.create(lockService.acquireLock("phase:transition:g1"))
+                .expectError(LockNotAcquiredException.class)
+                .verify();
+        verifyNoInteractions(valueOperations);
+    }
+}